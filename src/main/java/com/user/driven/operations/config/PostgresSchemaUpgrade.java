@@ -0,0 +1,113 @@
+package com.user.driven.operations.config;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Brings existing PostgreSQL databases up to date with changes that
+ * {@code spring.jpa.hibernate.ddl-auto=update} cannot apply on its own.
+ * <p>
+ * Runs once at startup, after Hibernate has updated the schema and before
+ * requests are served. Every step is idempotent, so it is safe to run on every
+ * start and on several instances at once. Disabled with
+ * {@code app.schema.upgrade.enabled=false}; other databases are left alone.
+ * </p>
+ * <ul>
+ * <li>IDs moved from identity columns to pooled sequences. Sequences created
+ * next to existing rows start at 1, so each is advanced past the highest ID of
+ * its table.</li>
+ * <li>Entity names used to be unique across all projects and are now unique
+ * per project. The old single-column unique constraint on
+ * {@code entity_definitions.name}, whose name Hibernate generated, is
+ * dropped.</li>
+ * </ul>
+ *
+ * @author Jatin Raheja
+ */
+@Component
+public class PostgresSchemaUpgrade {
+
+	private static final Logger log = LoggerFactory.getLogger(PostgresSchemaUpgrade.class);
+
+	/**
+	 * Tables with the sequences their IDs are allocated from.
+	 */
+	private static final String[][] ID_SEQUENCES = { { "project_definitions", "project_definitions_seq" },
+			{ "entity_definitions", "entity_definitions_seq" }, { "field_definitions", "field_definitions_seq" },
+			{ "operation_configs", "operation_configs_seq" } };
+
+	/**
+	 * Moves a sequence to the highest ID of its table unless it is already past
+	 * it. The pooled optimizer then allocates the block above that value.
+	 */
+	private static final String ADVANCE_SEQUENCE = "SELECT setval('%2$s', max_id) FROM "
+			+ "(SELECT MAX(id) AS max_id FROM %1$s) ids WHERE max_id >= (SELECT last_value FROM %2$s)";
+
+	/**
+	 * Unique constraints of {@code entity_definitions} covering exactly its
+	 * {@code name} column.
+	 */
+	private static final String GLOBAL_ENTITY_NAME_CONSTRAINTS = "SELECT c.conname FROM pg_constraint c "
+			+ "JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attname = 'name' "
+			+ "WHERE c.conrelid = 'entity_definitions'::regclass AND c.contype = 'u' "
+			+ "AND c.conkey = ARRAY[a.attnum]";
+
+	@Autowired
+	private DataSource dataSource;
+
+	/**
+	 * Only injected so that Hibernate has updated the schema before the upgrade
+	 * runs.
+	 */
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Value("${app.schema.upgrade.enabled:true}")
+	private boolean enabled;
+
+	/**
+	 * Applies the upgrade steps to a PostgreSQL database.
+	 */
+	@PostConstruct
+	void upgrade() {
+		if (!enabled || !isPostgres()) {
+			return;
+		}
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		for (String[] idSequence : ID_SEQUENCES) {
+			Long advancedTo = jdbcTemplate
+					.query(String.format(ADVANCE_SEQUENCE, idSequence[0], idSequence[1]), (rs, row) -> rs.getLong(1))
+					.stream().findFirst().orElse(null);
+			if (advancedTo != null) {
+				log.info("Advanced sequence {} past the IDs of {} to {}", idSequence[1], idSequence[0], advancedTo);
+			}
+		}
+
+		for (String constraint : jdbcTemplate.queryForList(GLOBAL_ENTITY_NAME_CONSTRAINTS, String.class)) {
+			jdbcTemplate.execute("ALTER TABLE entity_definitions DROP CONSTRAINT IF EXISTS \"" + constraint + "\"");
+			log.info("Dropped the global unique constraint {} on entity names", constraint);
+		}
+	}
+
+	private boolean isPostgres() {
+		try {
+			String product = JdbcUtils.extractDatabaseMetaData(dataSource,
+					metaData -> metaData.getDatabaseProductName());
+			return "PostgreSQL".equals(product);
+		} catch (MetaDataAccessException e) {
+			log.warn("Could not determine the database product; skipping the schema upgrade", e);
+			return false;
+		}
+	}
+}
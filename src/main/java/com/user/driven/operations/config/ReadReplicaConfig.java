@@ -0,0 +1,99 @@
+package com.user.driven.operations.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration class for routing read-only transactions to a read replica.
+ * <p>
+ * Replaces the auto-configured data source with two Hikari pools, {@code primary}
+ * (from {@code spring.datasource}) and {@code replica} (from
+ * {@code app.datasource.replica}), behind a {@link LazyConnectionDataSourceProxy}.
+ * The proxy defers fetching a physical connection until the first statement,
+ * by which time a {@code @Transactional(readOnly = true)} transaction has
+ * marked the connection read-only; such connections come from the replica
+ * while the {@link ReplicaLagMonitor} allows it, all others from the primary.
+ * Reads that must see the latest commit, such as cache fills and version
+ * checks, are pinned to the primary with
+ * {@link com.user.driven.operations.utils.PrimaryReads}.
+ * </p>
+ * <p>
+ * Metrics: {@code hikaricp.*} per pool, {@code datasource.reads} per pool, and
+ * {@code datasource.replica.lag} and {@code datasource.replica.usable}.
+ * Enabled with {@code app.datasource.replica.enabled=true}.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+	@Bean(defaultCandidate = false)
+	@ConfigurationProperties("app.datasource.replica")
+	public DataSourceProperties replicaDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+
+	@Bean(defaultCandidate = false)
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties, MeterRegistry meterRegistry) {
+		return pool(properties, "primary", meterRegistry);
+	}
+
+	@Bean(defaultCandidate = false)
+	@ConfigurationProperties("app.datasource.replica.hikari")
+	public HikariDataSource replicaDataSource(
+			@Qualifier("replicaDataSourceProperties") DataSourceProperties properties, MeterRegistry meterRegistry) {
+		return pool(properties, "replica", meterRegistry);
+	}
+
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+			@Value("${app.datasource.replica.lag-query}") String lagQuery,
+			@Value("${app.datasource.replica.max-lag-seconds:5}") double maxLagSeconds, MeterRegistry meterRegistry) {
+		ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, lagQuery, maxLagSeconds);
+		Gauge.builder("datasource.replica.lag", monitor, ReplicaLagMonitor::getLagSeconds)
+				.description("Last measured replication lag of the read replica").baseUnit("seconds")
+				.register(meterRegistry);
+		Gauge.builder("datasource.replica.usable", monitor, m -> m.isUsable() ? 1 : 0)
+				.description("Whether read-only transactions are routed to the read replica").register(meterRegistry);
+		return monitor;
+	}
+
+	/**
+	 * The application data source, routing read-only connections to the replica.
+	 */
+	@Bean
+	@Primary
+	public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+			@Qualifier("replicaDataSource") DataSource replica, ReplicaLagMonitor replicaLagMonitor,
+			MeterRegistry meterRegistry) {
+		LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+		routing.setReadOnlyDataSource(
+				new ReplicaFallbackDataSource(primary, replica, replicaLagMonitor, meterRegistry));
+		return routing;
+	}
+
+	private static HikariDataSource pool(DataSourceProperties properties, String name, MeterRegistry meterRegistry) {
+		HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		pool.setPoolName(name);
+		pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+		return pool;
+	}
+}
@@ -0,0 +1,82 @@
+package com.user.driven.operations.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import com.user.driven.operations.utils.PrimaryReads;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Data source for read-only transactions that hands out replica connections
+ * while the {@link ReplicaLagMonitor} considers the replica usable, and primary
+ * connections otherwise. Reads pinned with {@link PrimaryReads} always get a
+ * primary connection, since the replica may not have caught up with the latest
+ * commit yet.
+ * <p>
+ * A failed replica connection attempt marks the replica unusable and is
+ * retried once on the primary. Every connection is counted in the
+ * {@code datasource.reads} metric, tagged with the pool it came from.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+public class ReplicaFallbackDataSource extends AbstractDataSource {
+
+	private final DataSource primary;
+
+	private final DataSource replica;
+
+	private final ReplicaLagMonitor monitor;
+
+	private final Counter primaryReads;
+
+	private final Counter replicaReads;
+
+	/**
+	 * @param primary       the primary pool
+	 * @param replica       the replica pool
+	 * @param monitor       decides whether the replica may be used
+	 * @param meterRegistry the registry of the read counters
+	 */
+	public ReplicaFallbackDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor monitor,
+			MeterRegistry meterRegistry) {
+		this.primary = primary;
+		this.replica = replica;
+		this.monitor = monitor;
+		this.primaryReads = readCounter("primary", meterRegistry);
+		this.replicaReads = readCounter("replica", meterRegistry);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if (!PrimaryReads.isPinned() && monitor.isUsable()) {
+			try {
+				Connection connection = replica.getConnection();
+				replicaReads.increment();
+				return connection;
+			} catch (SQLException e) {
+				monitor.markUnusable(e.getMessage());
+			}
+		}
+		primaryReads.increment();
+		return primary.getConnection();
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		// Connections for other credentials are not pooled for the replica
+		primaryReads.increment();
+		return primary.getConnection(username, password);
+	}
+
+	private static Counter readCounter(String pool, MeterRegistry meterRegistry) {
+		return Counter.builder("datasource.reads").description("Connections handed out to read-only transactions")
+				.tag("pool", pool).register(meterRegistry);
+	}
+}
@@ -0,0 +1,97 @@
+package com.user.driven.operations.config;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Periodically measures the replication lag of the read replica and decides
+ * whether read-only transactions may use it.
+ * <p>
+ * The replica is considered usable while its lag is at most the configured
+ * maximum. It starts out unusable until the first successful check, and is
+ * marked unusable when the lag query or a connection attempt fails, so reads
+ * fall back to the primary rather than seeing stale or no data.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+public class ReplicaLagMonitor {
+
+	private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+	private final JdbcTemplate replica;
+
+	private final String lagQuery;
+
+	private final double maxLagSeconds;
+
+	private volatile boolean usable;
+
+	private volatile double lagSeconds = Double.NaN;
+
+	/**
+	 * @param replica       the replica pool
+	 * @param lagQuery      a query returning the replica lag in seconds
+	 * @param maxLagSeconds the largest lag at which the replica is still used
+	 */
+	public ReplicaLagMonitor(DataSource replica, String lagQuery, double maxLagSeconds) {
+		this.replica = new JdbcTemplate(replica);
+		this.lagQuery = lagQuery;
+		this.maxLagSeconds = maxLagSeconds;
+	}
+
+	/**
+	 * Measures the replica lag and updates whether the replica is usable.
+	 */
+	@Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:5000}")
+	public void check() {
+		try {
+			Double lag = replica.queryForObject(lagQuery, Double.class);
+			lagSeconds = lag != null ? lag : 0;
+			setUsable(lagSeconds <= maxLagSeconds, "lag " + lagSeconds + "s");
+		} catch (DataAccessException e) {
+			lagSeconds = Double.NaN;
+			setUsable(false, e.getMessage());
+		}
+	}
+
+	/**
+	 * Marks the replica unusable until the next successful check, e.g. after a
+	 * failed connection attempt.
+	 *
+	 * @param reason why the replica is unusable
+	 */
+	public void markUnusable(String reason) {
+		setUsable(false, reason);
+	}
+
+	/**
+	 * @return true if read-only transactions may use the replica
+	 */
+	public boolean isUsable() {
+		return usable;
+	}
+
+	/**
+	 * @return the last measured replica lag in seconds, or NaN if unknown
+	 */
+	public double getLagSeconds() {
+		return lagSeconds;
+	}
+
+	private void setUsable(boolean usable, String reason) {
+		if (this.usable != usable) {
+			if (usable) {
+				log.info("Read replica usable again ({}), routing read-only transactions to it", reason);
+			} else {
+				log.warn("Read replica unusable ({}), routing read-only transactions to the primary", reason);
+			}
+		}
+		this.usable = usable;
+	}
+}
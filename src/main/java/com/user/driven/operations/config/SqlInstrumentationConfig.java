@@ -0,0 +1,41 @@
+package com.user.driven.operations.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.user.driven.operations.utils.InstrumentedDataSource;
+
+/**
+ * Configuration class for SQL statement instrumentation.
+ * <p>
+ * Wraps the application data source in an {@link InstrumentedDataSource}, so
+ * the statements of every HTTP request and generation job are counted and
+ * timed. Disabled with {@code app.sql.instrumentation.enabled=false}.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlInstrumentationConfig {
+
+	@Bean
+	public static BeanPostProcessor instrumentedDataSourcePostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				// Delegating data sources, such as the read replica routing proxy, hand
+				// out connections of pools that are instrumented themselves.
+				if (bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)) {
+					return new InstrumentedDataSource(dataSource);
+				}
+				return bean;
+			}
+		};
+	}
+}
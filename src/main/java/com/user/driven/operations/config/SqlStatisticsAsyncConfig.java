@@ -0,0 +1,57 @@
+package com.user.driven.operations.config;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.user.driven.operations.utils.SqlStatistics;
+
+/**
+ * Configuration class that extends the {@link SqlStatistics} of a request to
+ * its asynchronous part.
+ * <p>
+ * Streamed response bodies, such as exports and downloads, are written on an
+ * async executor thread after the request thread has left
+ * {@link SqlStatisticsFilter}. While such a body runs, a scope nested in the
+ * request scope is open on that thread, so its statements count towards the
+ * request.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatisticsAsyncConfig implements WebMvcConfigurer {
+
+	@Override
+	public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+		configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+
+			@Override
+			public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+				if (requestStatistics(request) instanceof SqlStatistics statistics) {
+					SqlStatistics.openWithin(SqlStatisticsFilter.SCOPE, statistics);
+				}
+			}
+
+			@Override
+			public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+				// Runs on the thread of preProcess, once the body is written.
+				SqlStatistics current = SqlStatistics.current();
+				if (current != null && requestStatistics(request) != null) {
+					current.close();
+				}
+			}
+		});
+	}
+
+	private static Object requestStatistics(NativeWebRequest request) {
+		return request.getAttribute(SqlStatisticsFilter.STATISTICS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+	}
+}
@@ -0,0 +1,91 @@
+package com.user.driven.operations.config;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.user.driven.operations.utils.AppConstants;
+import com.user.driven.operations.utils.SqlStatistics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Collects the {@link SqlStatistics} of every HTTP request and reports them as
+ * metrics. Unless disabled (as in the {@code prod} profile), the statistics
+ * are also returned in the {@value AppConstants#sqlStatisticsHeader} response
+ * header when the response is not committed yet; responses with a body get it
+ * from {@link SqlStatisticsHeaderAdvice}.
+ * <p>
+ * A streamed response body is written on another thread after the request
+ * thread has returned. Its statements are added to the request scope by
+ * {@link SqlStatisticsAsyncConfig}, and the request is reported once the
+ * body is written, on the async dispatch that completes the request.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+@Component
+@ConditionalOnProperty(name = "app.sql.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+	static final String SCOPE = "http";
+
+	/**
+	 * Request attribute holding the statistics of the request.
+	 */
+	static final String STATISTICS_ATTRIBUTE = SqlStatisticsFilter.class.getName() + ".STATISTICS";
+
+	@Autowired
+	private SqlStatisticsReporter reporter;
+
+	@Value("${app.sql.instrumentation.response-header-enabled:true}")
+	private boolean responseHeaderEnabled;
+
+	@Override
+	protected boolean shouldNotFilterAsyncDispatch() {
+		return false;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		if (isAsyncDispatch(request)) {
+			try {
+				filterChain.doFilter(request, response);
+			} finally {
+				if (request.getAttribute(STATISTICS_ATTRIBUTE) instanceof SqlStatistics statistics) {
+					report(request, statistics);
+				}
+			}
+			return;
+		}
+
+		try (SqlStatistics statistics = SqlStatistics.open(SCOPE)) {
+			// Set before the handler runs: an async body may start before it returns.
+			request.setAttribute(STATISTICS_ATTRIBUTE, statistics);
+			try {
+				filterChain.doFilter(request, response);
+			} finally {
+				if (!request.isAsyncStarted()) {
+					if (responseHeaderEnabled && !response.isCommitted()) {
+						response.setHeader(AppConstants.sqlStatisticsHeader, reporter.headerValue(statistics));
+					}
+					report(request, statistics);
+				}
+			}
+		}
+	}
+
+	private void report(HttpServletRequest request, SqlStatistics statistics) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		reporter.report(statistics, pattern != null ? pattern.toString() : "UNKNOWN");
+	}
+}
@@ -0,0 +1,49 @@
+package com.user.driven.operations.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.user.driven.operations.utils.AppConstants;
+import com.user.driven.operations.utils.SqlStatistics;
+
+/**
+ * Adds the {@value AppConstants#sqlStatisticsHeader} header to responses with a
+ * body just before the body is written, while headers can still be set. The
+ * statistics cover the work done up to that point.
+ *
+ * @author Jatin Raheja
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "app.sql.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatisticsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+	@Autowired
+	private SqlStatisticsReporter reporter;
+
+	@Value("${app.sql.instrumentation.response-header-enabled:true}")
+	private boolean responseHeaderEnabled;
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return responseHeaderEnabled;
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+		SqlStatistics statistics = SqlStatistics.current();
+		if (statistics != null) {
+			response.getHeaders().set(AppConstants.sqlStatisticsHeader, reporter.headerValue(statistics));
+		}
+		return body;
+	}
+}
@@ -0,0 +1,79 @@
+package com.user.driven.operations.config;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.user.driven.operations.utils.SqlStatistics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Publishes the {@link SqlStatistics} of finished scopes as metrics and logs
+ * statement shapes that were executed suspiciously often.
+ * <p>
+ * Metrics, tagged by scope and, for HTTP requests, by URI template:
+ * <ul>
+ * <li>{@code sql.statements}: statements per scope</li>
+ * <li>{@code sql.time}: JDBC execution time per scope</li>
+ * <li>{@code sql.repeated}: scopes that repeated a statement shape at least
+ * {@code app.sql.instrumentation.repeat-threshold} times</li>
+ * </ul>
+ *
+ * @author Jatin Raheja
+ */
+@Component
+public class SqlStatisticsReporter {
+
+	private static final Logger log = LoggerFactory.getLogger(SqlStatisticsReporter.class);
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Value("${app.sql.instrumentation.repeat-threshold:5}")
+	private long repeatThreshold;
+
+	/**
+	 * Publishes the statistics of a closed scope.
+	 *
+	 * @param statistics the statistics of the scope
+	 * @param target     what the scope worked on, e.g. the URI template of a
+	 *                   request
+	 */
+	public void report(SqlStatistics statistics, String target) {
+		String scope = statistics.getScope();
+		DistributionSummary.builder("sql.statements").description("JDBC statements executed per unit of work")
+				.tag("scope", scope).tag("target", target).register(meterRegistry)
+				.record(statistics.getStatementCount());
+		Timer.builder("sql.time").description("JDBC execution time per unit of work").tag("scope", scope)
+				.tag("target", target).register(meterRegistry)
+				.record(statistics.getJdbcTimeNanos(), TimeUnit.NANOSECONDS);
+
+		Map<String, Long> repeated = statistics.getRepeatedShapes(repeatThreshold);
+		if (!repeated.isEmpty()) {
+			Counter.builder("sql.repeated").description("Units of work repeating a statement shape")
+					.tag("scope", scope).tag("target", target).register(meterRegistry).increment();
+			repeated.forEach((shape, count) -> log.warn("Possible N+1 in {} {}: {} executions of {}", scope, target,
+					count, shape));
+		}
+	}
+
+	/**
+	 * Formats the statistics of a scope for the statistics response header.
+	 *
+	 * @param statistics the statistics of the scope
+	 * @return the header value
+	 */
+	public String headerValue(SqlStatistics statistics) {
+		return String.format("statements=%d, time-ms=%.1f, max-repeats=%d", statistics.getStatementCount(),
+				statistics.getJdbcTimeNanos() / 1_000_000.0, statistics.getMaxRepeats());
+	}
+}
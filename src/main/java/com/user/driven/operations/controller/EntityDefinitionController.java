@@ -3,21 +3,34 @@ package com.user.driven.operations.controller;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.user.driven.operations.dto.BatchItemResultDto;
+import com.user.driven.operations.dto.CursorPageDto;
+import com.user.driven.operations.dto.EntityChangeSetDto;
 import com.user.driven.operations.dto.EntityDefinitionDto;
+import com.user.driven.operations.dto.EntitySummaryDto;
 import com.user.driven.operations.entities.EntityDefinition;
+import com.user.driven.operations.enums.SummarySort;
 import com.user.driven.operations.service.EntityDefinitionService;
 import com.user.driven.operations.utils.AppConstants;
+import com.user.driven.operations.utils.ETagUtils;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -54,16 +67,30 @@ public class EntityDefinitionController {
 	}
 
 	/**
-	 * Retrieves all entities for a specific project.
+	 * Retrieves one page of entity summaries for a specific project. Pages are
+	 * chained through the {@code nextCursor} of the previous page.
 	 *
 	 * @param projectId the ID of the project
-	 * @return list of entity definitions
+	 * @param name      optional case-insensitive filter on the entity name
+	 * @param sort      the sort key
+	 * @param direction the sort direction
+	 * @param cursor    the cursor of the previous page, omitted for the first page
+	 * @param limit     the page size, capped by the configured maximum
+	 * @return the page of entity summaries, or 400 if the cursor or limit is
+	 *         invalid
 	 */
 	@GetMapping
-	@Operation(summary = "Get all entities for a project")
-	public ResponseEntity<List<EntityDefinition>> getEntitiesByProject(@PathVariable Long projectId) {
-		List<EntityDefinition> entities = entityService.getEntitiesByProjectId(projectId);
-		return ResponseEntity.ok(entities);
+	@Operation(summary = "List entities of a project")
+	public ResponseEntity<CursorPageDto<EntitySummaryDto>> getEntitiesByProject(@PathVariable Long projectId,
+			@RequestParam(required = false) String name, @RequestParam(defaultValue = "ID") SummarySort sort,
+			@RequestParam(defaultValue = "ASC") Sort.Direction direction,
+			@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) {
+		try {
+			return ResponseEntity
+					.ok(entityService.getEntitySummaries(projectId, name, sort, direction, cursor, limit));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		}
 	}
 
 	/**
@@ -95,38 +122,156 @@ public class EntityDefinitionController {
 	}
 
 	/**
-	 * Updates an existing entity.
+	 * Updates an existing entity. With an {@code If-Match} header carrying the
+	 * project's ETag, the update is only applied if the project is still at that
+	 * version.
 	 *
 	 * @param projectId the ID of the project
 	 * @param id        the ID of the entity
 	 * @param entityDto the updated entity data
-	 * @return the updated entity, or 404 if not found
+	 * @param ifMatch   the ETag of the project version the client last saw,
+	 *                  optional
+	 * @return the updated entity, 400 if the {@code If-Match} header is
+	 *         malformed, 412 if the project has changed, or 404 if not found
 	 */
 	@PutMapping(AppConstants.Id)
 	@Operation(summary = "Update entity")
 	public ResponseEntity<EntityDefinition> updateEntity(@PathVariable Long projectId, @PathVariable Long id,
-			@Valid @RequestBody EntityDefinitionDto entityDto) {
+			@Valid @RequestBody EntityDefinitionDto entityDto,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		Long expectedVersion;
 		try {
-			EntityDefinition updatedEntity = entityService.updateEntity(id, entityDto);
+			expectedVersion = ETagUtils.parseIfMatch(ifMatch);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		} catch (OptimisticLockingFailureException e) {
+			return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+		}
+
+		try {
+			EntityDefinition updatedEntity = entityService.updateEntity(id, entityDto, expectedVersion);
 			return ResponseEntity.ok(updatedEntity);
+		} catch (OptimisticLockingFailureException e) {
+			return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+		} catch (RuntimeException e) {
+			return ResponseEntity.notFound().build();
+		}
+	}
+
+	/**
+	 * Creates or merges many entities of a project with their fields and
+	 * operations in one transaction. Entities are matched by name. With an
+	 * {@code If-Match} header carrying the project's ETag, the batch is only
+	 * applied if the project is still at that version.
+	 *
+	 * @param projectId  the ID of the project
+	 * @param entityDtos the entities to create or merge
+	 * @param ifMatch    the ETag of the project version the client last saw,
+	 *                   optional
+	 * @return one result per item, with invalid items reported as failed, 400 if
+	 *         the {@code If-Match} header or the request is malformed, 412 if the
+	 *         project has changed, 409 if a concurrent write created a
+	 *         conflicting entity, or 404 if the project does not exist
+	 */
+	@PostMapping(AppConstants.batchEntities)
+	@Operation(summary = "Create or merge entities in bulk")
+	public ResponseEntity<List<BatchItemResultDto>> upsertEntities(@PathVariable Long projectId,
+			@RequestBody List<EntityDefinitionDto> entityDtos,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		Long expectedVersion;
+		try {
+			expectedVersion = ETagUtils.parseIfMatch(ifMatch);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		} catch (OptimisticLockingFailureException e) {
+			return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+		}
+
+		try {
+			return ResponseEntity.ok(entityService.upsertEntities(projectId, entityDtos, expectedVersion));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		} catch (OptimisticLockingFailureException e) {
+			return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+		} catch (DataIntegrityViolationException e) {
+			return ResponseEntity.status(HttpStatus.CONFLICT).build();
 		} catch (RuntimeException e) {
 			return ResponseEntity.notFound().build();
 		}
 	}
 
 	/**
-	 * Deletes an entity by its ID.
+	 * Merges an entity with its fields and operations, writing only the rows that
+	 * differ. Fields are matched by name and operations by type; an omitted list
+	 * leaves that collection unchanged. With an {@code If-Match} header carrying
+	 * the project's ETag, the merge is only applied if the project is still at
+	 * that version.
 	 *
 	 * @param projectId the ID of the project
 	 * @param id        the ID of the entity
-	 * @return no content response if successful, 404 if not found
+	 * @param entityDto the desired entity state
+	 * @param ifMatch   the ETag of the project version the client last saw,
+	 *                  optional
+	 * @return the added, updated and removed rows, 400 if fields or operations
+	 *         are duplicated or the {@code If-Match} header is malformed, 412 if
+	 *         the project has changed, or 404 if not found
+	 */
+	@PatchMapping(AppConstants.Id)
+	@Operation(summary = "Merge entity fields and operations")
+	public ResponseEntity<EntityChangeSetDto> mergeEntity(@PathVariable Long projectId, @PathVariable Long id,
+			@Valid @RequestBody EntityDefinitionDto entityDto,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		Long expectedVersion;
+		try {
+			expectedVersion = ETagUtils.parseIfMatch(ifMatch);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		} catch (OptimisticLockingFailureException e) {
+			return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+		}
+
+		try {
+			return ResponseEntity.ok(entityService.mergeEntity(id, entityDto, expectedVersion));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		} catch (OptimisticLockingFailureException e) {
+			return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+		} catch (RuntimeException e) {
+			return ResponseEntity.notFound().build();
+		}
+	}
+
+	/**
+	 * Deletes an entity by its ID. With an {@code If-Match} header carrying the
+	 * project's ETag, the entity is only deleted if the project is still at that
+	 * version.
+	 *
+	 * @param projectId the ID of the project
+	 * @param id        the ID of the entity
+	 * @param ifMatch   the ETag of the project version the client last saw,
+	 *                  optional
+	 * @return no content response if successful, 400 if the {@code If-Match}
+	 *         header is malformed, 412 if the project has changed, 404 if not
+	 *         found
 	 */
 	@DeleteMapping(AppConstants.Id)
 	@Operation(summary = "Delete entity")
-	public ResponseEntity<Void> deleteEntity(@PathVariable Long projectId, @PathVariable Long id) {
+	public ResponseEntity<Void> deleteEntity(@PathVariable Long projectId, @PathVariable Long id,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		Long expectedVersion;
+		try {
+			expectedVersion = ETagUtils.parseIfMatch(ifMatch);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		} catch (OptimisticLockingFailureException e) {
+			return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+		}
+
 		try {
-			entityService.deleteEntity(id);
+			entityService.deleteEntity(id, expectedVersion);
 			return ResponseEntity.noContent().build();
+		} catch (OptimisticLockingFailureException e) {
+			return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
 		} catch (RuntimeException e) {
 			return ResponseEntity.notFound().build();
 		}
@@ -0,0 +1,99 @@
+package com.user.driven.operations.controller;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.user.driven.operations.dto.GenerationJobDto;
+import com.user.driven.operations.enums.GenerationJobStatus;
+import com.user.driven.operations.mapper.DtoMapper;
+import com.user.driven.operations.service.GenerationJob;
+import com.user.driven.operations.service.GenerationJobService;
+import com.user.driven.operations.utils.AppConstants;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controller for asynchronous project generation jobs.
+ * Provides RESTful endpoints to poll the status of a job and download its result.
+ * Jobs are submitted through the project endpoints.
+ *
+ * @author Jatin Raheja
+ */
+@RestController
+@RequestMapping(AppConstants.generationJobs)
+@Tag(name = "Generation Jobs", description = "APIs for asynchronous project generation")
+public class GenerationJobController {
+
+	@Autowired
+	private GenerationJobService jobService;
+
+	@Autowired
+	private DtoMapper dtoMapper;
+
+	/**
+	 * Retrieves the status and progress of a generation job.
+	 *
+	 * @param jobId the ID of the job
+	 * @return the job state, or 404 if the job does not exist or has expired
+	 */
+	@GetMapping(AppConstants.jobId)
+	@Operation(summary = "Get generation job status")
+	public ResponseEntity<GenerationJobDto> getJob(@PathVariable String jobId) {
+		return jobService.getJob(jobId).map(job -> ResponseEntity.ok(dtoMapper.toDto(job)))
+				.orElse(ResponseEntity.notFound().build());
+	}
+
+	/**
+	 * Downloads the ZIP archive produced by a generation job.
+	 *
+	 * @param jobId the ID of the job
+	 * @return the ZIP file, 409 if the job has not succeeded, 410 if its archive
+	 *         was evicted and the project has changed since, or 404 if the job
+	 *         does not exist or has expired
+	 */
+	@GetMapping(AppConstants.jobResult)
+	@Operation(summary = "Download the result of a generation job")
+	public ResponseEntity<StreamingResponseBody> getJobResult(@PathVariable String jobId) {
+		Optional<GenerationJob> jobOpt = jobService.getJob(jobId);
+		if (jobOpt.isEmpty()) {
+			return ResponseEntity.notFound().build();
+		}
+
+		GenerationJob job = jobOpt.get();
+		if (job.getStatus() != GenerationJobStatus.SUCCEEDED) {
+			return ResponseEntity.status(HttpStatus.CONFLICT).build();
+		}
+
+		if (!jobService.isResultAvailable(job)) {
+			return ResponseEntity.status(HttpStatus.GONE).build();
+		}
+
+		StreamingResponseBody body = outputStream -> jobService.writeResult(job, outputStream);
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(job.getResultETag())
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + job.getProjectName() + ".zip")
+				.contentType(MediaType.APPLICATION_OCTET_STREAM);
+		Optional<Path> resultFile = jobService.getResultFile(job);
+		if (resultFile.isPresent()) {
+			try {
+				response.contentLength(Files.size(resultFile.get()));
+			} catch (IOException e) {
+				// Evicted in the meantime; the archive is streamed without a length.
+			}
+		}
+		return response.body(body);
+	}
+}
@@ -1,10 +1,18 @@
 package com.user.driven.operations.controller;
 
 import java.io.IOException;
-import java.util.List;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -15,14 +23,33 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.user.driven.operations.dto.CursorPageDto;
+import com.user.driven.operations.dto.GenerationJobDto;
 import com.user.driven.operations.dto.ProjectDefinitionDto;
+import com.user.driven.operations.dto.ProjectImportDto;
+import com.user.driven.operations.dto.ProjectSummaryDto;
 import com.user.driven.operations.entities.ProjectDefinition;
+import com.user.driven.operations.enums.GenerationRejectionReason;
+import com.user.driven.operations.enums.SummarySort;
+import com.user.driven.operations.mapper.DtoMapper;
+import com.user.driven.operations.service.GeneratedArtifact;
+import com.user.driven.operations.service.GenerationJob;
+import com.user.driven.operations.service.GenerationJobService;
+import com.user.driven.operations.service.GenerationRejectedException;
 import com.user.driven.operations.service.ProjectDefinitionService;
+import com.user.driven.operations.service.ProjectExportService;
 import com.user.driven.operations.service.ProjectGenerationService;
+import com.user.driven.operations.service.ProjectImportService;
 import com.user.driven.operations.utils.AppConstants;
+import com.user.driven.operations.utils.ETagUtils;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -45,6 +72,18 @@ public class ProjectDefinitionController {
 	@Autowired
 	private ProjectGenerationService generationService;
 
+	@Autowired
+	private GenerationJobService jobService;
+
+	@Autowired
+	private ProjectImportService importService;
+
+	@Autowired
+	private ProjectExportService exportService;
+
+	@Autowired
+	private DtoMapper dtoMapper;
+
 	/**
 	 * Creates a new project.
 	 *
@@ -59,74 +98,199 @@ public class ProjectDefinitionController {
 	}
 
 	/**
-	 * Retrieves all projects.
+	 * Imports a large project definition, given as the JSON form of a project
+	 * with its entities, without materializing the whole document. The project
+	 * attributes must precede the {@code entities} array.
+	 *
+	 * @param json the request body
+	 * @return 201 with a summary of the import, 400 if the document is invalid,
+	 *         or 409 if the project name is taken
+	 */
+	@PostMapping(value = AppConstants.importProject, consumes = MediaType.APPLICATION_JSON_VALUE)
+	@Operation(summary = "Import a project definition as a JSON stream")
+	public ResponseEntity<ProjectImportDto> importProject(InputStream json) {
+		try {
+			ProjectImportDto result = importService.importProject(json);
+			return ResponseEntity.created(URI.create(AppConstants.projects + "/" + result.getProjectId()))
+					.body(result);
+		} catch (IllegalArgumentException | JsonProcessingException e) {
+			return ResponseEntity.badRequest().build();
+		} catch (DataIntegrityViolationException e) {
+			return ResponseEntity.status(HttpStatus.CONFLICT).build();
+		} catch (IOException e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+		}
+	}
+
+	/**
+	 * Retrieves one page of project summaries. Pages are chained through the
+	 * {@code nextCursor} of the previous page.
 	 *
-	 * @return list of all projects
+	 * @param name      optional case-insensitive filter on the project name
+	 * @param sort      the sort key
+	 * @param direction the sort direction
+	 * @param cursor    the cursor of the previous page, omitted for the first page
+	 * @param limit     the page size, capped by the configured maximum
+	 * @return the page of project summaries, or 400 if the cursor or limit is
+	 *         invalid
 	 */
 	@GetMapping
-	@Operation(summary = "Get all projects")
-	public ResponseEntity<List<ProjectDefinition>> getAllProjects() {
-		List<ProjectDefinition> projects = projectService.getAllProjects();
-		return ResponseEntity.ok(projects);
+	@Operation(summary = "List projects")
+	public ResponseEntity<CursorPageDto<ProjectSummaryDto>> getProjects(@RequestParam(required = false) String name,
+			@RequestParam(defaultValue = "ID") SummarySort sort,
+			@RequestParam(defaultValue = "ASC") Sort.Direction direction,
+			@RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) {
+		try {
+			return ResponseEntity.ok(projectService.getProjectSummaries(name, sort, direction, cursor, limit));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		}
 	}
 
 	/**
-	 * Retrieves a project by its ID.
+	 * Exports all projects with their entities, fields and operations, streamed
+	 * in ID order.
 	 *
-	 * @param id the ID of the project
-	 * @return the project if found, otherwise 404
+	 * @param format {@code json} for a JSON array, or {@code ndjson} for one
+	 *               project per line
+	 * @return the streamed projects, or 400 if the format is unknown
+	 */
+	@GetMapping(AppConstants.exportProjects)
+	@Operation(summary = "Export all project definitions")
+	public ResponseEntity<StreamingResponseBody> exportProjects(@RequestParam(defaultValue = "json") String format) {
+		boolean ndjson = "ndjson".equalsIgnoreCase(format);
+		if (!ndjson && !"json".equalsIgnoreCase(format)) {
+			return ResponseEntity.badRequest().build();
+		}
+
+		StreamingResponseBody body = outputStream -> exportService.exportProjects(outputStream, ndjson);
+		return ResponseEntity.ok().contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+				.body(body);
+	}
+
+	/**
+	 * Retrieves a project by its ID. The response carries the aggregate version as
+	 * ETag, and a matching {@code If-None-Match} header is answered with 304 Not
+	 * Modified.
+	 *
+	 * @param id         the ID of the project
+	 * @param webRequest the current request, used for the conditional check
+	 * @return the project if found, 304 if unchanged, otherwise 404
 	 */
 	@GetMapping(AppConstants.Id)
 	@Operation(summary = "Get project by ID")
-	public ResponseEntity<ProjectDefinition> getProjectById(@PathVariable Long id) {
-		return projectService.getProjectById(id).map(project -> ResponseEntity.ok(project))
-				.orElse(ResponseEntity.notFound().build());
+	public ResponseEntity<ProjectDefinition> getProjectById(@PathVariable Long id, WebRequest webRequest) {
+		return conditionalGet(id, webRequest, projectService::getProjectById);
 	}
 
 	/**
-	 * Retrieves a project with its associated entities by ID.
+	 * Retrieves a project with its associated entities by ID. The response
+	 * carries the aggregate version as ETag, and a matching {@code If-None-Match}
+	 * header is answered with 304 Not Modified without loading the entities.
 	 *
-	 * @param id the ID of the project
-	 * @return the project with entity details if found, otherwise 404
+	 * @param id         the ID of the project
+	 * @param webRequest the current request, used for the conditional check
+	 * @return the project with entity details if found, 304 if unchanged, otherwise
+	 *         404
 	 */
 	@GetMapping(AppConstants.getDetails)
 	@Operation(summary = "Get project with entities by ID")
-	public ResponseEntity<ProjectDefinition> getProjectWithEntities(@PathVariable Long id) {
-		return projectService.getProjectByIdWithEntities(id).map(project -> ResponseEntity.ok(project))
-				.orElse(ResponseEntity.notFound().build());
+	public ResponseEntity<ProjectDefinition> getProjectWithEntities(@PathVariable Long id, WebRequest webRequest) {
+		return conditionalGet(id, webRequest, projectService::getProjectByIdWithEntities);
 	}
 
 	/**
-	 * Updates an existing project by ID.
+	 * Updates an existing project by ID. With an {@code If-Match} header, the
+	 * update is only applied if the project is still at that version.
 	 *
 	 * @param id         the ID of the project
 	 * @param projectDto the updated project data
-	 * @return the updated project or 404 if not found
+	 * @param ifMatch    the ETag of the version the client last saw, optional
+	 * @return the updated project, 400 if the {@code If-Match} header is
+	 *         malformed, 412 if the project has changed, or 404 if not found
 	 */
 	@PutMapping(AppConstants.Id)
 	@Operation(summary = "Update project")
 	public ResponseEntity<ProjectDefinition> updateProject(@PathVariable Long id,
-			@Valid @RequestBody ProjectDefinitionDto projectDto) {
+			@Valid @RequestBody ProjectDefinitionDto projectDto,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		Long expectedVersion;
 		try {
-			ProjectDefinition updatedProject = projectService.updateProject(id, projectDto);
-			return ResponseEntity.ok(updatedProject);
+			expectedVersion = ETagUtils.parseIfMatch(ifMatch);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		} catch (OptimisticLockingFailureException e) {
+			return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+		}
+
+		try {
+			ProjectDefinition updatedProject = projectService.updateProject(id, projectDto, expectedVersion);
+			return ResponseEntity.ok().eTag(ETagUtils.versionTag(updatedProject.getVersion())).body(updatedProject);
+		} catch (OptimisticLockingFailureException e) {
+			return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
 		} catch (RuntimeException e) {
 			return ResponseEntity.notFound().build();
 		}
 	}
 
 	/**
-	 * Deletes a project by its ID.
+	 * Deletes a project by its ID. With an {@code If-Match} header, the project is
+	 * only deleted if it is still at that version.
 	 *
-	 * @param id the ID of the project
-	 * @return no content if deleted, or 404 if not found
+	 * @param id      the ID of the project
+	 * @param ifMatch the ETag of the version the client last saw, optional
+	 * @return no content if deleted, 400 if the {@code If-Match} header is
+	 *         malformed, 412 if the project has changed, or 404 if not found
 	 */
 	@DeleteMapping(AppConstants.Id)
 	@Operation(summary = "Delete project")
-	public ResponseEntity<Void> deleteProject(@PathVariable Long id) {
+	public ResponseEntity<Void> deleteProject(@PathVariable Long id,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		Long expectedVersion;
 		try {
-			projectService.deleteProject(id);
+			expectedVersion = ETagUtils.parseIfMatch(ifMatch);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		} catch (OptimisticLockingFailureException e) {
+			return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+		}
+
+		try {
+			projectService.deleteProject(id, expectedVersion);
 			return ResponseEntity.noContent().build();
+		} catch (OptimisticLockingFailureException e) {
+			return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+		} catch (RuntimeException e) {
+			return ResponseEntity.notFound().build();
+		}
+	}
+
+	/**
+	 * Copies a project with all its entities, fields and operations under a new
+	 * name.
+	 *
+	 * @param id   the ID of the project to copy
+	 * @param name the name of the copy
+	 * @return 201 with the copied project, 409 if the name is taken, 404 if the
+	 *         project does not exist, or 500 if the copy violated another
+	 *         constraint
+	 */
+	@PostMapping(AppConstants.cloneProject)
+	@Operation(summary = "Clone project")
+	public ResponseEntity<ProjectDefinition> cloneProject(@PathVariable Long id, @RequestParam String name) {
+		try {
+			ProjectDefinition clone = projectService.cloneProject(id, name);
+			return ResponseEntity.created(URI.create(AppConstants.projects + "/" + clone.getId()))
+					.eTag(ETagUtils.versionTag(clone.getVersion())).body(clone);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.status(HttpStatus.CONFLICT).build();
+		} catch (DataIntegrityViolationException e) {
+			// A project created under the same name after the check above; any other
+			// violation is a failure of the copy.
+			if (projectService.existsByName(name)) {
+				return ResponseEntity.status(HttpStatus.CONFLICT).build();
+			}
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
 		} catch (RuntimeException e) {
 			return ResponseEntity.notFound().build();
 		}
@@ -136,7 +300,9 @@ public class ProjectDefinitionController {
 	 * Generates the Spring Boot project based on the given project ID.
 	 *
 	 * @param id the ID of the project to generate
-	 * @return the file path where the project was generated
+	 * @return the file path where the project was generated, or 429 or 503 with a
+	 *         {@code Retry-After} header if the generation bulkhead turned the
+	 *         request away
 	 */
 	@PostMapping(AppConstants.generateProject)
 	@Operation(summary = "Generate Spring Boot project")
@@ -144,6 +310,8 @@ public class ProjectDefinitionController {
 		try {
 			String projectPath = generationService.generateProject(id);
 			return ResponseEntity.ok("Project generated successfully at: " + projectPath);
+		} catch (GenerationRejectedException e) {
+			return rejected(e);
 		} catch (IOException e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
 					.body("Error generating project: " + e.getMessage());
@@ -151,26 +319,118 @@ public class ProjectDefinitionController {
 	}
 
 	/**
-	 * Downloads the generated Spring Boot project as a ZIP file.
+	 * Submits an asynchronous generation job for the project. The job runs on a
+	 * dedicated bounded executor; its state is available at the returned location.
+	 *
+	 * @param id the ID of the project to generate
+	 * @return 202 with the queued job, 404 if the project does not exist, or 429
+	 *         with a {@code Retry-After} header if the job queue is full
+	 */
+	@PostMapping(AppConstants.submitGenerationJob)
+	@Operation(summary = "Submit an asynchronous project generation job")
+	public ResponseEntity<GenerationJobDto> submitGenerationJob(@PathVariable Long id) {
+		GenerationJob job;
+		try {
+			job = jobService.submitJob(id);
+		} catch (RejectedExecutionException e) {
+			return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+					.header(HttpHeaders.RETRY_AFTER, String.valueOf(jobService.getRetryAfterSeconds())).build();
+		} catch (RuntimeException e) {
+			return ResponseEntity.notFound().build();
+		}
+		return ResponseEntity.accepted().location(URI.create(AppConstants.generationJobs + "/" + job.getId()))
+				.body(dtoMapper.toDto(job));
+	}
+
+	/**
+	 * Downloads the generated Spring Boot project as a ZIP file. The response
+	 * carries a strong ETag derived from the project content, and a matching
+	 * {@code If-None-Match} header is answered with 304 Not Modified. An archive
+	 * that is not cached is generated inside the generation bulkhead before the
+	 * response starts; the response only transfers the finished archive.
 	 *
-	 * @param id the ID of the project to download
-	 * @return a ZIP file of the generated project
+	 * @param id         the ID of the project to download
+	 * @param webRequest the current request, used for the conditional check
+	 * @return a ZIP file of the generated project, 304 if unchanged, 429 or 503
+	 *         with a {@code Retry-After} header if the generation bulkhead turned
+	 *         the request away, 404 if the project does not exist, or 500 if the
+	 *         generation failed
 	 */
 	@GetMapping(AppConstants.downloadProject)
 	@Operation(summary = "Download generated project as ZIP")
-	public ResponseEntity<ByteArrayResource> downloadProject(@PathVariable Long id) {
+	public ResponseEntity<StreamingResponseBody> downloadProject(@PathVariable Long id, WebRequest webRequest) {
+		GeneratedArtifact artifact;
 		try {
-			byte[] zipData = generationService.downloadProject(id);
-			ByteArrayResource resource = new ByteArrayResource(zipData);
+			artifact = generationService.prepareDownload(id);
+		} catch (RuntimeException e) {
+			return ResponseEntity.notFound().build();
+		}
 
-			ProjectDefinition project = projectService.getProjectById(id)
-					.orElseThrow(() -> new RuntimeException("Project not found"));
+		if (webRequest.checkNotModified(artifact.getETag())) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(artifact.getETag()).build();
+		}
 
-			return ResponseEntity.ok()
-					.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + project.getName() + ".zip")
-					.contentType(MediaType.APPLICATION_OCTET_STREAM).contentLength(zipData.length).body(resource);
+		SeekableByteChannel archive;
+		try {
+			archive = generationService.openDownload(artifact);
+		} catch (GenerationRejectedException e) {
+			return rejected(e);
 		} catch (IOException e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
 		}
+
+		StreamingResponseBody body = outputStream -> {
+			try (InputStream in = Channels.newInputStream(archive)) {
+				in.transferTo(outputStream);
+			}
+		};
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(artifact.getETag())
+				.header(HttpHeaders.CONTENT_DISPOSITION,
+						"attachment; filename=" + artifact.getProject().getName() + ".zip")
+				.contentType(MediaType.APPLICATION_OCTET_STREAM);
+		try {
+			response.contentLength(archive.size());
+		} catch (IOException e) {
+			// The archive is streamed without a length.
+		}
+		return response.body(body);
+	}
+
+	/**
+	 * Answers a request turned away by the generation bulkhead: 429 if its queue
+	 * was full, 503 if no slot became free in time or the generation ran out of
+	 * CPU time.
+	 */
+	private <T> ResponseEntity<T> rejected(GenerationRejectedException e) {
+		HttpStatus status = e.getReason() == GenerationRejectionReason.QUEUE_FULL ? HttpStatus.TOO_MANY_REQUESTS
+				: HttpStatus.SERVICE_UNAVAILABLE;
+		return ResponseEntity.status(status).header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+				.build();
+	}
+
+	/**
+	 * Answers a GET of a project representation conditionally. The version is
+	 * looked up first, so an unchanged project is answered with 304 without
+	 * loading it. A loaded project older than that version came from a stale
+	 * cache entry; the entry is evicted and the project loaded again.
+	 */
+	private ResponseEntity<ProjectDefinition> conditionalGet(Long id, WebRequest webRequest,
+			Function<Long, Optional<ProjectDefinition>> loader) {
+		Optional<Long> version = projectService.getProjectVersion(id);
+		if (version.isEmpty()) {
+			return ResponseEntity.notFound().build();
+		}
+		String eTag = ETagUtils.versionTag(version.get());
+		if (webRequest.checkNotModified(eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+		}
+		Optional<ProjectDefinition> loaded = loader.apply(id);
+		if (loaded.isPresent() && !version.get().equals(loaded.get().getVersion())) {
+			projectService.evictProjectAggregate(id);
+			loaded = loader.apply(id);
+		}
+		return loaded
+				.map(project -> ResponseEntity.ok().eTag(ETagUtils.versionTag(project.getVersion())).body(project))
+				.orElse(ResponseEntity.notFound().build());
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package com.user.driven.operations.dto;
+
+import com.user.driven.operations.enums.BatchItemStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object reporting the outcome of one entity of a batch upsert.
+ *
+ * @author Jatin Raheja
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+public class BatchItemResultDto {
+
+	/**
+	 * Position of the item in the request.
+	 */
+	private int index;
+
+	private String name;
+
+	private BatchItemStatus status;
+
+	/**
+	 * The ID of the created or existing entity, unless the item failed.
+	 */
+	private Long entityId;
+
+	/**
+	 * The rows written for the item, unless it failed.
+	 */
+	private EntityChangeSetDto changes;
+
+	/**
+	 * The reason the item failed.
+	 */
+	private String error;
+}
@@ -0,0 +1,31 @@
+package com.user.driven.operations.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object for one page of a keyset-paginated listing.
+ *
+ * @param <T> the type of the listed rows
+ * @author Jatin Raheja
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+public class CursorPageDto<T> {
+
+	private List<T> items;
+
+	/**
+	 * Opaque token to pass as {@code cursor} to fetch the next page, or null on
+	 * the last page.
+	 */
+	private String nextCursor;
+}
@@ -0,0 +1,62 @@
+package com.user.driven.operations.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.user.driven.operations.enums.OperationType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object reporting the rows changed by merging an entity
+ * definition, so that regeneration and cache invalidation can be limited to
+ * them. Fields are identified by name and operations by type.
+ *
+ * @author Jatin Raheja
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+public class EntityChangeSetDto {
+
+	/**
+	 * The ID of the merged entity.
+	 */
+	private Long entityId;
+
+	/**
+	 * The ID of the project the entity belongs to.
+	 */
+	private Long projectId;
+
+	/**
+	 * Whether the name or description of the entity itself changed.
+	 */
+	private boolean entityChanged;
+
+	private List<String> addedFields = new ArrayList<>();
+
+	private List<String> updatedFields = new ArrayList<>();
+
+	private List<String> removedFields = new ArrayList<>();
+
+	private List<OperationType> addedOperations = new ArrayList<>();
+
+	private List<OperationType> updatedOperations = new ArrayList<>();
+
+	private List<OperationType> removedOperations = new ArrayList<>();
+
+	/**
+	 * @return true if the merge changed any row
+	 */
+	public boolean hasChanges() {
+		return entityChanged || !addedFields.isEmpty() || !updatedFields.isEmpty() || !removedFields.isEmpty()
+				|| !addedOperations.isEmpty() || !updatedOperations.isEmpty() || !removedOperations.isEmpty();
+	}
+}
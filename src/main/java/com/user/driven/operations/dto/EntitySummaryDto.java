@@ -0,0 +1,39 @@
+package com.user.driven.operations.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Lightweight projection of an entity for listings, built by a single query
+ * without loading the entity's fields and operations.
+ *
+ * @author Jatin Raheja
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+public class EntitySummaryDto implements SummaryDto {
+
+	private Long id;
+
+	private String name;
+
+	/**
+	 * Number of fields defined for the entity.
+	 */
+	private Long fieldCount;
+
+	/**
+	 * Number of operations configured for the entity.
+	 */
+	private Long operationCount;
+
+	private LocalDateTime updatedAt;
+}
@@ -0,0 +1,62 @@
+package com.user.driven.operations.dto;
+
+import java.time.Instant;
+
+import com.user.driven.operations.enums.GenerationJobStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object describing the state of an asynchronous project
+ * generation job, returned by the submit and status endpoints.
+ *
+ * @author Jatin Raheja
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+public class GenerationJobDto {
+
+	/**
+	 * The ID of the job.
+	 */
+	private String id;
+
+	/**
+	 * The ID of the project being generated.
+	 */
+	private Long projectId;
+
+	private GenerationJobStatus status;
+
+	/**
+	 * Progress of the job in percent.
+	 */
+	private int progress;
+
+	private int generatedFiles;
+
+	private int totalFiles;
+
+	private Instant submittedAt;
+
+	private Instant startedAt;
+
+	private Instant finishedAt;
+
+	/**
+	 * The failure reason, if the job failed.
+	 */
+	private String errorMessage;
+
+	/**
+	 * Path of the result endpoint, set once the job succeeded.
+	 */
+	private String resultPath;
+}
@@ -0,0 +1,41 @@
+package com.user.driven.operations.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object summarizing a streamed project import, returned by the
+ * import endpoint.
+ *
+ * @author Jatin Raheja
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+public class ProjectImportDto {
+
+	/**
+	 * The ID of the imported project.
+	 */
+	private Long projectId;
+
+	private String name;
+
+	private int entities;
+
+	private int fields;
+
+	private int operations;
+
+	/**
+	 * Number of times the persistence context was flushed and cleared.
+	 */
+	private int batches;
+
+	private long durationMillis;
+}
@@ -0,0 +1,34 @@
+package com.user.driven.operations.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Lightweight projection of a project for listings, built by a single query
+ * without loading the project's entities.
+ *
+ * @author Jatin Raheja
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+public class ProjectSummaryDto implements SummaryDto {
+
+	private Long id;
+
+	private String name;
+
+	/**
+	 * Number of entities defined in the project.
+	 */
+	private Long entityCount;
+
+	private LocalDateTime updatedAt;
+}
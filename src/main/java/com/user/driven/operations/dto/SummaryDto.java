@@ -0,0 +1,18 @@
+package com.user.driven.operations.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Common view of the rows returned by the keyset-paginated listings, exposing
+ * the keys they can be sorted by.
+ *
+ * @author Jatin Raheja
+ */
+public interface SummaryDto {
+
+	Long getId();
+
+	String getName();
+
+	LocalDateTime getUpdatedAt();
+}
@@ -11,12 +11,16 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -34,7 +38,11 @@ import lombok.ToString;
  * @author: Jatin Raheja
  */
 @Entity
-@Table(name = "entity_definitions")
+@Table(name = "entity_definitions",
+		uniqueConstraints = @UniqueConstraint(name = "uk_entity_definitions_project_name",
+				columnNames = { "project_id", "name" }),
+		indexes = { @Index(name = "idx_entity_definitions_project_name", columnList = "project_id, name, id"),
+				@Index(name = "idx_entity_definitions_project_updated_at", columnList = "project_id, updated_at, id") })
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -46,14 +54,14 @@ public class EntityDefinition {
 	 * Unique identifier for the entity.
 	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "entity_definitions_id")
+	@SequenceGenerator(name = "entity_definitions_id", sequenceName = "entity_definitions_seq", allocationSize = 50)
 	private Long id;
 
 	/**
-	 * Name of the entity. Must be unique and not blank.
+	 * Name of the entity. Must be unique within its project and not blank.
 	 */
 	@NotBlank(message = "Entity name is required")
-	@Column(unique = true)
 	private String name;
 
 	/**
@@ -74,6 +82,7 @@ public class EntityDefinition {
 	 * removal.
 	 */
 	@OneToMany(mappedBy = "entity", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+	@OrderBy("id")
 	private List<FieldDefinition> fields = new ArrayList<>();
 
 	/**
@@ -81,6 +90,7 @@ public class EntityDefinition {
 	 * with cascading and orphan removal.
 	 */
 	@OneToMany(mappedBy = "entity", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+	@OrderBy("id")
 	private List<OperationConfig> operations = new ArrayList<>();
 
 	/**
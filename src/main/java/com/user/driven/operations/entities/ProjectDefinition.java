@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import com.user.driven.operations.enums.DatabaseType;
 import com.user.driven.operations.enums.SecurityType;
 
@@ -16,10 +18,14 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -38,7 +44,8 @@ import lombok.ToString;
  * @author Jatin Raheja
  */
 @Entity
-@Table(name = "project_definitions")
+@Table(name = "project_definitions",
+		indexes = @Index(name = "idx_project_definitions_updated_at", columnList = "updated_at, id"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -50,7 +57,8 @@ public class ProjectDefinition {
 	 * Unique identifier for the project.
 	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_definitions_id")
+	@SequenceGenerator(name = "project_definitions_id", sequenceName = "project_definitions_seq", allocationSize = 50)
 	private Long id;
 
 	/**
@@ -109,6 +117,7 @@ public class ProjectDefinition {
 	 * List of entities associated with this project.
 	 */
 	@OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+	@OrderBy("id")
 	private List<EntityDefinition> entities = new ArrayList<>();
 
 	/**
@@ -123,6 +132,16 @@ public class ProjectDefinition {
 	@Column(name = "updated_at")
 	private LocalDateTime updatedAt;
 
+	/**
+	 * Version of the project aggregate, used for optimistic locking and as ETag.
+	 * Incremented on every change to the project or to any of its entities,
+	 * fields and operations.
+	 */
+	@Version
+	@Column(nullable = false)
+	@ColumnDefault("0")
+	private Long version;
+
 	/**
 	 * Automatically sets timestamps before the project is persisted.
 	 */
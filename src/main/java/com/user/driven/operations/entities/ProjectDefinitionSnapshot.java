@@ -0,0 +1,51 @@
+package com.user.driven.operations.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Denormalized copy of a project's full definition (project, entities, fields
+ * and operations) serialized as JSON in a single row, for code generation.
+ * <p>
+ * The mapping only defines the table; rows are read and written with plain
+ * JDBC by {@code DefinitionSnapshotStore} so that generation does not hydrate
+ * any entities.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+@Entity
+@Table(name = "project_definition_snapshots")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ProjectDefinitionSnapshot {
+
+	/**
+	 * ID of the project the snapshot belongs to.
+	 */
+	@Id
+	@Column(name = "project_id")
+	private Long projectId;
+
+	/**
+	 * The project definition serialized as JSON.
+	 */
+	@Column(name = "payload", nullable = false, columnDefinition = "text")
+	private String payload;
+
+	/**
+	 * Timestamp of the write the snapshot reflects.
+	 */
+	@Column(name = "refreshed_at", nullable = false)
+	private LocalDateTime refreshedAt;
+}
@@ -0,0 +1,18 @@
+package com.user.driven.operations.enums;
+
+/**
+ * Enumeration representing the outcome of one item of a batch upsert.
+ * 
+ * <ul>
+ * <li><b>CREATED</b>: No entity with the name existed; it was created.</li>
+ * <li><b>UPDATED</b>: The existing entity was merged with the item.</li>
+ * <li><b>UNCHANGED</b>: The existing entity already matched the item.</li>
+ * <li><b>FAILED</b>: The item was invalid and skipped; the result carries the
+ * error message.</li>
+ * </ul>
+ * 
+ * @author Jatin Raheja
+ */
+public enum BatchItemStatus {
+	CREATED, UPDATED, UNCHANGED, FAILED
+}
@@ -0,0 +1,18 @@
+package com.user.driven.operations.enums;
+
+/**
+ * Enumeration representing the lifecycle states of an asynchronous project
+ * generation job.
+ * 
+ * <ul>
+ * <li><b>QUEUED</b>: The job is waiting for a free generation worker.</li>
+ * <li><b>RUNNING</b>: The project is being generated.</li>
+ * <li><b>SUCCEEDED</b>: The artifact is ready for download.</li>
+ * <li><b>FAILED</b>: Generation failed; the job carries the error message.</li>
+ * </ul>
+ * 
+ * @author Jatin Raheja
+ */
+public enum GenerationJobStatus {
+	QUEUED, RUNNING, SUCCEEDED, FAILED
+}
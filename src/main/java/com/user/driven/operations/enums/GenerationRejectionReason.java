@@ -0,0 +1,19 @@
+package com.user.driven.operations.enums;
+
+/**
+ * Enumeration representing why the generation bulkhead turned a request away.
+ * 
+ * <ul>
+ * <li><b>QUEUE_FULL</b>: All generation slots were busy and the wait queue was
+ * full.</li>
+ * <li><b>WAIT_TIMEOUT</b>: The request waited in the queue longer than allowed
+ * without getting a slot.</li>
+ * <li><b>CPU_BUDGET</b>: The generation used up its CPU-time budget and was
+ * stopped.</li>
+ * </ul>
+ * 
+ * @author Jatin Raheja
+ */
+public enum GenerationRejectionReason {
+	QUEUE_FULL, WAIT_TIMEOUT, CPU_BUDGET
+}
@@ -0,0 +1,71 @@
+package com.user.driven.operations.enums;
+
+import java.time.LocalDateTime;
+
+import com.user.driven.operations.dto.SummaryDto;
+
+/**
+ * Enumeration of the keys project and entity listings can be sorted by. Every
+ * sort is made unique by the ID as tie-breaker, which keyset pagination relies
+ * on.
+ * 
+ * <ul>
+ * <li><b>ID</b>: Creation order.</li>
+ * <li><b>NAME</b>: Alphabetical order of the name.</li>
+ * <li><b>UPDATED_AT</b>: Order of the last modification.</li>
+ * </ul>
+ * 
+ * @author Jatin Raheja
+ */
+public enum SummarySort {
+	ID("id"), NAME("name"), UPDATED_AT("updatedAt");
+
+	private final String property;
+
+	SummarySort(String property) {
+		this.property = property;
+	}
+
+	/**
+	 * Returns the persistent property sorted by.
+	 *
+	 * @return the property name used in JPQL
+	 */
+	public String getProperty() {
+		return property;
+	}
+
+	/**
+	 * Extracts the sort key of a listed row, to be stored in a cursor.
+	 *
+	 * @param summary the listed row
+	 * @return the sort key, or null when sorting by ID alone
+	 */
+	public Object sortValue(SummaryDto summary) {
+		switch (this) {
+		case NAME:
+			return summary.getName();
+		case UPDATED_AT:
+			return summary.getUpdatedAt();
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Parses a sort key previously taken from {@link #sortValue(SummaryDto)}.
+	 *
+	 * @param value the sort key in string form
+	 * @return the typed sort key, or null when sorting by ID alone
+	 */
+	public Object parseValue(String value) {
+		switch (this) {
+		case NAME:
+			return value;
+		case UPDATED_AT:
+			return LocalDateTime.parse(value);
+		default:
+			return null;
+		}
+	}
+}
@@ -1,17 +1,23 @@
 package com.user.driven.operations.mapper;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
 import com.user.driven.operations.dto.EntityDefinitionDto;
 import com.user.driven.operations.dto.FieldDefinitionDto;
+import com.user.driven.operations.dto.GenerationJobDto;
 import com.user.driven.operations.dto.OperationConfigDto;
 import com.user.driven.operations.dto.ProjectDefinitionDto;
 import com.user.driven.operations.entities.EntityDefinition;
 import com.user.driven.operations.entities.FieldDefinition;
 import com.user.driven.operations.entities.OperationConfig;
 import com.user.driven.operations.entities.ProjectDefinition;
+import com.user.driven.operations.enums.GenerationJobStatus;
+import com.user.driven.operations.service.GenerationJob;
+import com.user.driven.operations.utils.AppConstants;
 
 /**
  * Mapper class responsible for converting between DTOs and Entity objects.
@@ -85,15 +91,7 @@ public class DtoMapper {
 	 */
 	public FieldDefinition toEntity(FieldDefinitionDto dto) {
 		FieldDefinition entity = new FieldDefinition();
-		entity.setName(dto.getName());
-		entity.setDescription(dto.getDescription());
-		entity.setDataType(dto.getDataType());
-		entity.setFieldType(dto.getFieldType());
-		entity.setValidationRules(dto.getValidationRules());
-		entity.setRelationshipType(dto.getRelationshipType());
-		entity.setRelationshipTarget(dto.getRelationshipTarget());
-		entity.setNullable(dto.isNullable());
-		entity.setDefaultValue(dto.getDefaultValue());
+		updateEntityFromDto(dto, entity);
 		return entity;
 	}
 
@@ -105,13 +103,100 @@ public class DtoMapper {
 	 */
 	public OperationConfig toEntity(OperationConfigDto dto) {
 		OperationConfig entity = new OperationConfig();
-		entity.setOperationType(dto.getOperationType());
-		entity.setEnabled(dto.isEnabled());
-		entity.setCustomLogic(dto.getCustomLogic());
-		entity.setParameters(dto.getParameters());
+		updateEntityFromDto(dto, entity);
 		return entity;
 	}
 
+	/**
+	 * Converts a ProjectDefinition entity with its loaded entities, fields and
+	 * operations to a ProjectDefinitionDto.
+	 *
+	 * @param entity the project aggregate
+	 * @return the corresponding ProjectDefinitionDto
+	 */
+	public ProjectDefinitionDto toDto(ProjectDefinition entity) {
+		return toDto(entity, entity.getEntities());
+	}
+
+	/**
+	 * Converts a ProjectDefinition entity to a ProjectDefinitionDto holding the
+	 * given entities with their loaded fields and operations instead of the
+	 * project's entity collection.
+	 *
+	 * @param entity   the project
+	 * @param entities the entities of the project
+	 * @return the corresponding ProjectDefinitionDto
+	 */
+	public ProjectDefinitionDto toDto(ProjectDefinition entity, List<EntityDefinition> entities) {
+		ProjectDefinitionDto dto = new ProjectDefinitionDto();
+		dto.setId(entity.getId());
+		dto.setName(entity.getName());
+		dto.setDescription(entity.getDescription());
+		dto.setPackageName(entity.getPackageName());
+		dto.setDatabaseType(entity.getDatabaseType());
+		dto.setSecurityEnabled(entity.isSecurityEnabled());
+		dto.setSecurityType(entity.getSecurityType());
+		dto.setCachingEnabled(entity.isCachingEnabled());
+		dto.setSwaggerEnabled(entity.isSwaggerEnabled());
+		dto.setCustomConfiguration(entity.getCustomConfiguration());
+		dto.setEntities(entities.stream().map(this::toDto).collect(Collectors.toList()));
+		return dto;
+	}
+
+	/**
+	 * Converts an EntityDefinition entity with its loaded fields and operations
+	 * to an EntityDefinitionDto.
+	 *
+	 * @param entity the entity definition
+	 * @return the corresponding EntityDefinitionDto
+	 */
+	public EntityDefinitionDto toDto(EntityDefinition entity) {
+		EntityDefinitionDto dto = new EntityDefinitionDto();
+		dto.setId(entity.getId());
+		dto.setName(entity.getName());
+		dto.setDescription(entity.getDescription());
+		dto.setFields(entity.getFields().stream().map(this::toDto).collect(Collectors.toList()));
+		dto.setOperations(entity.getOperations().stream().map(this::toDto).collect(Collectors.toList()));
+		return dto;
+	}
+
+	/**
+	 * Converts a FieldDefinition entity to a FieldDefinitionDto.
+	 *
+	 * @param entity the field definition
+	 * @return the corresponding FieldDefinitionDto
+	 */
+	public FieldDefinitionDto toDto(FieldDefinition entity) {
+		FieldDefinitionDto dto = new FieldDefinitionDto();
+		dto.setId(entity.getId());
+		dto.setName(entity.getName());
+		dto.setDescription(entity.getDescription());
+		dto.setDataType(entity.getDataType());
+		dto.setFieldType(entity.getFieldType());
+		dto.setValidationRules(entity.getValidationRules());
+		dto.setRelationshipType(entity.getRelationshipType());
+		dto.setRelationshipTarget(entity.getRelationshipTarget());
+		dto.setNullable(entity.isNullable());
+		dto.setDefaultValue(entity.getDefaultValue());
+		return dto;
+	}
+
+	/**
+	 * Converts an OperationConfig entity to an OperationConfigDto.
+	 *
+	 * @param entity the operation config
+	 * @return the corresponding OperationConfigDto
+	 */
+	public OperationConfigDto toDto(OperationConfig entity) {
+		OperationConfigDto dto = new OperationConfigDto();
+		dto.setId(entity.getId());
+		dto.setOperationType(entity.getOperationType());
+		dto.setEnabled(entity.isEnabled());
+		dto.setCustomLogic(entity.getCustomLogic());
+		dto.setParameters(entity.getParameters());
+		return dto;
+	}
+
 	/**
 	 * Updates an existing ProjectDefinition entity with data from a
 	 * ProjectDefinitionDto.
@@ -142,4 +227,86 @@ public class DtoMapper {
 		entity.setName(dto.getName());
 		entity.setDescription(dto.getDescription());
 	}
+
+	/**
+	 * Updates an existing FieldDefinition entity with data from a
+	 * FieldDefinitionDto.
+	 *
+	 * @param dto    the field DTO containing updated data
+	 * @param entity the existing FieldDefinition entity to update
+	 */
+	public void updateEntityFromDto(FieldDefinitionDto dto, FieldDefinition entity) {
+		entity.setName(dto.getName());
+		entity.setDescription(dto.getDescription());
+		entity.setDataType(dto.getDataType());
+		entity.setFieldType(dto.getFieldType());
+		entity.setValidationRules(dto.getValidationRules());
+		entity.setRelationshipType(dto.getRelationshipType());
+		entity.setRelationshipTarget(dto.getRelationshipTarget());
+		entity.setNullable(dto.isNullable());
+		entity.setDefaultValue(dto.getDefaultValue());
+	}
+
+	/**
+	 * Updates an existing OperationConfig entity with data from an
+	 * OperationConfigDto.
+	 *
+	 * @param dto    the operation DTO containing updated data
+	 * @param entity the existing OperationConfig entity to update
+	 */
+	public void updateEntityFromDto(OperationConfigDto dto, OperationConfig entity) {
+		entity.setOperationType(dto.getOperationType());
+		entity.setEnabled(dto.isEnabled());
+		entity.setCustomLogic(dto.getCustomLogic());
+		entity.setParameters(dto.getParameters());
+	}
+
+	/**
+	 * Checks whether a FieldDefinition entity already holds the data of a
+	 * FieldDefinitionDto, so that applying the DTO would not change it.
+	 *
+	 * @param dto    the field DTO
+	 * @param entity the persisted field
+	 * @return true if all mapped attributes are equal
+	 */
+	public boolean matches(FieldDefinitionDto dto, FieldDefinition entity) {
+		return Objects.equals(dto.getName(), entity.getName())
+				&& Objects.equals(dto.getDescription(), entity.getDescription())
+				&& dto.getDataType() == entity.getDataType() && dto.getFieldType() == entity.getFieldType()
+				&& Objects.equals(dto.getValidationRules(), entity.getValidationRules())
+				&& Objects.equals(dto.getRelationshipType(), entity.getRelationshipType())
+				&& Objects.equals(dto.getRelationshipTarget(), entity.getRelationshipTarget())
+				&& dto.isNullable() == entity.isNullable()
+				&& Objects.equals(dto.getDefaultValue(), entity.getDefaultValue());
+	}
+
+	/**
+	 * Checks whether an OperationConfig entity already holds the data of an
+	 * OperationConfigDto, so that applying the DTO would not change it.
+	 *
+	 * @param dto    the operation DTO
+	 * @param entity the persisted operation
+	 * @return true if all mapped attributes are equal
+	 */
+	public boolean matches(OperationConfigDto dto, OperationConfig entity) {
+		return dto.getOperationType() == entity.getOperationType() && dto.isEnabled() == entity.isEnabled()
+				&& Objects.equals(dto.getCustomLogic(), entity.getCustomLogic())
+				&& Objects.equals(dto.getParameters(), entity.getParameters());
+	}
+
+	/**
+	 * Converts a GenerationJob to a GenerationJobDto.
+	 *
+	 * @param job the generation job
+	 * @return the corresponding GenerationJobDto
+	 */
+	public GenerationJobDto toDto(GenerationJob job) {
+		GenerationJobStatus status = job.getStatus();
+		String resultPath = status == GenerationJobStatus.SUCCEEDED
+				? AppConstants.generationJobs + "/" + job.getId() + "/result"
+				: null;
+		return new GenerationJobDto(job.getId(), job.getProjectId(), status, job.getProgress(),
+				job.getGeneratedFiles(), job.getTotalFiles(), job.getSubmittedAt(), job.getStartedAt(),
+				job.getFinishedAt(), job.getErrorMessage(), resultPath);
+	}
 }
@@ -0,0 +1,248 @@
+package com.user.driven.operations.mapper;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.user.driven.operations.entities.EntityDefinition;
+import com.user.driven.operations.entities.FieldDefinition;
+import com.user.driven.operations.entities.OperationConfig;
+import com.user.driven.operations.entities.ProjectDefinition;
+import com.user.driven.operations.enums.DataType;
+import com.user.driven.operations.enums.FieldType;
+import com.user.driven.operations.model.EntityModel;
+import com.user.driven.operations.model.FieldModel;
+import com.user.driven.operations.model.OperationModel;
+import com.user.driven.operations.model.ProjectModel;
+import com.user.driven.operations.utils.FingerprintUtils;
+
+/**
+ * Mapper class responsible for converting a loaded project aggregate into the
+ * immutable render model consumed by the code generation templates.
+ * <p>
+ * Names, Java types, imports and parsed validation rules are computed here once
+ * per generation instead of being derived again by every template. The project
+ * aggregate (entities, fields and operations) must already be loaded.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+@Component
+public class RenderModelMapper {
+
+	@Autowired
+	private FingerprintUtils fingerprintUtils;
+
+	/**
+	 * Converts a ProjectDefinition aggregate to its render model.
+	 *
+	 * @param project the project aggregate
+	 * @return the corresponding ProjectModel
+	 */
+	public ProjectModel toRenderModel(ProjectDefinition project) {
+		String name = project.getName();
+
+		return ProjectModel.builder().name(name).description(project.getDescription())
+				.packageName(project.getPackageName()).packagePath(project.getPackageName().replace(".", "/"))
+				.artifactId(name.toLowerCase(Locale.ROOT).replace(" ", "-"))
+				.databaseName(name.toLowerCase(Locale.ROOT).replace(" ", "_"))
+				.applicationClassName(capFirst(name.replace(" ", "")) + "Application")
+				.applicationFileName(toPascalCase(name) + "Application")
+				.databaseType(nameOf(project.getDatabaseType())).securityEnabled(project.isSecurityEnabled())
+				.securityType(nameOf(project.getSecurityType())).cachingEnabled(project.isCachingEnabled())
+				.swaggerEnabled(project.isSwaggerEnabled())
+				.settingsFingerprint(fingerprintUtils.fingerprintSettings(project))
+				.entities(project.getEntities().stream().map(this::toRenderModel).collect(Collectors.toUnmodifiableList()))
+				.build();
+	}
+
+	/**
+	 * Converts an EntityDefinition to its render model.
+	 *
+	 * @param entity the entity definition with fields and operations loaded
+	 * @return the corresponding EntityModel
+	 */
+	public EntityModel toRenderModel(EntityDefinition entity) {
+		String name = entity.getName();
+		String lowerCaseName = name.toLowerCase(Locale.ROOT);
+
+		TreeSet<String> imports = new TreeSet<>();
+		for (FieldDefinition field : entity.getFields()) {
+			String javaImport = importOf(field.getDataType());
+			if (javaImport != null) {
+				imports.add(javaImport);
+			}
+		}
+
+		return EntityModel.builder().name(name).className(capFirst(name)).variableName(uncapFirst(name))
+				.lowerCaseName(lowerCaseName).tableName(lowerCaseName.replace(" ", "_") + "s")
+				.urlPath("/api/" + lowerCaseName.replace(" ", "-") + "s").fileName(toPascalCase(name))
+				.imports(List.copyOf(imports)).fingerprint(fingerprintUtils.fingerprint(entity))
+				.fields(entity.getFields().stream().map(this::toRenderModel).collect(Collectors.toUnmodifiableList()))
+				.operations(entity.getOperations().stream().map(this::toRenderModel)
+						.collect(Collectors.toUnmodifiableList()))
+				.build();
+	}
+
+	/**
+	 * Converts a FieldDefinition to its render model, resolving the Java type and
+	 * parsing the comma separated validation rules ({@code email}, {@code min=},
+	 * {@code max=}).
+	 *
+	 * @param field the field definition
+	 * @return the corresponding FieldModel
+	 */
+	public FieldModel toRenderModel(FieldDefinition field) {
+		String minValue = null;
+		String maxValue = null;
+		boolean email = false;
+
+		if (field.getValidationRules() != null && !field.getValidationRules().isEmpty()) {
+			for (String rule : field.getValidationRules().split(",")) {
+				rule = rule.trim();
+				if (rule.equals("email")) {
+					email = true;
+				} else if (rule.startsWith("min=")) {
+					minValue = rule.substring(4);
+				} else if (rule.startsWith("max=")) {
+					maxValue = rule.substring(4);
+				}
+			}
+		}
+
+		DataType dataType = field.getDataType();
+		return FieldModel.builder().name(field.getName()).variableName(uncapFirst(field.getName()))
+				.capitalizedName(capFirst(field.getName())).javaType(javaTypeOf(dataType))
+				.primaryKey(field.getFieldType() == FieldType.PRIMARY_KEY)
+				.unique(field.getFieldType() == FieldType.UNIQUE_FIELD).nullable(field.isNullable())
+				.validationRules(field.getValidationRules()).email(email)
+				.minValue(emptyToNull(minValue)).maxValue(emptyToNull(maxValue))
+				.sizeConstrained(dataType == DataType.STRING || dataType == DataType.TEXT)
+				.rangeConstrained(dataType == DataType.INTEGER || dataType == DataType.LONG
+						|| dataType == DataType.DECIMAL || dataType == DataType.FLOAT || dataType == DataType.DOUBLE)
+				.build();
+	}
+
+	/**
+	 * Converts an OperationConfig to its render model.
+	 *
+	 * @param operation the operation configuration
+	 * @return the corresponding OperationModel
+	 */
+	public OperationModel toRenderModel(OperationConfig operation) {
+		return OperationModel.builder().operationType(nameOf(operation.getOperationType()))
+				.enabled(operation.isEnabled()).customLogic(operation.getCustomLogic())
+				.parameters(operation.getParameters()).build();
+	}
+
+	/**
+	 * Maps a field data type to the simple name of the generated Java type.
+	 */
+	private String javaTypeOf(DataType dataType) {
+		if (dataType == null) {
+			return "String";
+		}
+		switch (dataType) {
+		case INTEGER:
+			return "Integer";
+		case LONG:
+			return "Long";
+		case DOUBLE:
+			return "Double";
+		case FLOAT:
+			return "Float";
+		case BOOLEAN:
+			return "Boolean";
+		case DATE:
+			return "LocalDate";
+		case DATETIME:
+			return "LocalDateTime";
+		case DECIMAL:
+			return "BigDecimal";
+		default:
+			return "String";
+		}
+	}
+
+	/**
+	 * Maps a field data type to the fully qualified type it needs to import, or
+	 * null for {@code java.lang} types.
+	 */
+	private String importOf(DataType dataType) {
+		if (dataType == null) {
+			return null;
+		}
+		switch (dataType) {
+		case DATE:
+			return "java.time.LocalDate";
+		case DATETIME:
+			return "java.time.LocalDateTime";
+		case DECIMAL:
+			return "java.math.BigDecimal";
+		default:
+			return null;
+		}
+	}
+
+	private String nameOf(Enum<?> value) {
+		return value == null ? null : value.name();
+	}
+
+	private String emptyToNull(String value) {
+		return value == null || value.isEmpty() ? null : value;
+	}
+
+	/**
+	 * Upper-cases the first character, leaving the rest untouched.
+	 */
+	private String capFirst(String input) {
+		if (input == null || input.isEmpty()) {
+			return input;
+		}
+		return Character.toUpperCase(input.charAt(0)) + input.substring(1);
+	}
+
+	/**
+	 * Lower-cases the first character, leaving the rest untouched.
+	 */
+	private String uncapFirst(String input) {
+		if (input == null || input.isEmpty()) {
+			return input;
+		}
+		return Character.toLowerCase(input.charAt(0)) + input.substring(1);
+	}
+
+	/**
+	 * Converts a string to PascalCase format.
+	 *
+	 * @param input The input string.
+	 * @return PascalCase version of the input.
+	 */
+	private String toPascalCase(String input) {
+		if (input == null || input.isEmpty()) {
+			return input;
+		}
+
+		StringBuilder result = new StringBuilder();
+		boolean capitalizeNext = true;
+
+		for (char c : input.toCharArray()) {
+			if (Character.isLetterOrDigit(c)) {
+				if (capitalizeNext) {
+					result.append(Character.toUpperCase(c));
+					capitalizeNext = false;
+				} else {
+					result.append(Character.toLowerCase(c));
+				}
+			} else {
+				capitalizeNext = true;
+			}
+		}
+
+		return result.toString();
+	}
+}
@@ -0,0 +1,66 @@
+package com.user.driven.operations.model;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Immutable, precomputed view of an {@link com.user.driven.operations.entities.EntityDefinition}
+ * used as the data model of the per-entity code generation templates.
+ *
+ * @author Jatin Raheja
+ */
+@Getter
+@Builder
+public class EntityModel {
+
+	/**
+	 * The entity name as defined by the user.
+	 */
+	private final String name;
+
+	/**
+	 * Simple name of the generated entity class.
+	 */
+	private final String className;
+
+	/**
+	 * Name used for variables and fields referring to the entity.
+	 */
+	private final String variableName;
+
+	/**
+	 * Lower-case form of the entity name, used in messages and cache names.
+	 */
+	private final String lowerCaseName;
+
+	/**
+	 * Database table name of the generated entity.
+	 */
+	private final String tableName;
+
+	/**
+	 * Base request path of the generated controller, e.g. {@code /api/orders}.
+	 */
+	private final String urlPath;
+
+	/**
+	 * Base name of the generated source files.
+	 */
+	private final String fileName;
+
+	/**
+	 * Fully qualified Java types the entity's fields need to import, sorted.
+	 */
+	private final List<String> imports;
+
+	/**
+	 * Fingerprint of the entity with its fields and operations.
+	 */
+	private final String fingerprint;
+
+	private final List<FieldModel> fields;
+
+	private final List<OperationModel> operations;
+}
@@ -0,0 +1,71 @@
+package com.user.driven.operations.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Immutable, precomputed view of a {@link com.user.driven.operations.entities.FieldDefinition}
+ * with its Java type resolved and its validation rules parsed.
+ *
+ * @author Jatin Raheja
+ */
+@Getter
+@Builder
+public class FieldModel {
+
+	/**
+	 * The field name as defined by the user.
+	 */
+	private final String name;
+
+	/**
+	 * Name of the generated Java field.
+	 */
+	private final String variableName;
+
+	/**
+	 * Capitalized field name, used in accessor method names.
+	 */
+	private final String capitalizedName;
+
+	/**
+	 * Simple name of the resolved Java type, e.g. {@code LocalDate}.
+	 */
+	private final String javaType;
+
+	private final boolean primaryKey;
+
+	private final boolean unique;
+
+	private final boolean nullable;
+
+	/**
+	 * The raw validation rules, or null if none were given.
+	 */
+	private final String validationRules;
+
+	/**
+	 * Whether the validation rules contain {@code email}.
+	 */
+	private final boolean email;
+
+	/**
+	 * Value of the {@code min=} validation rule, or null if absent.
+	 */
+	private final String minValue;
+
+	/**
+	 * Value of the {@code max=} validation rule, or null if absent.
+	 */
+	private final String maxValue;
+
+	/**
+	 * Whether min/max rules translate to {@code @Size} (text types).
+	 */
+	private final boolean sizeConstrained;
+
+	/**
+	 * Whether min/max rules translate to {@code @Min}/{@code @Max} (numeric types).
+	 */
+	private final boolean rangeConstrained;
+}
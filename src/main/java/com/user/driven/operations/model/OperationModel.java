@@ -0,0 +1,26 @@
+package com.user.driven.operations.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Immutable view of an {@link com.user.driven.operations.entities.OperationConfig}
+ * used by the per-entity code generation templates.
+ *
+ * @author Jatin Raheja
+ */
+@Getter
+@Builder
+public class OperationModel {
+
+	/**
+	 * Name of the {@link com.user.driven.operations.enums.OperationType}.
+	 */
+	private final String operationType;
+
+	private final boolean enabled;
+
+	private final String customLogic;
+
+	private final String parameters;
+}
@@ -0,0 +1,90 @@
+package com.user.driven.operations.model;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Immutable, precomputed view of a {@link com.user.driven.operations.entities.ProjectDefinition}
+ * used as the data model of the code generation templates.
+ * <p>
+ * All derived names and paths are computed once per generation, so templates
+ * only read plain values and never touch JPA entities or lazy proxies.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+@Getter
+@Builder
+public class ProjectModel {
+
+	/**
+	 * The project name as defined by the user.
+	 */
+	private final String name;
+
+	/**
+	 * The project description, or null if none was given.
+	 */
+	private final String description;
+
+	/**
+	 * Base package of the generated sources, e.g. {@code com.example.shop}.
+	 */
+	private final String packageName;
+
+	/**
+	 * Directory of the base package below {@code src/main/java}, e.g.
+	 * {@code com/example/shop}.
+	 */
+	private final String packagePath;
+
+	/**
+	 * Maven artifact id derived from the project name.
+	 */
+	private final String artifactId;
+
+	/**
+	 * Database (schema) name derived from the project name.
+	 */
+	private final String databaseName;
+
+	/**
+	 * Simple name of the main application class.
+	 */
+	private final String applicationClassName;
+
+	/**
+	 * File name (without extension) of the main application class.
+	 */
+	private final String applicationFileName;
+
+	/**
+	 * Name of the selected {@link com.user.driven.operations.enums.DatabaseType}.
+	 */
+	private final String databaseType;
+
+	private final boolean securityEnabled;
+
+	/**
+	 * Name of the selected {@link com.user.driven.operations.enums.SecurityType},
+	 * or null if none was chosen.
+	 */
+	private final String securityType;
+
+	private final boolean cachingEnabled;
+
+	private final boolean swaggerEnabled;
+
+	/**
+	 * Fingerprint of the project-level settings, which are the only project
+	 * inputs of every generated file.
+	 */
+	private final String settingsFingerprint;
+
+	/**
+	 * The entities of the project, in definition order.
+	 */
+	private final List<EntityModel> entities;
+}
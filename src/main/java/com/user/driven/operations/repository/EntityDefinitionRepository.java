@@ -1,9 +1,11 @@
 package com.user.driven.operations.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,7 +20,8 @@ import com.user.driven.operations.entities.EntityDefinition;
  * @author: Jatin Raheja
  */
 @Repository
-public interface EntityDefinitionRepository extends JpaRepository<EntityDefinition, Long> {
+public interface EntityDefinitionRepository
+		extends JpaRepository<EntityDefinition, Long>, EntityDefinitionRepositoryCustom {
 
 	/**
 	 * Retrieves a list of entity definitions for a given project ID.
@@ -59,6 +62,75 @@ public interface EntityDefinitionRepository extends JpaRepository<EntityDefiniti
 	@Query("SELECT DISTINCT e FROM EntityDefinition e LEFT JOIN FETCH e.operations WHERE e.id = :id")
 	Optional<EntityDefinition> findByIdWithOperations(@Param("id") Long id);
 
+	/**
+	 * Retrieves all entity definitions of a project along with their fields using
+	 * a fetch join. Entities already loaded in the persistence context get their
+	 * field collections initialized.
+	 *
+	 * @param projectId the ID of the project
+	 * @return list of entity definitions with fields for the specified project
+	 */
+	@Query("SELECT DISTINCT e FROM EntityDefinition e LEFT JOIN FETCH e.fields WHERE e.project.id = :projectId")
+	List<EntityDefinition> findByProjectIdWithFields(@Param("projectId") Long projectId);
+
+	/**
+	 * Retrieves all entity definitions of a project along with their operations
+	 * using a fetch join. Entities already loaded in the persistence context get
+	 * their operation collections initialized.
+	 *
+	 * @param projectId the ID of the project
+	 * @return list of entity definitions with operations for the specified project
+	 */
+	@Query("SELECT DISTINCT e FROM EntityDefinition e LEFT JOIN FETCH e.operations WHERE e.project.id = :projectId")
+	List<EntityDefinition> findByProjectIdWithOperations(@Param("projectId") Long projectId);
+
+	/**
+	 * Retrieves the entities of several projects with their fields eagerly
+	 * fetched, in one query.
+	 *
+	 * @param projectIds the IDs of the projects
+	 * @return list of entity definitions with fields for the specified projects
+	 */
+	@Query("SELECT DISTINCT e FROM EntityDefinition e LEFT JOIN FETCH e.fields WHERE e.project.id IN :projectIds")
+	List<EntityDefinition> findByProjectIdInWithFields(@Param("projectIds") Collection<Long> projectIds);
+
+	/**
+	 * Retrieves the entities of several projects with their operations eagerly
+	 * fetched, in one query.
+	 *
+	 * @param projectIds the IDs of the projects
+	 * @return list of entity definitions with operations for the specified
+	 *         projects
+	 */
+	@Query("SELECT DISTINCT e FROM EntityDefinition e LEFT JOIN FETCH e.operations WHERE e.project.id IN :projectIds")
+	List<EntityDefinition> findByProjectIdInWithOperations(@Param("projectIds") Collection<Long> projectIds);
+
+	/**
+	 * Retrieves the entities of a project with the given names, with their
+	 * fields eagerly fetched, in one query.
+	 *
+	 * @param projectId the ID of the project
+	 * @param names     the entity names to look up
+	 * @return the entity definitions with fields that exist under these names
+	 */
+	@Query("SELECT DISTINCT e FROM EntityDefinition e LEFT JOIN FETCH e.fields "
+			+ "WHERE e.project.id = :projectId AND e.name IN :names")
+	List<EntityDefinition> findByProjectIdAndNameInWithFields(@Param("projectId") Long projectId,
+			@Param("names") Collection<String> names);
+
+	/**
+	 * Retrieves the entities of a project with the given names, with their
+	 * operations eagerly fetched, in one query.
+	 *
+	 * @param projectId the ID of the project
+	 * @param names     the entity names to look up
+	 * @return the entity definitions with operations that exist under these names
+	 */
+	@Query("SELECT DISTINCT e FROM EntityDefinition e LEFT JOIN FETCH e.operations "
+			+ "WHERE e.project.id = :projectId AND e.name IN :names")
+	List<EntityDefinition> findByProjectIdAndNameInWithOperations(@Param("projectId") Long projectId,
+			@Param("names") Collection<String> names);
+
 	/**
 	 * Retrieves entity definitions by project ID without fetching associated
 	 * collections.
@@ -77,4 +149,36 @@ public interface EntityDefinitionRepository extends JpaRepository<EntityDefiniti
 	 * @return true if such an entity exists, false otherwise
 	 */
 	boolean existsByNameAndProjectId(String name, Long projectId);
-}
\ No newline at end of file
+
+	/**
+	 * Retrieves the ID of the project an entity belongs to, without loading the
+	 * entity.
+	 *
+	 * @param id the ID of the entity
+	 * @return an Optional containing the project ID if the entity exists
+	 */
+	@Query("SELECT e.project.id FROM EntityDefinition e WHERE e.id = :id")
+	Optional<Long> findProjectIdById(@Param("id") Long id);
+
+	/**
+	 * Deletes an entity definition with a single statement. Its fields and
+	 * operations must have been deleted before.
+	 *
+	 * @param id the ID of the entity
+	 * @return the number of deleted rows
+	 */
+	@Modifying
+	@Query("DELETE FROM EntityDefinition e WHERE e.id = :id")
+	int deleteEntityById(@Param("id") Long id);
+
+	/**
+	 * Deletes all entity definitions of a project with a single statement. Their
+	 * fields and operations must have been deleted before.
+	 *
+	 * @param projectId the ID of the project
+	 * @return the number of deleted rows
+	 */
+	@Modifying
+	@Query("DELETE FROM EntityDefinition e WHERE e.project.id = :projectId")
+	int deleteAllByProjectId(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,33 @@
+package com.user.driven.operations.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+
+import com.user.driven.operations.dto.EntitySummaryDto;
+import com.user.driven.operations.enums.SummarySort;
+import com.user.driven.operations.utils.KeysetCursor;
+
+/**
+ * Custom query methods of {@link EntityDefinitionRepository}.
+ *
+ * @author Jatin Raheja
+ */
+public interface EntityDefinitionRepositoryCustom {
+
+	/**
+	 * Lists the entity summaries of a project after a keyset cursor with a single
+	 * query.
+	 *
+	 * @param projectId the ID of the project
+	 * @param name      case-insensitive filter on the entity name, or null
+	 * @param sort      the sort key
+	 * @param direction the sort direction
+	 * @param after     the cursor to continue after, or null for the first page
+	 * @param pageSize  the page size; one extra row is fetched to detect a
+	 *                  following page
+	 * @return up to {@code pageSize + 1} summaries in listing order
+	 */
+	List<EntitySummaryDto> findSummaries(Long projectId, String name, SummarySort sort, Sort.Direction direction,
+			KeysetCursor after, int pageSize);
+}
@@ -0,0 +1,39 @@
+package com.user.driven.operations.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+
+import com.user.driven.operations.dto.EntitySummaryDto;
+import com.user.driven.operations.enums.SummarySort;
+import com.user.driven.operations.utils.KeysetCursor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Implementation of {@link EntityDefinitionRepositoryCustom}.
+ *
+ * @author Jatin Raheja
+ */
+public class EntityDefinitionRepositoryCustomImpl implements EntityDefinitionRepositoryCustom {
+
+	private static final String SUMMARY_SELECT = "SELECT new com.user.driven.operations.dto.EntitySummaryDto("
+			+ "e.id, e.name, (SELECT COUNT(f) FROM FieldDefinition f WHERE f.entity = e), "
+			+ "(SELECT COUNT(o) FROM OperationConfig o WHERE o.entity = e), e.updatedAt) "
+			+ "FROM EntityDefinition e";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<EntitySummaryDto> findSummaries(Long projectId, String name, SummarySort sort,
+			Sort.Direction direction, KeysetCursor after, int pageSize) {
+		return new KeysetQuery<EntitySummaryDto>(SUMMARY_SELECT, "e").where("e.project.id = :projectId", "projectId",
+				projectId).nameContains(name).fetch(entityManager, EntitySummaryDto.class, sort, direction, after,
+						pageSize);
+	}
+}
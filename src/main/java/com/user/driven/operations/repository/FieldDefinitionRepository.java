@@ -3,6 +3,9 @@ package com.user.driven.operations.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.user.driven.operations.entities.FieldDefinition;
@@ -34,4 +37,27 @@ public interface FieldDefinitionRepository extends JpaRepository<FieldDefinition
 	 * @return true if such a field exists, false otherwise
 	 */
 	boolean existsByNameAndEntityId(String name, Long entityId);
+
+	/**
+	 * Deletes all field definitions of an entity with a single statement, without
+	 * loading them.
+	 *
+	 * @param entityId the ID of the entity
+	 * @return the number of deleted rows
+	 */
+	@Modifying
+	@Query("DELETE FROM FieldDefinition f WHERE f.entity.id = :entityId")
+	int deleteAllByEntityId(@Param("entityId") Long entityId);
+
+	/**
+	 * Deletes all field definitions of all entities of a project with a single
+	 * statement, without loading them.
+	 *
+	 * @param projectId the ID of the project
+	 * @return the number of deleted rows
+	 */
+	@Modifying
+	@Query("DELETE FROM FieldDefinition f WHERE f.entity.id IN "
+			+ "(SELECT e.id FROM EntityDefinition e WHERE e.project.id = :projectId)")
+	int deleteAllByProjectId(@Param("projectId") Long projectId);
 }
@@ -0,0 +1,95 @@
+package com.user.driven.operations.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Sort;
+
+import com.user.driven.operations.enums.SummarySort;
+import com.user.driven.operations.utils.KeysetCursor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Builds keyset-paginated listing queries. Instead of an OFFSET, the query
+ * seeks past the cursor with a predicate on {@code (sort key, id)}, which an
+ * index on the same columns answers without scanning the skipped rows.
+ *
+ * @author Jatin Raheja
+ */
+final class KeysetQuery<T> {
+
+	private final String select;
+
+	private final String alias;
+
+	private final List<String> conditions = new ArrayList<>();
+
+	private final Map<String, Object> parameters = new HashMap<>();
+
+	/**
+	 * @param select the SELECT and FROM clauses of the query
+	 * @param alias  the alias of the listed entity in the FROM clause
+	 */
+	KeysetQuery(String select, String alias) {
+		this.select = select;
+		this.alias = alias;
+	}
+
+	KeysetQuery<T> where(String condition, String parameter, Object value) {
+		conditions.add(condition);
+		parameters.put(parameter, value);
+		return this;
+	}
+
+	/**
+	 * Restricts the listing to names containing the filter, ignoring case.
+	 */
+	KeysetQuery<T> nameContains(String name) {
+		if (name == null || name.isBlank()) {
+			return this;
+		}
+		String pattern = "%" + name.trim().toLowerCase().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_")
+				+ "%";
+		return where("LOWER(" + alias + ".name) LIKE :name ESCAPE '\\'", "name", pattern);
+	}
+
+	/**
+	 * Fetches the rows after the cursor, plus one to detect a following page.
+	 */
+	List<T> fetch(EntityManager entityManager, Class<T> type, SummarySort sort, Sort.Direction direction,
+			KeysetCursor after, int pageSize) {
+		String id = alias + ".id";
+		String key = alias + "." + sort.getProperty();
+		String operator = direction.isAscending() ? ">" : "<";
+		String order = direction.isAscending() ? " ASC" : " DESC";
+
+		if (after != null) {
+			if (sort == SummarySort.ID) {
+				where(id + " " + operator + " :lastId", "lastId", after.getLastId());
+			} else {
+				conditions.add("(" + key + " " + operator + " :lastValue OR (" + key + " = :lastValue AND " + id + " "
+						+ operator + " :lastId))");
+				parameters.put("lastValue", after.getLastValue());
+				parameters.put("lastId", after.getLastId());
+			}
+		}
+
+		StringBuilder jpql = new StringBuilder(select);
+		if (!conditions.isEmpty()) {
+			jpql.append(" WHERE ").append(String.join(" AND ", conditions));
+		}
+		jpql.append(" ORDER BY ");
+		if (sort != SummarySort.ID) {
+			jpql.append(key).append(order).append(", ");
+		}
+		jpql.append(id).append(order);
+
+		TypedQuery<T> query = entityManager.createQuery(jpql.toString(), type);
+		parameters.forEach(query::setParameter);
+		return query.setMaxResults(pageSize + 1).getResultList();
+	}
+}
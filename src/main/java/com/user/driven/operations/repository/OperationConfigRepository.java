@@ -3,6 +3,9 @@ package com.user.driven.operations.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.user.driven.operations.entities.OperationConfig;
@@ -33,4 +36,27 @@ public interface OperationConfigRepository extends JpaRepository<OperationConfig
 	 * @return list of operation configurations matching the criteria
 	 */
 	List<OperationConfig> findByEntityIdAndEnabled(Long entityId, boolean enabled);
-}
\ No newline at end of file
+
+	/**
+	 * Deletes all operation configurations of an entity with a single statement, without
+	 * loading them.
+	 *
+	 * @param entityId the ID of the entity
+	 * @return the number of deleted rows
+	 */
+	@Modifying
+	@Query("DELETE FROM OperationConfig o WHERE o.entity.id = :entityId")
+	int deleteAllByEntityId(@Param("entityId") Long entityId);
+
+	/**
+	 * Deletes all operation configurations of all entities of a project with a single
+	 * statement, without loading them.
+	 *
+	 * @param projectId the ID of the project
+	 * @return the number of deleted rows
+	 */
+	@Modifying
+	@Query("DELETE FROM OperationConfig o WHERE o.entity.id IN "
+			+ "(SELECT e.id FROM EntityDefinition e WHERE e.project.id = :projectId)")
+	int deleteAllByProjectId(@Param("projectId") Long projectId);
+}
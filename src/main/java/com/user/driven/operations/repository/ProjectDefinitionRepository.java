@@ -1,14 +1,20 @@
 package com.user.driven.operations.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.user.driven.operations.entities.ProjectDefinition;
 
+import jakarta.persistence.LockModeType;
+
 /**
  * Repository interface for {@link ProjectDefinition} entity. Provides methods
  * for performing CRUD operations and custom queries related to project
@@ -17,7 +23,8 @@ import com.user.driven.operations.entities.ProjectDefinition;
  * @author Jatin Raheja
  */
 @Repository
-public interface ProjectDefinitionRepository extends JpaRepository<ProjectDefinition, Long> {
+public interface ProjectDefinitionRepository
+		extends JpaRepository<ProjectDefinition, Long>, ProjectDefinitionRepositoryCustom {
 
 	/**
 	 * Finds a project by its name.
@@ -44,4 +51,59 @@ public interface ProjectDefinitionRepository extends JpaRepository<ProjectDefini
 	@Query("SELECT DISTINCT p FROM ProjectDefinition p LEFT JOIN FETCH p.entities WHERE p.id = :id")
 	Optional<ProjectDefinition> findByIdWithEntities(@Param("id") Long id);
 
+	/**
+	 * Retrieves several projects along with their associated entities in one
+	 * query.
+	 *
+	 * @param ids the IDs of the projects
+	 * @return the projects with entities
+	 */
+	@Query("SELECT DISTINCT p FROM ProjectDefinition p LEFT JOIN FETCH p.entities WHERE p.id IN :ids")
+	List<ProjectDefinition> findByIdInWithEntities(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * Retrieves only the aggregate version of a project, for conditional requests
+	 * that must not load the project graph.
+	 *
+	 * @param id the ID of the project
+	 * @return an {@link Optional} containing the version if the project exists
+	 */
+	@Query("SELECT p.version FROM ProjectDefinition p WHERE p.id = :id")
+	Optional<Long> findVersionById(@Param("id") Long id);
+
+	/**
+	 * Retrieves a project and schedules an increment of its aggregate version at
+	 * flush time, for changes to its entities, fields or operations.
+	 *
+	 * @param id the ID of the project
+	 * @return an {@link Optional} containing the project if found, or empty otherwise
+	 */
+	@Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+	@Query("SELECT p FROM ProjectDefinition p WHERE p.id = :id")
+	Optional<ProjectDefinition> findByIdForVersionIncrement(@Param("id") Long id);
+
+	/**
+	 * Retrieves a project with a shared row lock held until the end of the
+	 * transaction, which keeps concurrent changes to its aggregate from
+	 * committing while it is being read.
+	 *
+	 * @param id the ID of the project
+	 * @return an {@link Optional} containing the project if found, or empty otherwise
+	 */
+	@Lock(LockModeType.PESSIMISTIC_READ)
+	@Query("SELECT p FROM ProjectDefinition p WHERE p.id = :id")
+	Optional<ProjectDefinition> findByIdForShare(@Param("id") Long id);
+
+	/**
+	 * Deletes a project with a single statement if it is still at the given
+	 * version. Its entities, fields and operations must have been deleted before.
+	 *
+	 * @param id      the ID of the project
+	 * @param version the expected aggregate version
+	 * @return the number of deleted rows, 0 if the project has changed
+	 */
+	@Modifying
+	@Query("DELETE FROM ProjectDefinition p WHERE p.id = :id AND p.version = :version")
+	int deleteByIdAndVersion(@Param("id") Long id, @Param("version") Long version);
+
 }
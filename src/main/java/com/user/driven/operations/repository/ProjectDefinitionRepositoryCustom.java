@@ -0,0 +1,55 @@
+package com.user.driven.operations.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+
+import com.user.driven.operations.dto.ProjectSummaryDto;
+import com.user.driven.operations.entities.ProjectDefinition;
+import com.user.driven.operations.enums.SummarySort;
+import com.user.driven.operations.utils.KeysetCursor;
+
+/**
+ * Custom query methods of {@link ProjectDefinitionRepository}.
+ *
+ * @author Jatin Raheja
+ */
+public interface ProjectDefinitionRepositoryCustom {
+
+	/**
+	 * Lists project summaries after a keyset cursor with a single query.
+	 *
+	 * @param name      case-insensitive filter on the project name, or null
+	 * @param sort      the sort key
+	 * @param direction the sort direction
+	 * @param after     the cursor to continue after, or null for the first page
+	 * @param pageSize  the page size; one extra row is fetched to detect a
+	 *                  following page
+	 * @return up to {@code pageSize + 1} summaries in listing order
+	 */
+	List<ProjectSummaryDto> findSummaries(String name, SummarySort sort, Sort.Direction direction, KeysetCursor after,
+			int pageSize);
+
+	/**
+	 * Copies a project with all its entities, fields and operations under a new
+	 * name, with one INSERT ... SELECT statement per table. New IDs are drawn
+	 * from the sequences of the tables; fields and operations are attached to
+	 * their copied entities by entity name, which is unique within a project.
+	 *
+	 * @param sourceProjectId the ID of the project to copy
+	 * @param name            the name of the copy
+	 * @return the ID of the copy
+	 */
+	Long cloneProject(Long sourceProjectId, String name);
+
+	/**
+	 * Streams all projects in ID order through a forward-only cursor. The
+	 * returned projects are read-only; the stream must be closed and consumed
+	 * inside a transaction.
+	 *
+	 * @param fetchSize the number of rows the driver fetches per round trip
+	 * @return the stream of projects
+	 */
+	Stream<ProjectDefinition> streamAll(int fetchSize);
+}
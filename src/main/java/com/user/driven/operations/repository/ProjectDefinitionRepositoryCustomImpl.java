@@ -0,0 +1,115 @@
+package com.user.driven.operations.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+
+import com.user.driven.operations.dto.ProjectSummaryDto;
+import com.user.driven.operations.entities.ProjectDefinition;
+import com.user.driven.operations.enums.SummarySort;
+import com.user.driven.operations.utils.KeysetCursor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Implementation of {@link ProjectDefinitionRepositoryCustom}.
+ *
+ * @author Jatin Raheja
+ */
+public class ProjectDefinitionRepositoryCustomImpl implements ProjectDefinitionRepositoryCustom {
+
+	private static final String SUMMARY_SELECT = "SELECT new com.user.driven.operations.dto.ProjectSummaryDto("
+			+ "p.id, p.name, (SELECT COUNT(e) FROM EntityDefinition e WHERE e.project = p), p.updatedAt) "
+			+ "FROM ProjectDefinition p";
+
+	private static final String CLONE_PROJECT = "INSERT INTO project_definitions (id, name, description, "
+			+ "package_name, database_type, security_enabled, security_type, caching_enabled, swagger_enabled, "
+			+ "custom_configuration, created_at, updated_at, version) "
+			+ "SELECT :targetId, :name, p.description, p.package_name, p.database_type, p.security_enabled, "
+			+ "p.security_type, p.caching_enabled, p.swagger_enabled, p.custom_configuration, :now, :now, 0 "
+			+ "FROM project_definitions p WHERE p.id = :sourceId";
+
+	private static final String CLONE_ENTITIES = "INSERT INTO entity_definitions (id, name, description, "
+			+ "project_id, created_at, updated_at) "
+			+ "SELECT %s, e.name, e.description, :targetId, :now, :now "
+			+ "FROM entity_definitions e WHERE e.project_id = :sourceId ORDER BY e.id";
+
+	private static final String CLONE_FIELDS = "INSERT INTO field_definitions (id, name, description, data_type, "
+			+ "field_type, validation_rules, relationship_type, relationship_target, nullable, default_value, "
+			+ "entity_id) "
+			+ "SELECT %s, f.name, f.description, f.data_type, f.field_type, f.validation_rules, "
+			+ "f.relationship_type, f.relationship_target, f.nullable, f.default_value, target.id "
+			+ "FROM field_definitions f JOIN entity_definitions source ON source.id = f.entity_id "
+			+ "JOIN entity_definitions target ON target.project_id = :targetId AND target.name = source.name "
+			+ "WHERE source.project_id = :sourceId ORDER BY f.id";
+
+	private static final String CLONE_OPERATIONS = "INSERT INTO operation_configs (id, operation_type, enabled, "
+			+ "custom_logic, parameters, entity_id) "
+			+ "SELECT %s, o.operation_type, o.enabled, o.custom_logic, o.parameters, target.id "
+			+ "FROM operation_configs o JOIN entity_definitions source ON source.id = o.entity_id "
+			+ "JOIN entity_definitions target ON target.project_id = :targetId AND target.name = source.name "
+			+ "WHERE source.project_id = :sourceId ORDER BY o.id";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<ProjectSummaryDto> findSummaries(String name, SummarySort sort, Sort.Direction direction,
+			KeysetCursor after, int pageSize) {
+		return new KeysetQuery<ProjectSummaryDto>(SUMMARY_SELECT, "p").nameContains(name).fetch(entityManager,
+				ProjectSummaryDto.class, sort, direction, after, pageSize);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Stream<ProjectDefinition> streamAll(int fetchSize) {
+		return entityManager.createQuery("SELECT p FROM ProjectDefinition p ORDER BY p.id", ProjectDefinition.class)
+				.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize).setHint(HibernateHints.HINT_READ_ONLY, true)
+				.getResultStream();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Every copied row takes the next sequence value as its ID. Hibernate's pooled
+	 * optimizer only hands out the block below a sequence value it fetched itself,
+	 * so these IDs never collide with IDs generated by the application.
+	 * </p>
+	 */
+	@Override
+	public Long cloneProject(Long sourceProjectId, String name) {
+		Dialect dialect = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+				.getJdbcServices().getDialect();
+		Long targetId = ((Number) entityManager
+				.createNativeQuery(dialect.getSequenceSupport().getSequenceNextValString("project_definitions_seq"))
+				.getSingleResult()).longValue();
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		entityManager.createNativeQuery(CLONE_PROJECT).setParameter("targetId", targetId).setParameter("name", name)
+				.setParameter("now", now).setParameter("sourceId", sourceProjectId).executeUpdate();
+		entityManager.createNativeQuery(withNextId(CLONE_ENTITIES, dialect, "entity_definitions_seq"))
+				.setParameter("targetId", targetId).setParameter("now", now).setParameter("sourceId", sourceProjectId)
+				.executeUpdate();
+		entityManager.createNativeQuery(withNextId(CLONE_FIELDS, dialect, "field_definitions_seq"))
+				.setParameter("targetId", targetId).setParameter("sourceId", sourceProjectId).executeUpdate();
+		entityManager.createNativeQuery(withNextId(CLONE_OPERATIONS, dialect, "operation_configs_seq"))
+				.setParameter("targetId", targetId).setParameter("sourceId", sourceProjectId).executeUpdate();
+		return targetId;
+	}
+
+	private static String withNextId(String statement, Dialect dialect, String sequence) {
+		return String.format(statement, dialect.getSequenceSupport().getSelectSequenceNextValString(sequence));
+	}
+}
@@ -3,8 +3,16 @@ package com.user.driven.operations.service;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+
+import com.user.driven.operations.dto.BatchItemResultDto;
+import com.user.driven.operations.dto.CursorPageDto;
+import com.user.driven.operations.dto.EntityChangeSetDto;
 import com.user.driven.operations.dto.EntityDefinitionDto;
+import com.user.driven.operations.dto.EntitySummaryDto;
 import com.user.driven.operations.entities.EntityDefinition;
+import com.user.driven.operations.enums.SummarySort;
 
 /**
  * Service interface for managing {@link EntityDefinition} operations. Defines
@@ -51,21 +59,81 @@ public interface EntityDefinitionService {
 	 */
 	List<EntityDefinition> getEntitiesByProjectId(Long projectId);
 
+	/**
+	 * Retrieves one page of the entity summaries of a project using keyset
+	 * pagination.
+	 *
+	 * @param projectId the ID of the project
+	 * @param name      case-insensitive filter on the entity name, or null
+	 * @param sort      the sort key
+	 * @param direction the sort direction
+	 * @param cursor    the cursor token of the previous page, or null for the
+	 *                  first page
+	 * @param limit     the requested page size, or null for the default
+	 * @return the page with the cursor of the next page, if any
+	 * @throws IllegalArgumentException if the cursor or page size is invalid
+	 */
+	CursorPageDto<EntitySummaryDto> getEntitySummaries(Long projectId, String name, SummarySort sort,
+			Sort.Direction direction, String cursor, Integer limit);
+
 	/**
 	 * Updates an existing entity with new details.
 	 *
-	 * @param id        the ID of the entity to update
-	 * @param entityDto the DTO containing updated entity details
+	 * @param id              the ID of the entity to update
+	 * @param entityDto       the DTO containing updated entity details
+	 * @param expectedVersion the version of the owning project the client last
+	 *                        saw, or null to update unconditionally
 	 * @return the updated {@link EntityDefinition}
+	 * @throws OptimisticLockingFailureException if the project has changed since
+	 *                                           the expected version
+	 */
+	EntityDefinition updateEntity(Long id, EntityDefinitionDto entityDto, Long expectedVersion);
+
+	/**
+	 * Merges an entity definition with its fields and operations. Fields are
+	 * matched by name and operations by type; only new, changed and dropped rows
+	 * are written. A null field or operation list leaves that collection as it
+	 * is, an empty one removes all its rows. A merge that changes nothing writes
+	 * nothing and leaves the project version as it is.
+	 *
+	 * @param id              the ID of the entity to merge
+	 * @param entityDto       the DTO with the desired entity state
+	 * @param expectedVersion the version of the owning project the client last
+	 *                        saw, or null to merge unconditionally
+	 * @return the rows the merge added, updated and removed
+	 * @throws IllegalArgumentException          if two fields share a name or
+	 *                                           two operations share a type
+	 * @throws OptimisticLockingFailureException if the project has changed since
+	 *                                           the expected version
+	 */
+	EntityChangeSetDto mergeEntity(Long id, EntityDefinitionDto entityDto, Long expectedVersion);
+
+	/**
+	 * Creates or merges many entities of a project in one transaction. Entities
+	 * are matched by name; existing ones are merged as by
+	 * {@link #mergeEntity}. Invalid items are skipped and reported without
+	 * affecting the others.
+	 *
+	 * @param projectId       the ID of the project
+	 * @param entityDtos      the entities with their fields and operations
+	 * @param expectedVersion the version of the project the client last saw, or
+	 *                        null to upsert unconditionally
+	 * @return one result per item, in request order
+	 * @throws OptimisticLockingFailureException if the project has changed since
+	 *                                           the expected version
 	 */
-	EntityDefinition updateEntity(Long id, EntityDefinitionDto entityDto);
+	List<BatchItemResultDto> upsertEntities(Long projectId, List<EntityDefinitionDto> entityDtos, Long expectedVersion);
 
 	/**
 	 * Deletes an entity by its ID.
 	 *
-	 * @param id the ID of the entity to delete
+	 * @param id              the ID of the entity to delete
+	 * @param expectedVersion the version of the owning project the client last
+	 *                        saw, or null to delete unconditionally
+	 * @throws OptimisticLockingFailureException if the project has changed since
+	 *                                           the expected version
 	 */
-	void deleteEntity(Long id);
+	void deleteEntity(Long id, Long expectedVersion);
 
 	/**
 	 * Checks if an entity with the specified name exists within a project.
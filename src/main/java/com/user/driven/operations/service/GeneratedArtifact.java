@@ -0,0 +1,43 @@
+package com.user.driven.operations.service;
+
+import java.nio.file.Path;
+
+import com.user.driven.operations.entities.ProjectDefinition;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Describes the downloadable ZIP artifact of a project, resolved before any
+ * bytes are written so that the caller can answer conditional requests.
+ *
+ * @author Jatin Raheja
+ */
+@Getter
+@AllArgsConstructor
+public class GeneratedArtifact {
+
+	/**
+	 * The loaded project aggregate the artifact is generated from.
+	 */
+	private final ProjectDefinition project;
+
+	/**
+	 * Content fingerprint of the project aggregate and template set.
+	 */
+	private final String fingerprint;
+
+	/**
+	 * The cached artifact file, or null if the artifact still has to be generated.
+	 */
+	private final Path cachedFile;
+
+	/**
+	 * Returns the strong entity tag of the artifact.
+	 *
+	 * @return the quoted fingerprint
+	 */
+	public String getETag() {
+		return "\"" + fingerprint + "\"";
+	}
+}
@@ -0,0 +1,134 @@
+package com.user.driven.operations.service;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.user.driven.operations.enums.GenerationJobStatus;
+
+import lombok.Getter;
+
+/**
+ * An asynchronous project generation job. The job is updated by the
+ * generation worker and read concurrently by status requests.
+ *
+ * @author Jatin Raheja
+ */
+@Getter
+public class GenerationJob implements GenerationProgressListener {
+
+	/**
+	 * Unique identifier of the job.
+	 */
+	private final String id;
+
+	/**
+	 * The ID of the project being generated.
+	 */
+	private final Long projectId;
+
+	private final Instant submittedAt = Instant.now();
+
+	private volatile GenerationJobStatus status = GenerationJobStatus.QUEUED;
+
+	private volatile Instant startedAt;
+
+	private volatile Instant finishedAt;
+
+	/**
+	 * Number of files the project consists of, known once generation started.
+	 */
+	private volatile int totalFiles;
+
+	private final AtomicInteger generatedFiles = new AtomicInteger();
+
+	/**
+	 * Content fingerprint of the generated archive, available once the job
+	 * succeeded. The archive is looked up by it in the artifact cache; the
+	 * project aggregate it was generated from is not kept.
+	 */
+	private volatile String resultFingerprint;
+
+	/**
+	 * Name of the generated project, available once the job succeeded.
+	 */
+	private volatile String projectName;
+
+	/**
+	 * The failure reason, if the job failed.
+	 */
+	private volatile String errorMessage;
+
+	public GenerationJob(String id, Long projectId) {
+		this.id = id;
+		this.projectId = projectId;
+	}
+
+	/**
+	 * Returns the number of files generated so far.
+	 *
+	 * @return the generated file count
+	 */
+	public int getGeneratedFiles() {
+		return generatedFiles.get();
+	}
+
+	/**
+	 * Returns the progress of the job in percent.
+	 *
+	 * @return a value between 0 and 100
+	 */
+	public int getProgress() {
+		if (status == GenerationJobStatus.SUCCEEDED) {
+			return 100;
+		}
+		int total = totalFiles;
+		return total == 0 ? 0 : Math.min(99, getGeneratedFiles() * 100 / total);
+	}
+
+	/**
+	 * Indicates whether the job reached a final state.
+	 *
+	 * @return true if the job succeeded or failed
+	 */
+	public boolean isFinished() {
+		return status == GenerationJobStatus.SUCCEEDED || status == GenerationJobStatus.FAILED;
+	}
+
+	@Override
+	public void onStart(int totalFiles) {
+		this.totalFiles = totalFiles;
+	}
+
+	@Override
+	public void onFileGenerated() {
+		generatedFiles.incrementAndGet();
+	}
+
+	public void markRunning() {
+		startedAt = Instant.now();
+		status = GenerationJobStatus.RUNNING;
+	}
+
+	/**
+	 * Returns the strong entity tag of the generated archive.
+	 *
+	 * @return the quoted result fingerprint, or null if the job has not succeeded
+	 */
+	public String getResultETag() {
+		String fingerprint = resultFingerprint;
+		return fingerprint == null ? null : "\"" + fingerprint + "\"";
+	}
+
+	public void markSucceeded(GeneratedArtifact artifact) {
+		this.resultFingerprint = artifact.getFingerprint();
+		this.projectName = artifact.getProject().getName();
+		finishedAt = Instant.now();
+		status = GenerationJobStatus.SUCCEEDED;
+	}
+
+	public void markFailed(String errorMessage) {
+		this.errorMessage = errorMessage;
+		finishedAt = Instant.now();
+		status = GenerationJobStatus.FAILED;
+	}
+}
@@ -0,0 +1,71 @@
+package com.user.driven.operations.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Service interface for asynchronous project generation. Jobs run on a
+ * dedicated bounded executor, so long-running generations never occupy request
+ * threads.
+ *
+ * @author Jatin Raheja
+ */
+public interface GenerationJobService {
+
+	/**
+	 * Queues a generation job for a project.
+	 *
+	 * @param projectId the ID of the project definition
+	 * @return the queued job
+	 * @throws RejectedExecutionException if the job queue is full
+	 * @throws RuntimeException           if the project does not exist
+	 */
+	GenerationJob submitJob(Long projectId);
+
+	/**
+	 * Retrieves a job by its ID.
+	 *
+	 * @param jobId the ID of the job
+	 * @return an Optional containing the job if it exists and has not expired
+	 */
+	Optional<GenerationJob> getJob(String jobId);
+
+	/**
+	 * Checks whether the ZIP archive produced by a succeeded job can still be
+	 * served: from the artifact cache, or by generating it again while the
+	 * project is still at the version the job generated.
+	 *
+	 * @param job a job in state SUCCEEDED
+	 * @return true if {@link #writeResult(GenerationJob, OutputStream)} can
+	 *         write the archive
+	 */
+	boolean isResultAvailable(GenerationJob job);
+
+	/**
+	 * Returns the cached ZIP archive produced by a succeeded job.
+	 *
+	 * @param job a job in state SUCCEEDED
+	 * @return the archive file, or empty if it is no longer cached
+	 */
+	Optional<Path> getResultFile(GenerationJob job);
+
+	/**
+	 * Writes the ZIP archive produced by a succeeded job.
+	 *
+	 * @param job          a job in state SUCCEEDED
+	 * @param outputStream the stream receiving the ZIP archive; it is not closed
+	 * @throws IOException if an error occurs while writing the archive
+	 */
+	void writeResult(GenerationJob job, OutputStream outputStream) throws IOException;
+
+	/**
+	 * Returns the number of seconds clients should wait before resubmitting a
+	 * rejected job.
+	 *
+	 * @return the retry delay in seconds
+	 */
+	long getRetryAfterSeconds();
+}
@@ -0,0 +1,22 @@
+package com.user.driven.operations.service;
+
+/**
+ * Receives progress notifications while a project is being generated.
+ * Notifications may arrive from generation worker threads.
+ *
+ * @author Jatin Raheja
+ */
+public interface GenerationProgressListener {
+
+	/**
+	 * Called once before the first file is generated.
+	 *
+	 * @param totalFiles the number of files the project consists of
+	 */
+	void onStart(int totalFiles);
+
+	/**
+	 * Called after each file has been generated or found unchanged.
+	 */
+	void onFileGenerated();
+}
@@ -0,0 +1,40 @@
+package com.user.driven.operations.service;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import com.user.driven.operations.enums.GenerationRejectionReason;
+
+/**
+ * Thrown when a synchronous generation request is turned away by the
+ * generation bulkhead, either before it starts or because it ran out of CPU
+ * time.
+ *
+ * @author Jatin Raheja
+ */
+public class GenerationRejectedException extends RejectedExecutionException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final GenerationRejectionReason reason;
+
+	private final long retryAfterSeconds;
+
+	/**
+	 * @param reason            why the request was turned away
+	 * @param retryAfterSeconds how long the client should wait before retrying
+	 * @param cause             the underlying failure, or null
+	 */
+	public GenerationRejectedException(GenerationRejectionReason reason, long retryAfterSeconds, Throwable cause) {
+		super("Generation rejected: " + reason, cause);
+		this.reason = reason;
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public GenerationRejectionReason getReason() {
+		return reason;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
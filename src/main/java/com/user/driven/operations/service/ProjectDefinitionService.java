@@ -3,8 +3,14 @@ package com.user.driven.operations.service;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+
+import com.user.driven.operations.dto.CursorPageDto;
 import com.user.driven.operations.dto.ProjectDefinitionDto;
+import com.user.driven.operations.dto.ProjectSummaryDto;
 import com.user.driven.operations.entities.ProjectDefinition;
+import com.user.driven.operations.enums.SummarySort;
 
 /**
  * Service interface for managing {@link ProjectDefinition}. Provides methods to
@@ -45,21 +51,86 @@ public interface ProjectDefinitionService {
 	 */
 	List<ProjectDefinition> getAllProjects();
 
+	/**
+	 * Retrieves one page of project summaries using keyset pagination.
+	 *
+	 * @param name      case-insensitive filter on the project name, or null
+	 * @param sort      the sort key
+	 * @param direction the sort direction
+	 * @param cursor    the cursor token of the previous page, or null for the
+	 *                  first page
+	 * @param limit     the requested page size, or null for the default
+	 * @return the page with the cursor of the next page, if any
+	 * @throws IllegalArgumentException if the cursor or page size is invalid
+	 */
+	CursorPageDto<ProjectSummaryDto> getProjectSummaries(String name, SummarySort sort, Sort.Direction direction,
+			String cursor, Integer limit);
+
+	/**
+	 * Retrieves the aggregate version of a project without loading it.
+	 *
+	 * @param id the project ID
+	 * @return an {@link Optional} containing the version or empty if not found
+	 */
+	Optional<Long> getProjectVersion(Long id);
+
+	/**
+	 * Evicts the cached aggregate of a project, e.g. after it turned out to be
+	 * older than the current version.
+	 *
+	 * @param id the project ID
+	 */
+	void evictProjectAggregate(Long id);
+
 	/**
 	 * Updates an existing project with new data.
 	 *
-	 * @param id         the project ID to update
-	 * @param projectDto the updated project data
+	 * @param id              the project ID to update
+	 * @param projectDto      the updated project data
+	 * @param expectedVersion the aggregate version the client last saw, or null
+	 *                        to update unconditionally
 	 * @return the updated {@link ProjectDefinition}
+	 * @throws OptimisticLockingFailureException if the project has changed since
+	 *                                           the expected version
 	 */
-	ProjectDefinition updateProject(Long id, ProjectDefinitionDto projectDto);
+	ProjectDefinition updateProject(Long id, ProjectDefinitionDto projectDto, Long expectedVersion);
 
 	/**
 	 * Deletes a project by its ID.
 	 *
-	 * @param id the project ID
+	 * @param id              the project ID
+	 * @param expectedVersion the aggregate version the client last saw, or null
+	 *                        to delete unconditionally
+	 * @throws OptimisticLockingFailureException if the project has changed since
+	 *                                           the expected version
+	 */
+	void deleteProject(Long id, Long expectedVersion);
+
+	/**
+	 * Copies a project with all its entities, fields and operations under a new
+	 * name, without loading them into memory.
+	 *
+	 * @param id   the ID of the project to copy
+	 * @param name the name of the copy
+	 * @return the copied project
+	 * @throws IllegalArgumentException if a project with the name already exists
+	 */
+	ProjectDefinition cloneProject(Long id, String name);
+
+	/**
+	 * Loads a project for a change to one of its entities, fields or operations.
+	 * The aggregate version is incremented when the transaction flushes, the
+	 * cached aggregate is evicted and the definition snapshot is refreshed on
+	 * commit.
+	 *
+	 * @param id              the project ID
+	 * @param expectedVersion the aggregate version the client last saw, or null
+	 *                        to change unconditionally
+	 * @return the project being changed
+	 * @throws OptimisticLockingFailureException if the project has changed since
+	 *                                           the expected version
 	 */
-	void deleteProject(Long id);
+	ProjectDefinition lockForChange(Long id, Long expectedVersion);
 
 	/**
 	 * Checks if a project with the given name already exists.
@@ -0,0 +1,23 @@
+package com.user.driven.operations.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for exporting all project definitions as a stream.
+ *
+ * @author Jatin Raheja
+ */
+public interface ProjectExportService {
+
+	/**
+	 * Writes every project with its entities, fields and operations to a stream,
+	 * in the JSON form of {@code ProjectDefinitionDto} and in ID order.
+	 *
+	 * @param outputStream the stream to write to; it is not closed
+	 * @param ndjson       true to write one project per line (NDJSON), false to
+	 *                     write a JSON array
+	 * @throws IOException if an error occurs while writing
+	 */
+	void exportProjects(OutputStream outputStream, boolean ndjson) throws IOException;
+}
@@ -1,6 +1,8 @@
 package com.user.driven.operations.service;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.SeekableByteChannel;
 
 /**
  * Service interface for generating and downloading Spring Boot projects based
@@ -13,20 +15,76 @@ public interface ProjectGenerationService {
 
 	/**
 	 * Generates a Spring Boot project structure and files based on the provided
-	 * project ID.
+	 * project ID. The generation runs inside the generation bulkhead.
 	 *
 	 * @param projectId the ID of the project definition
 	 * @return the file path where the project was generated
-	 * @throws IOException if an error occurs during project generation
+	 * @throws IOException                 if an error occurs during project
+	 *                                     generation
+	 * @throws GenerationRejectedException if the bulkhead turned the generation
+	 *                                     away
 	 */
 	String generateProject(Long projectId) throws IOException;
 
 	/**
-	 * Downloads the generated project as a ZIP file.
+	 * Resolves the downloadable artifact of a project: loads the project
+	 * aggregate, computes its content fingerprint and looks up a cached archive.
 	 *
 	 * @param projectId the ID of the project definition
-	 * @return a byte array representing the ZIP file content
-	 * @throws IOException if an error occurs while creating the ZIP archive
+	 * @return the artifact descriptor
 	 */
-	byte[] downloadProject(Long projectId) throws IOException;
+	GeneratedArtifact prepareDownload(Long projectId);
+
+	/**
+	 * Opens the ZIP archive of a previously resolved artifact for reading. A cached
+	 * archive is opened as is; otherwise the project is generated into a file
+	 * inside the generation bulkhead first, and the slot is released as soon as
+	 * the archive is complete. Concurrent calls for the same project version share
+	 * one generation. The returned archive is complete, so reading it no longer
+	 * depends on the generation or on other callers.
+	 *
+	 * @param artifact the artifact returned by {@link #prepareDownload(Long)}
+	 * @return the archive, to be closed by the caller once it has been read
+	 * @throws IOException                 if an error occurs while generating the
+	 *                                     archive
+	 * @throws GenerationRejectedException if the bulkhead turned the generation
+	 *                                     away
+	 */
+	SeekableByteChannel openDownload(GeneratedArtifact artifact) throws IOException;
+
+	/**
+	 * Writes a previously resolved artifact as a ZIP archive, opening it with
+	 * {@link #openDownload(GeneratedArtifact)}.
+	 *
+	 * @param artifact     the artifact returned by {@link #prepareDownload(Long)}
+	 * @param outputStream the stream receiving the ZIP archive; it is not closed
+	 * @throws IOException                 if an error occurs while generating or
+	 *                                     writing the archive
+	 * @throws GenerationRejectedException if the bulkhead turned the generation
+	 *                                     away
+	 */
+	void writeDownload(GeneratedArtifact artifact, OutputStream outputStream) throws IOException;
+
+	/**
+	 * Generates a previously resolved artifact into the artifact cache, unless it
+	 * is cached already, and reports the progress to the listener. If the cache
+	 * is disabled the artifact is returned as is and generated when written.
+	 *
+	 * @param artifact the artifact returned by {@link #prepareDownload(Long)}
+	 * @param listener the listener receiving generation progress
+	 * @return the artifact, referencing the cached file if it could be cached
+	 * @throws IOException if an error occurs while generating the archive
+	 */
+	GeneratedArtifact buildArtifact(GeneratedArtifact artifact, GenerationProgressListener listener)
+			throws IOException;
+
+	/**
+	 * Generates the project, unless its archive is cached, and writes it as a ZIP
+	 * archive like {@link #writeDownload(GeneratedArtifact, OutputStream)}.
+	 *
+	 * @param projectId    the ID of the project definition
+	 * @param outputStream the stream receiving the ZIP archive; it is not closed
+	 * @throws IOException if an error occurs while generating or writing the archive
+	 */
+	void downloadProject(Long projectId, OutputStream outputStream) throws IOException;
 }
\ No newline at end of file
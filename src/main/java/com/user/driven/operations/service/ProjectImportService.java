@@ -0,0 +1,31 @@
+package com.user.driven.operations.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.user.driven.operations.dto.ProjectImportDto;
+
+/**
+ * Service interface for importing large project definitions from JSON without
+ * holding the whole definition in memory.
+ *
+ * @author Jatin Raheja
+ */
+public interface ProjectImportService {
+
+	/**
+	 * Imports a project definition in the JSON form of a
+	 * {@code ProjectDefinitionDto}, reading and persisting its entities one at a
+	 * time. The project attributes must precede the {@code entities} array. The
+	 * import is all or nothing.
+	 *
+	 * @param json the JSON document
+	 * @return a summary of the imported project
+	 * @throws IllegalArgumentException if the document is not a valid project
+	 *                                  definition
+	 * @throws org.springframework.dao.DuplicateKeyException if a project with the
+	 *                                  name already exists
+	 * @throws IOException              if the document cannot be read or parsed
+	 */
+	ProjectImportDto importProject(InputStream json) throws IOException;
+}
@@ -1,83 +1,243 @@
 package com.user.driven.operations.serviceimpl;
 
 import java.io.IOException;
-import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import com.user.driven.operations.entities.EntityDefinition;
 import com.user.driven.operations.entities.ProjectDefinition;
+import com.user.driven.operations.mapper.RenderModelMapper;
+import com.user.driven.operations.model.EntityModel;
+import com.user.driven.operations.model.ProjectModel;
+import com.user.driven.operations.utils.CpuBudget;
+import com.user.driven.operations.utils.CpuBudgetExceededException;
+import com.user.driven.operations.utils.FingerprintUtils;
 
-import freemarker.template.Configuration;
-import freemarker.template.Template;
-import freemarker.template.TemplateException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 
 /**
  * CodeGenerator is responsible for generating a complete Java Spring Boot project
- * based on provided metadata using Freemarker templates.
+ * based on provided metadata using the Freemarker templates of the
+ * {@link TemplateRegistry}.
  * It supports generation of entities, repositories, services, controllers,
  * configurations, and security mechanisms.
- * 
+ * <p>
+ * Rendered files are handed to a {@link GeneratedFileSink}, so the same
+ * generation run can target a directory on disk or a ZIP stream.
+ * </p>
+ * <p>
+ * Templates are rendered from an immutable {@link ProjectModel} that is built
+ * once per generation, so no template touches a JPA entity.
+ * </p>
+ *
  * @author Jatin Raheja
  */
 @Component
 public class CodeGenerator {
 
-	private final Configuration freemarkerConfig;
+	private static final Logger log = LoggerFactory.getLogger(CodeGenerator.class);
+
+	@Autowired
+	private TemplateRegistry templateRegistry;
+
+	@Autowired
+	private FingerprintUtils fingerprintUtils;
+
+	@Autowired
+	private RenderModelMapper renderModelMapper;
+
+	/**
+	 * Whether generation into a directory only rewrites files whose inputs
+	 * changed since the previous run.
+	 */
+	@Value("${app.generation.incremental-enabled:true}")
+	private boolean incrementalEnabled;
+
+	/**
+	 * Whether entity files are rendered on the worker pool instead of the calling
+	 * thread.
+	 */
+	@Value("${app.generation.parallel-enabled:true}")
+	private boolean parallelEnabled;
+
+	/**
+	 * Number of worker threads used for parallel entity rendering. A value of zero
+	 * or less falls back to the number of available processors.
+	 */
+	@Value("${app.generation.parallelism:0}")
+	private int parallelism;
+
+	/**
+	 * Bounded worker pool shared by all generation calls.
+	 */
+	private ExecutorService workerPool;
+
+	/**
+	 * Creates the worker pool once the generation properties have been injected.
+	 */
+	@PostConstruct
+	void initWorkerPool() {
+		if (parallelism <= 0) {
+			parallelism = Runtime.getRuntime().availableProcessors();
+		}
+		if (parallelEnabled && parallelism > 1) {
+			AtomicInteger threadCount = new AtomicInteger();
+			ThreadFactory threadFactory = runnable -> {
+				Thread thread = new Thread(runnable, "generation-worker-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			};
+			workerPool = Executors.newFixedThreadPool(parallelism, threadFactory);
+		}
+	}
 
 	/**
-	 * Constructor initializes Freemarker configuration for template processing.
+	 * Stops the worker pool when the application context shuts down.
 	 */
-	public CodeGenerator() {
-		this.freemarkerConfig = new Configuration(Configuration.VERSION_2_3_32);
-		this.freemarkerConfig.setClassForTemplateLoading(this.getClass(), "/templates");
-		this.freemarkerConfig.setDefaultEncoding("UTF-8");
+	@PreDestroy
+	void shutdownWorkerPool() {
+		if (workerPool != null) {
+			workerPool.shutdownNow();
+		}
 	}
 
 	/**
 	 * Generates an entire Spring Boot project based on the provided project definition.
-	 * 
+	 * <p>
+	 * In incremental mode only files whose template or model inputs changed since
+	 * the previous run are rendered, and files that are no longer generated are
+	 * removed.
+	 * </p>
+	 *
 	 * @param project     The project metadata.
 	 * @param projectPath The root path where the project should be created.
 	 * @throws IOException if an I/O error occurs during generation.
 	 */
 	public void generateProject(ProjectDefinition project, Path projectPath) throws IOException {
+		generateProject(renderModelMapper.toRenderModel(project), projectPath);
+	}
+
+	/**
+	 * Generates an entire Spring Boot project from a prepared render model.
+	 *
+	 * @param project     The render model of the project.
+	 * @param projectPath The root path where the project should be created.
+	 * @throws IOException if an I/O error occurs during generation.
+	 * @see #generateProject(ProjectDefinition, Path)
+	 */
+	public void generateProject(ProjectModel project, Path projectPath) throws IOException {
 		// Create project directory structure
-		createProjectStructure(projectPath, project.getPackageName());
+		createProjectStructure(projectPath, project.getPackagePath());
+
+		if (!incrementalEnabled) {
+			generateProject(project, new DirectoryFileSink(projectPath));
+			return;
+		}
+
+		IncrementalDirectorySink sink = new IncrementalDirectorySink(projectPath);
+		generateProject(project, sink);
+		sink.complete();
+		log.info("Generated project '{}': {} file(s) written, {} stale file(s) removed", project.getName(),
+				sink.getWrittenFiles(), sink.getDeletedFiles());
+	}
 
+	/**
+	 * Generates an entire Spring Boot project and hands every rendered file to the
+	 * given sink.
+	 *
+	 * @param project The project metadata.
+	 * @param sink    The destination of the generated files.
+	 * @throws IOException if an I/O error occurs during generation.
+	 */
+	public void generateProject(ProjectDefinition project, GeneratedFileSink sink) throws IOException {
+		generateProject(renderModelMapper.toRenderModel(project), sink);
+	}
+
+	/**
+	 * Generates an entire Spring Boot project from a prepared render model and
+	 * hands every rendered file to the given sink.
+	 *
+	 * @param project The render model of the project.
+	 * @param sink    The destination of the generated files.
+	 * @throws IOException if an I/O error occurs during generation.
+	 */
+	public void generateProject(ProjectModel project, GeneratedFileSink sink) throws IOException {
 		// Generate pom.xml
-		generatePomXml(project, projectPath);
+		generatePomXml(project, sink);
 
 		// Generate application.properties
-		generateApplicationProperties(project, projectPath);
+		generateApplicationProperties(project, sink);
 
 		// Generate main application class
-		generateMainClass(project, projectPath);
+		generateMainClass(project, sink);
 
 		// Generate entities, repositories, services, controllers for each entity
-		for (EntityDefinition entity : project.getEntities()) {
-			generateEntityFiles(project, entity, projectPath);
-		}
+		generateAllEntityFiles(project, sink);
 
 		// Generate security files
-		generateSecurityFiles(project, projectPath);
+		generateSecurityFiles(project, sink);
 
 		// Generate swagger configuration if enabled
 		if (project.isSwaggerEnabled()) {
-			generateSwaggerConfig(project, projectPath);
+			generateSwaggerConfig(project, sink);
 		}
 	}
 
 	/**
-	 * Creates the basic folder structure for the project.
+	 * Counts the files a project consists of without rendering any template. The
+	 * generation is run against a sink that reports every file as unchanged.
+	 *
+	 * @param project The render model of the project.
+	 * @return the number of generated files
+	 * @throws IOException if an I/O error occurs during generation.
 	 */
-	private void createProjectStructure(Path projectPath, String packageName) throws IOException {
-		String packagePath = packageName.replace(".", "/");
+	public int countFiles(ProjectModel project) throws IOException {
+		AtomicInteger fileCount = new AtomicInteger();
+		generateProject(project, new GeneratedFileSink() {
+
+			@Override
+			public void write(String relativePath, String content) {
+				throw new IllegalStateException("Counting generation must not render " + relativePath);
+			}
 
+			@Override
+			public boolean skipUnchanged(String relativePath, Supplier<String> inputHash) {
+				fileCount.incrementAndGet();
+				return true;
+			}
+
+			@Override
+			public boolean isConcurrent() {
+				return true;
+			}
+		});
+		return fileCount.get();
+	}
+
+	/**
+	 * Creates the basic folder structure for the project.
+	 */
+	private void createProjectStructure(Path projectPath, String packagePath) throws IOException {
 		// Create main directories
 		Files.createDirectories(projectPath.resolve("src/main/java/" + packagePath));
 		Files.createDirectories(projectPath.resolve("src/main/resources"));
@@ -87,6 +247,7 @@ public class CodeGenerator {
 		Files.createDirectories(projectPath.resolve("src/main/java/" + packagePath + "/model"));
 		Files.createDirectories(projectPath.resolve("src/main/java/" + packagePath + "/repository"));
 		Files.createDirectories(projectPath.resolve("src/main/java/" + packagePath + "/service"));
+		Files.createDirectories(projectPath.resolve("src/main/java/" + packagePath + "/service/impl"));
 		Files.createDirectories(projectPath.resolve("src/main/java/" + packagePath + "/controller"));
 		Files.createDirectories(projectPath.resolve("src/main/java/" + packagePath + "/config"));
 		Files.createDirectories(projectPath.resolve("src/main/java/" + packagePath + "/dto"));
@@ -98,80 +259,74 @@ public class CodeGenerator {
 	/**
 	 * Generates the full set of JWT-related security files.
 	 */
-	private void generateJwtSecurityFiles(ProjectDefinition project, Path projectPath) throws IOException {
-		String packagePath = project.getPackageName().replace(".", "/");
+	private void generateJwtSecurityFiles(ProjectModel project, GeneratedFileSink sink) throws IOException {
+		String packagePath = project.getPackagePath();
 		Map<String, Object> model = new HashMap<>();
 		model.put("project", project);
 
 		// Generate JWT utility classes
-		generateFile("JwtUtils.java.ftl", model,
-				projectPath.resolve("src/main/java/" + packagePath + "/security/JwtUtils.java"));
+		generateFile("JwtUtils.java.ftl", model, "src/main/java/" + packagePath + "/security/JwtUtils.java", sink);
 		generateFile("JwtAuthenticationFilter.java.ftl", model,
-				projectPath.resolve("src/main/java/" + packagePath + "/security/JwtAuthenticationFilter.java"));
+				"src/main/java/" + packagePath + "/security/JwtAuthenticationFilter.java", sink);
 		generateFile("JwtAuthenticationEntryPoint.java.ftl", model,
-				projectPath.resolve("src/main/java/" + packagePath + "/security/JwtAuthenticationEntryPoint.java"));
+				"src/main/java/" + packagePath + "/security/JwtAuthenticationEntryPoint.java", sink);
 		generateFile("UserPrincipal.java.ftl", model,
-				projectPath.resolve("src/main/java/" + packagePath + "/security/UserPrincipal.java"));
+				"src/main/java/" + packagePath + "/security/UserPrincipal.java", sink);
 
 		// Generate User and Role entities
-		generateFile("User.java.ftl", model, projectPath.resolve("src/main/java/" + packagePath + "/model/User.java"));
-		generateFile("Role.java.ftl", model, projectPath.resolve("src/main/java/" + packagePath + "/model/Role.java"));
-		generateFile("ERole.java.ftl", model,
-				projectPath.resolve("src/main/java/" + packagePath + "/model/ERole.java"));
+		generateFile("User.java.ftl", model, "src/main/java/" + packagePath + "/model/User.java", sink);
+		generateFile("Role.java.ftl", model, "src/main/java/" + packagePath + "/model/Role.java", sink);
+		generateFile("ERole.java.ftl", model, "src/main/java/" + packagePath + "/model/ERole.java", sink);
 
 		// Generate repositories
 		generateFile("UserRepository.java.ftl", model,
-				projectPath.resolve("src/main/java/" + packagePath + "/repository/UserRepository.java"));
+				"src/main/java/" + packagePath + "/repository/UserRepository.java", sink);
 		generateFile("RoleRepository.java.ftl", model,
-				projectPath.resolve("src/main/java/" + packagePath + "/repository/RoleRepository.java"));
+				"src/main/java/" + packagePath + "/repository/RoleRepository.java", sink);
 
 		// Generate UserDetailsService
 		generateFile("UserDetailsServiceImpl.java.ftl", model,
-				projectPath.resolve("src/main/java/" + packagePath + "/service/UserDetailsServiceImpl.java"));
+				"src/main/java/" + packagePath + "/service/UserDetailsServiceImpl.java", sink);
 
 		// Generate Auth Controller
 		generateFile("AuthController.java.ftl", model,
-				projectPath.resolve("src/main/java/" + packagePath + "/controller/AuthController.java"));
+				"src/main/java/" + packagePath + "/controller/AuthController.java", sink);
 
 		// Generate request/response DTOs
 		generateFile("LoginRequest.java.ftl", model,
-				projectPath.resolve("src/main/java/" + packagePath + "/payload/request/LoginRequest.java"));
+				"src/main/java/" + packagePath + "/payload/request/LoginRequest.java", sink);
 		generateFile("SignupRequest.java.ftl", model,
-				projectPath.resolve("src/main/java/" + packagePath + "/payload/request/SignupRequest.java"));
+				"src/main/java/" + packagePath + "/payload/request/SignupRequest.java", sink);
 		generateFile("UserInfoResponse.java.ftl", model,
-				projectPath.resolve("src/main/java/" + packagePath + "/payload/response/UserInfoResponse.java"));
+				"src/main/java/" + packagePath + "/payload/response/UserInfoResponse.java", sink);
 		generateFile("MessageResponse.java.ftl", model,
-				projectPath.resolve("src/main/java/" + packagePath + "/payload/response/MessageResponse.java"));
+				"src/main/java/" + packagePath + "/payload/response/MessageResponse.java", sink);
 	}
 
 	/**
 	 * Generates security configuration and delegates to appropriate method depending on the selected security type.
 	 */
-	private void generateSecurityFiles(ProjectDefinition project, Path projectPath) throws IOException {
+	private void generateSecurityFiles(ProjectModel project, GeneratedFileSink sink) throws IOException {
 		if (!project.isSecurityEnabled()) {
 			return;
 		}
 
-		String packagePath = project.getPackageName().replace(".", "/");
-		Map<String, Object> model = new HashMap<>();
-		model.put("project", project);
-
 		// Generate security configuration
-		generateSecurityConfig(project, projectPath);
+		generateSecurityConfig(project, sink);
 
 		// Generate security-specific files based on type
 		switch (project.getSecurityType()) {
-		case JWT:
-			generateJwtSecurityFiles(project, projectPath);
+		case "JWT":
+			generateJwtSecurityFiles(project, sink);
 			break;
-		case OAUTH2:
-			generateOAuth2SecurityFiles(project, projectPath);
+		case "OAUTH2":
+			generateOAuth2SecurityFiles(project, sink);
 			break;
-		case SESSION_BASED:
-			generateSessionSecurityFiles(project, projectPath);
+		case "SESSION_BASED":
+			generateSessionSecurityFiles(project, sink);
 			break;
-		case BASIC_AUTH:
-			generateBasicAuthSecurityFiles(project, projectPath);
+		case "BASIC_AUTH":
+			generateBasicAuthSecurityFiles(project, sink);
 			break;
 		}
 	}
@@ -179,236 +334,309 @@ public class CodeGenerator {
 	/**
 	 * Generates OAuth2-related security files.
 	 */
-	private void generateOAuth2SecurityFiles(ProjectDefinition project, Path projectPath) throws IOException {
-		String packagePath = project.getPackageName().replace(".", "/");
+	private void generateOAuth2SecurityFiles(ProjectModel project, GeneratedFileSink sink) throws IOException {
+		String packagePath = project.getPackagePath();
 		Map<String, Object> model = new HashMap<>();
 		model.put("project", project);
 
-		generateFile("OAuth2Config.java.ftl", model,
-				projectPath.resolve("src/main/java/" + packagePath + "/config/OAuth2Config.java"));
+		generateFile("OAuth2Config.java.ftl", model, "src/main/java/" + packagePath + "/config/OAuth2Config.java",
+				sink);
 	}
 
 	/**
 	 * Generates configuration files for session-based security using Spring Security.
-	 * 
-	 * @param project     The project definition containing metadata.
-	 * @param projectPath The root path where files should be generated.
+	 *
+	 * @param project The project definition containing metadata.
+	 * @param sink    The destination of the generated files.
 	 * @throws IOException If file writing fails.
 	 */
-	private void generateSessionSecurityFiles(ProjectDefinition project, Path projectPath) throws IOException {
-		String packagePath = project.getPackageName().replace(".", "/");
+	private void generateSessionSecurityFiles(ProjectModel project, GeneratedFileSink sink) throws IOException {
+		String packagePath = project.getPackagePath();
 		Map<String, Object> model = new HashMap<>();
 		model.put("project", project);
 
 		// Session-based security configuration template
 		generateFile("SessionSecurityConfig.java.ftl", model,
-			projectPath.resolve("src/main/java/" + packagePath + "/config/SessionSecurityConfig.java"));
+			"src/main/java/" + packagePath + "/config/SessionSecurityConfig.java", sink);
 
 		// Login and logout controller
 		generateFile("SessionAuthController.java.ftl", model,
-			projectPath.resolve("src/main/java/" + packagePath + "/controller/SessionAuthController.java"));
+			"src/main/java/" + packagePath + "/controller/SessionAuthController.java", sink);
 	}
 
 	/**
 	 * Generates configuration files for Basic Authentication using Spring Security.
-	 * 
-	 * @param project     The project definition containing metadata.
-	 * @param projectPath The root path where files should be generated.
+	 *
+	 * @param project The project definition containing metadata.
+	 * @param sink    The destination of the generated files.
 	 * @throws IOException If file writing fails.
 	 */
-	private void generateBasicAuthSecurityFiles(ProjectDefinition project, Path projectPath) throws IOException {
-		String packagePath = project.getPackageName().replace(".", "/");
+	private void generateBasicAuthSecurityFiles(ProjectModel project, GeneratedFileSink sink)
+			throws IOException {
+		String packagePath = project.getPackagePath();
 		Map<String, Object> model = new HashMap<>();
 		model.put("project", project);
 
 		// Basic auth configuration template
 		generateFile("BasicAuthSecurityConfig.java.ftl", model,
-			projectPath.resolve("src/main/java/" + packagePath + "/config/BasicAuthSecurityConfig.java"));
+			"src/main/java/" + packagePath + "/config/BasicAuthSecurityConfig.java", sink);
 	}
 
 	/**
-	 * Writes a generated file to the given path using a Freemarker template.
+	 * Renders a Freemarker template and writes the result to the sink under the
+	 * given project-relative path.
 	 */
-	private void generateFile(String templateName, Map<String, Object> model, Path outputPath) throws IOException {
+	private void generateFile(String templateName, Map<String, Object> model, String relativePath,
+			GeneratedFileSink sink) throws IOException {
+		if (isUnchanged(templateName, model, relativePath, sink)) {
+			return;
+		}
 		String content = processTemplate(templateName, model);
-		Files.writeString(outputPath, content);
+		sink.write(relativePath, content);
+	}
+
+	/**
+	 * Announces a file to the sink and reports whether its inputs are unchanged,
+	 * in which case rendering can be skipped.
+	 */
+	private boolean isUnchanged(String templateName, Map<String, Object> model, String relativePath,
+			GeneratedFileSink sink) {
+		ProjectModel project = (ProjectModel) model.get("project");
+		EntityModel entity = (EntityModel) model.get("entity");
+		return sink.skipUnchanged(relativePath, () -> fingerprintUtils.fingerprint(templateName,
+				project.getSettingsFingerprint(), entity == null ? null : entity.getFingerprint()));
 	}
 
 	/**
 	 * Generates the Maven POM file.
 	 */
-	private void generatePomXml(ProjectDefinition project, Path projectPath) throws IOException {
+	private void generatePomXml(ProjectModel project, GeneratedFileSink sink) throws IOException {
 		Map<String, Object> model = new HashMap<>();
 		model.put("project", project);
 
-		String content = processTemplate("pom.xml.ftl", model);
-		Files.writeString(projectPath.resolve("pom.xml"), content);
+		generateFile("pom.xml.ftl", model, "pom.xml", sink);
 	}
 
 	/**
 	 * Generates the application.properties file.
 	 */
-	private void generateApplicationProperties(ProjectDefinition project, Path projectPath) throws IOException {
+	private void generateApplicationProperties(ProjectModel project, GeneratedFileSink sink)
+			throws IOException {
 		Map<String, Object> model = new HashMap<>();
 		model.put("project", project);
 
-		String content = processTemplate("application.properties.ftl", model);
-		Files.writeString(projectPath.resolve("src/main/resources/application.properties"), content);
+		generateFile("application.properties.ftl", model, "src/main/resources/application.properties", sink);
 	}
 
 	/**
-	 * Generates all related files (entity, repo, service, controller, DTO) for a given entity.
+	 * Generates the main Spring Boot application class.
 	 */
-	private void generateMainClass(ProjectDefinition project, Path projectPath) throws IOException {
+	private void generateMainClass(ProjectModel project, GeneratedFileSink sink) throws IOException {
 		Map<String, Object> model = new HashMap<>();
 		model.put("project", project);
 
-		String content = processTemplate("Application.java.ftl", model);
-		String packagePath = project.getPackageName().replace(".", "/");
-		String className = toPascalCase(project.getName()) + "Application";
-		Files.writeString(projectPath.resolve("src/main/java/" + packagePath + "/" + className + ".java"), content);
+		String packagePath = project.getPackagePath();
+		generateFile("Application.java.ftl", model,
+				"src/main/java/" + packagePath + "/" + project.getApplicationFileName() + ".java", sink);
 	}
 
-	private void generateEntityFiles(ProjectDefinition project, EntityDefinition entity, Path projectPath)
-			throws IOException {
-		String packagePath = project.getPackageName().replace(".", "/");
-
-		// Generate Entity
-		generateEntity(project, entity, projectPath.resolve("src/main/java/" + packagePath + "/model"));
+	/**
+	 * Generates the files of every entity, either sequentially or spread over the
+	 * worker pool. Failures are collected per file so that one broken entity does
+	 * not hide the others; they are reported together once all entities have been
+	 * processed. Worker tasks count against the {@link CpuBudget} of the calling
+	 * thread, which is checked before every entity.
+	 */
+	private void generateAllEntityFiles(ProjectModel project, GeneratedFileSink sink) throws IOException {
+		List<IOException> errors = Collections.synchronizedList(new ArrayList<>());
 
-		// Generate Repository
-		generateRepository(project, entity, projectPath.resolve("src/main/java/" + packagePath + "/repository"));
+		if (workerPool == null || project.getEntities().size() < 2) {
+			for (EntityModel entity : project.getEntities()) {
+				CpuBudget.check();
+				writeFiles(renderEntityFiles(project, entity, sink, errors), sink, errors);
+			}
+		} else if (sink.isConcurrent()) {
+			List<Future<?>> futures = new ArrayList<>();
+			for (EntityModel entity : project.getEntities()) {
+				futures.add(workerPool.submit(CpuBudget.wrap(() -> {
+					writeFiles(renderEntityFiles(project, entity, sink, errors), sink, errors);
+					return null;
+				})));
+			}
+			try {
+				for (Future<?> future : futures) {
+					awaitTask(future, errors);
+				}
+			} catch (CpuBudgetExceededException e) {
+				futures.forEach(future -> future.cancel(true));
+				throw e;
+			}
+		} else {
+			generateEntityFilesInOrder(project, sink, errors);
+		}
 
-		// Generate Service Interface and Implementation
-		generateService(project, entity, projectPath.resolve("src/main/java/" + packagePath + "/service"));
+		if (!errors.isEmpty()) {
+			// Tasks started after the budget ran out failed on purpose; report the budget.
+			CpuBudget.check();
+			IOException failure = new IOException(
+					"Failed to generate " + errors.size() + " file(s) for project: " + project.getName());
+			errors.forEach(failure::addSuppressed);
+			throw failure;
+		}
+	}
 
-		// Generate Controller
-		generateController(project, entity, projectPath.resolve("src/main/java/" + packagePath + "/controller"));
+	/**
+	 * Renders entities on the worker pool but writes them on the calling thread in
+	 * definition order, for sinks that need a single writer. Only a bounded window
+	 * of rendered entities is held in memory at any time.
+	 */
+	private void generateEntityFilesInOrder(ProjectModel project, GeneratedFileSink sink,
+			List<IOException> errors) throws IOException {
+		int window = parallelism * 2;
+		Deque<Future<List<RenderedFile>>> pending = new ArrayDeque<>();
 
-		// Generate DTO
-		generateDto(project, entity, projectPath.resolve("src/main/java/" + packagePath + "/dto"));
+		try {
+			for (EntityModel entity : project.getEntities()) {
+				if (pending.size() >= window) {
+					writeFiles(awaitTask(pending.poll(), errors), sink, errors);
+				}
+				CpuBudget.check();
+				pending.add(
+						workerPool.submit(CpuBudget.wrap(() -> renderEntityFiles(project, entity, sink, errors))));
+			}
+			while (!pending.isEmpty()) {
+				writeFiles(awaitTask(pending.poll(), errors), sink, errors);
+			}
+		} catch (CpuBudgetExceededException e) {
+			pending.forEach(future -> future.cancel(true));
+			throw e;
+		}
 	}
 
-	private void generateEntity(ProjectDefinition project, EntityDefinition entity, Path entityPath)
-			throws IOException {
-		Map<String, Object> model = new HashMap<>();
-		model.put("project", project);
-		model.put("entity", entity);
-
-		String content = processTemplate("Entity.java.ftl", model);
-		Files.writeString(entityPath.resolve(toPascalCase(entity.getName()) + ".java"), content);
+	/**
+	 * Waits for a worker task, recording an unexpected task failure alongside the
+	 * per-file errors. A task that ran out of the CPU budget fails the whole
+	 * generation with its {@link CpuBudgetExceededException}.
+	 *
+	 * @return the task result, or {@code null} if the task failed
+	 */
+	private <T> T awaitTask(Future<T> future, List<IOException> errors) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Project generation was interrupted", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof CpuBudgetExceededException budgetExceeded) {
+				throw budgetExceeded;
+			}
+			errors.add(new IOException("Entity generation task failed", e.getCause()));
+			return null;
+		}
 	}
 
-	private void generateRepository(ProjectDefinition project, EntityDefinition entity, Path repositoryPath)
-			throws IOException {
+	/**
+	 * Renders all related files (entity, repo, service, controller, DTO) for a given entity.
+	 */
+	private List<RenderedFile> renderEntityFiles(ProjectModel project, EntityModel entity,
+			GeneratedFileSink sink, List<IOException> errors) {
+		String basePath = "src/main/java/" + project.getPackagePath() + "/";
+		String fileName = entity.getFileName();
+
 		Map<String, Object> model = new HashMap<>();
 		model.put("project", project);
 		model.put("entity", entity);
 
-		String content = processTemplate("Repository.java.ftl", model);
-		Files.writeString(repositoryPath.resolve(toPascalCase(entity.getName()) + "Repository.java"), content);
-	}
+		List<RenderedFile> files = new ArrayList<>(6);
 
-	private void generateService(ProjectDefinition project, EntityDefinition entity, Path servicePath)
-			throws IOException {
-		Map<String, Object> model = new HashMap<>();
-		model.put("project", project);
-		model.put("entity", entity);
+		// Entity
+		renderFile("Entity.java.ftl", model, basePath + "model/" + fileName + ".java", sink, files, errors);
 
-		// Generate Service Interface
-		String interfaceContent = processTemplate("Service.java.ftl", model);
-		Files.writeString(servicePath.resolve(toPascalCase(entity.getName()) + "Service.java"), interfaceContent);
+		// Repository
+		renderFile("Repository.java.ftl", model, basePath + "repository/" + fileName + "Repository.java", sink,
+				files, errors);
 
-		// Generate Service Implementation
-		String implContent = processTemplate("ServiceImpl.java.ftl", model);
-		Files.createDirectories(servicePath.resolve("impl"));
-		Files.writeString(servicePath.resolve("impl/" + toPascalCase(entity.getName()) + "ServiceImpl.java"),
-				implContent);
-	}
+		// Service Interface and Implementation
+		renderFile("Service.java.ftl", model, basePath + "service/" + fileName + "Service.java", sink, files, errors);
+		renderFile("ServiceImpl.java.ftl", model, basePath + "service/impl/" + fileName + "ServiceImpl.java", sink,
+				files, errors);
 
-	private void generateController(ProjectDefinition project, EntityDefinition entity, Path controllerPath)
-			throws IOException {
-		Map<String, Object> model = new HashMap<>();
-		model.put("project", project);
-		model.put("entity", entity);
+		// Controller
+		renderFile("Controller.java.ftl", model, basePath + "controller/" + fileName + "Controller.java", sink,
+				files, errors);
+
+		// DTO
+		renderFile("Dto.java.ftl", model, basePath + "dto/" + fileName + "Dto.java", sink, files, errors);
 
-		String content = processTemplate("Controller.java.ftl", model);
-		Files.writeString(controllerPath.resolve(toPascalCase(entity.getName()) + "Controller.java"), content);
+		return files;
 	}
 
-	private void generateDto(ProjectDefinition project, EntityDefinition entity, Path dtoPath) throws IOException {
-		Map<String, Object> model = new HashMap<>();
-		model.put("project", project);
-		model.put("entity", entity);
+	/**
+	 * Renders a single file unless the sink reports it unchanged, recording a
+	 * failure instead of throwing so the remaining files still get generated.
+	 */
+	private void renderFile(String templateName, Map<String, Object> model, String relativePath,
+			GeneratedFileSink sink, List<RenderedFile> files, List<IOException> errors) {
+		try {
+			if (isUnchanged(templateName, model, relativePath, sink)) {
+				return;
+			}
+			files.add(new RenderedFile(relativePath, processTemplate(templateName, model)));
+		} catch (IOException | RuntimeException e) {
+			errors.add(new IOException("Error generating file: " + relativePath, e));
+		}
+	}
 
-		String content = processTemplate("Dto.java.ftl", model);
-		Files.writeString(dtoPath.resolve(toPascalCase(entity.getName()) + "Dto.java"), content);
+	/**
+	 * Writes rendered files to the sink, recording a failure per file.
+	 */
+	private void writeFiles(List<RenderedFile> files, GeneratedFileSink sink, List<IOException> errors) {
+		if (files == null) {
+			return;
+		}
+		for (RenderedFile file : files) {
+			try {
+				sink.write(file.path(), file.content());
+			} catch (IOException | RuntimeException e) {
+				errors.add(new IOException("Error writing file: " + file.path(), e));
+			}
+		}
 	}
 
-	private void generateSecurityConfig(ProjectDefinition project, Path projectPath) throws IOException {
+	private void generateSecurityConfig(ProjectModel project, GeneratedFileSink sink) throws IOException {
 		Map<String, Object> model = new HashMap<>();
 		model.put("project", project);
 
-		String content = processTemplate("SecurityConfig.java.ftl", model);
-		String packagePath = project.getPackageName().replace(".", "/");
-		Files.writeString(projectPath.resolve("src/main/java/" + packagePath + "/config/SecurityConfig.java"), content);
+		String packagePath = project.getPackagePath();
+		generateFile("SecurityConfig.java.ftl", model, "src/main/java/" + packagePath + "/config/SecurityConfig.java",
+				sink);
 	}
 
-	private void generateSwaggerConfig(ProjectDefinition project, Path projectPath) throws IOException {
+	private void generateSwaggerConfig(ProjectModel project, GeneratedFileSink sink) throws IOException {
 		Map<String, Object> model = new HashMap<>();
 		model.put("project", project);
 
-		String content = processTemplate("SwaggerConfig.java.ftl", model);
-		String packagePath = project.getPackageName().replace(".", "/");
-		Files.writeString(projectPath.resolve("src/main/java/" + packagePath + "/config/SwaggerConfig.java"), content);
+		String packagePath = project.getPackagePath();
+		generateFile("SwaggerConfig.java.ftl", model, "src/main/java/" + packagePath + "/config/SwaggerConfig.java",
+				sink);
 	}
 
 	/**
-	 * Processes a Freemarker template with the given model.
-	 * 
+	 * Processes a precompiled Freemarker template with the given model.
+	 *
 	 * @param templateName Template file name.
 	 * @param model        Data model to populate the template.
 	 * @return Rendered template as a String.
 	 * @throws IOException if the template processing fails.
 	 */
 	private String processTemplate(String templateName, Map<String, Object> model) throws IOException {
-		try {
-			Template template = freemarkerConfig.getTemplate(templateName);
-			StringWriter writer = new StringWriter();
-			template.process(model, writer);
-			return writer.toString();
-		} catch (TemplateException e) {
-			throw new IOException("Error processing template: " + templateName, e);
-		}
+		return templateRegistry.process(templateName, model);
 	}
 
 	/**
-	 * Converts a string to PascalCase format.
-	 * 
-	 * @param input The input string.
-	 * @return PascalCase version of the input.
+	 * A rendered file waiting to be written, identified by its project-relative
+	 * path.
 	 */
-	private String toPascalCase(String input) {
-		if (input == null || input.isEmpty()) {
-			return input;
-		}
-
-		StringBuilder result = new StringBuilder();
-		boolean capitalizeNext = true;
-
-		for (char c : input.toCharArray()) {
-			if (Character.isLetterOrDigit(c)) {
-				if (capitalizeNext) {
-					result.append(Character.toUpperCase(c));
-					capitalizeNext = false;
-				} else {
-					result.append(Character.toLowerCase(c));
-				}
-			} else {
-				capitalizeNext = true;
-			}
-		}
-
-		return result.toString();
+	private record RenderedFile(String path, String content) {
 	}
 }
@@ -0,0 +1,94 @@
+package com.user.driven.operations.serviceimpl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Difference between the incoming DTOs and the persisted rows of a child
+ * collection, matched by a natural key such as the field name.
+ * <p>
+ * Only rows whose key is new, whose data differs or whose key is no longer
+ * present end up in the diff, so applying it touches no other row. Persisted
+ * rows sharing a key with an earlier row are treated as removed.
+ * </p>
+ *
+ * @param <D> the DTO type
+ * @param <E> the entity type
+ * @author Jatin Raheja
+ */
+final class CollectionDiff<D, E> {
+
+	private final List<D> added = new ArrayList<>();
+
+	private final Map<E, D> updated = new LinkedHashMap<>();
+
+	private final List<E> removed = new ArrayList<>();
+
+	private CollectionDiff() {
+	}
+
+	/**
+	 * Compares incoming DTOs with persisted rows.
+	 *
+	 * @param incoming  the DTOs describing the desired collection
+	 * @param persisted the rows currently in the collection
+	 * @param dtoKey    the natural key of a DTO
+	 * @param entityKey the natural key of a row
+	 * @param matches   whether a row already holds the data of a DTO
+	 * @return the diff
+	 * @throws IllegalArgumentException if two DTOs share a key
+	 */
+	static <D, E, K> CollectionDiff<D, E> of(List<D> incoming, List<E> persisted, Function<D, K> dtoKey,
+			Function<E, K> entityKey, BiPredicate<D, E> matches) {
+		CollectionDiff<D, E> diff = new CollectionDiff<>();
+		Map<K, D> incomingByKey = new LinkedHashMap<>();
+		for (D dto : incoming) {
+			if (incomingByKey.putIfAbsent(dtoKey.apply(dto), dto) != null) {
+				throw new IllegalArgumentException("Duplicate key '" + dtoKey.apply(dto) + "'");
+			}
+		}
+
+		Map<K, E> persistedByKey = new LinkedHashMap<>();
+		for (E entity : persisted) {
+			K key = entityKey.apply(entity);
+			D dto = incomingByKey.get(key);
+			if (dto == null || persistedByKey.putIfAbsent(key, entity) != null) {
+				diff.removed.add(entity);
+			} else if (!matches.test(dto, entity)) {
+				diff.updated.put(entity, dto);
+			}
+		}
+
+		incomingByKey.forEach((key, dto) -> {
+			if (!persistedByKey.containsKey(key)) {
+				diff.added.add(dto);
+			}
+		});
+		return diff;
+	}
+
+	/**
+	 * @return the DTOs without a persisted row
+	 */
+	List<D> getAdded() {
+		return added;
+	}
+
+	/**
+	 * @return the persisted rows whose data differs, with their DTOs
+	 */
+	Map<E, D> getUpdated() {
+		return updated;
+	}
+
+	/**
+	 * @return the persisted rows without a DTO
+	 */
+	List<E> getRemoved() {
+		return removed;
+	}
+}
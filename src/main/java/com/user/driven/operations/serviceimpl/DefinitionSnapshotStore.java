@@ -0,0 +1,185 @@
+package com.user.driven.operations.serviceimpl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.driven.operations.dto.ProjectDefinitionDto;
+import com.user.driven.operations.entities.EntityDefinition;
+import com.user.driven.operations.entities.ProjectDefinition;
+import com.user.driven.operations.entities.ProjectDefinitionSnapshot;
+import com.user.driven.operations.mapper.DtoMapper;
+import com.user.driven.operations.repository.ProjectDefinitionRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Keeps the {@link ProjectDefinitionSnapshot} of every project in step with its
+ * definition and serves it to code generation.
+ * <p>
+ * Writes schedule a refresh that runs just before their transaction commits, so
+ * the snapshot always commits together with the change it reflects. Reads are
+ * a single primary-key lookup with JDBC; the definition is rebuilt from JSON as
+ * a detached object graph without involving the persistence context.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+@Component
+public class DefinitionSnapshotStore {
+
+	private static final String SELECT_PAYLOAD = "SELECT payload FROM project_definition_snapshots WHERE project_id = ?";
+
+	private static final String UPDATE_SNAPSHOT = "UPDATE project_definition_snapshots SET payload = ?, refreshed_at = ? WHERE project_id = ?";
+
+	private static final String INSERT_SNAPSHOT = "INSERT INTO project_definition_snapshots (payload, refreshed_at, project_id) VALUES (?, ?, ?)";
+
+	private static final String DELETE_SNAPSHOT = "DELETE FROM project_definition_snapshots WHERE project_id = ?";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private DtoMapper dtoMapper;
+
+	@Autowired
+	private ProjectAggregateLoader aggregateLoader;
+
+	@Autowired
+	private ProjectDefinitionRepository projectRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * Loads the definition of a project from its snapshot. Projects created
+	 * before snapshots existed get theirs built on first use.
+	 *
+	 * @param projectId the ID of the project
+	 * @return the detached project definition, or empty if the project does not
+	 *         exist
+	 */
+	public Optional<ProjectDefinition> load(Long projectId) {
+		List<String> payloads = jdbcTemplate.queryForList(SELECT_PAYLOAD, String.class, projectId);
+		if (!payloads.isEmpty()) {
+			return Optional.of(fromPayload(projectId, payloads.get(0)));
+		}
+
+		try {
+			return new TransactionTemplate(transactionManager).execute(status -> {
+				Optional<ProjectDefinition> project = aggregateLoader.loadProject(projectId);
+				project.ifPresent(loaded -> write(loaded, loaded.getEntities()));
+				return project;
+			});
+		} catch (DuplicateKeyException e) {
+			// Built concurrently by another request.
+			return load(projectId);
+		}
+	}
+
+	/**
+	 * Schedules the snapshot of a project to be rewritten when the current
+	 * transaction commits, or rewrites it immediately outside a transaction.
+	 * Several writes to the same project in one transaction refresh it once.
+	 *
+	 * @param projectId the ID of the written project
+	 */
+	public void scheduleRefresh(Long projectId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			refresh(projectId);
+			return;
+		}
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			if (synchronization instanceof RefreshSynchronization refresh && refresh.owner() == this) {
+				refresh.projectIds.add(projectId);
+				return;
+			}
+		}
+		RefreshSynchronization refresh = new RefreshSynchronization();
+		refresh.projectIds.add(projectId);
+		TransactionSynchronizationManager.registerSynchronization(refresh);
+	}
+
+	/**
+	 * Rewrites the snapshot of a project from the flushed state of the current
+	 * transaction, or removes it if the project was deleted. The entities are
+	 * read from their rows: an entity collection the transaction loaded earlier
+	 * is not updated by entities created or deleted since.
+	 */
+	private void refresh(Long projectId) {
+		entityManager.flush();
+		Optional<ProjectDefinition> project = projectRepository.findById(projectId);
+		if (project.isPresent()) {
+			write(project.get(), aggregateLoader.loadEntities(projectId));
+		} else {
+			jdbcTemplate.update(DELETE_SNAPSHOT, projectId);
+		}
+	}
+
+	private void write(ProjectDefinition project, List<EntityDefinition> entities) {
+		String payload = toPayload(project, entities);
+		Timestamp refreshedAt = Timestamp.valueOf(LocalDateTime.now());
+		if (jdbcTemplate.update(UPDATE_SNAPSHOT, payload, refreshedAt, project.getId()) == 0) {
+			jdbcTemplate.update(INSERT_SNAPSHOT, payload, refreshedAt, project.getId());
+		}
+	}
+
+	private String toPayload(ProjectDefinition project, List<EntityDefinition> entities) {
+		try {
+			return objectMapper.writeValueAsString(dtoMapper.toDto(project, entities));
+		} catch (IOException e) {
+			throw new UncheckedIOException("Error serializing snapshot of project " + project.getId(), e);
+		}
+	}
+
+	private ProjectDefinition fromPayload(Long projectId, String payload) {
+		try {
+			ProjectDefinition project = dtoMapper.toEntity(objectMapper.readValue(payload, ProjectDefinitionDto.class));
+			project.setId(projectId);
+			return project;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Error reading snapshot of project " + projectId, e);
+		}
+	}
+
+	/**
+	 * Refreshes the snapshots of the projects written in a transaction.
+	 */
+	private class RefreshSynchronization implements TransactionSynchronization {
+
+		private final Set<Long> projectIds = new LinkedHashSet<>();
+
+		DefinitionSnapshotStore owner() {
+			return DefinitionSnapshotStore.this;
+		}
+
+		@Override
+		public void beforeCommit(boolean readOnly) {
+			if (!readOnly) {
+				projectIds.forEach(DefinitionSnapshotStore.this::refresh);
+			}
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package com.user.driven.operations.serviceimpl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * {@link GeneratedFileSink} that writes generated files below a root directory
+ * on disk. Distinct files can be written concurrently.
+ * <p>
+ * Existing files are replaced by new files rather than overwritten in place,
+ * so a directory cloned with hard links never modifies the files it shares
+ * with the directory it was cloned from.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+public class DirectoryFileSink implements GeneratedFileSink {
+
+	protected final Path rootPath;
+
+	/**
+	 * @param rootPath the project root directory
+	 */
+	public DirectoryFileSink(Path rootPath) {
+		this.rootPath = rootPath;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(String relativePath, String content) throws IOException {
+		Path outputPath = rootPath.resolve(relativePath);
+		Files.createDirectories(outputPath.getParent());
+		Files.deleteIfExists(outputPath);
+		Files.writeString(outputPath, content);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isConcurrent() {
+		return true;
+	}
+}
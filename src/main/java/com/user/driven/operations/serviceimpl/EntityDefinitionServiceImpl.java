@@ -1,21 +1,45 @@
 package com.user.driven.operations.serviceimpl;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.user.driven.operations.dto.BatchItemResultDto;
+import com.user.driven.operations.dto.CursorPageDto;
+import com.user.driven.operations.dto.EntityChangeSetDto;
 import com.user.driven.operations.dto.EntityDefinitionDto;
+import com.user.driven.operations.dto.EntitySummaryDto;
+import com.user.driven.operations.dto.FieldDefinitionDto;
+import com.user.driven.operations.dto.OperationConfigDto;
 import com.user.driven.operations.entities.EntityDefinition;
+import com.user.driven.operations.entities.FieldDefinition;
+import com.user.driven.operations.entities.OperationConfig;
 import com.user.driven.operations.entities.ProjectDefinition;
+import com.user.driven.operations.enums.BatchItemStatus;
+import com.user.driven.operations.enums.SummarySort;
 import com.user.driven.operations.mapper.DtoMapper;
 import com.user.driven.operations.repository.EntityDefinitionRepository;
 import com.user.driven.operations.repository.FieldDefinitionRepository;
 import com.user.driven.operations.repository.OperationConfigRepository;
-import com.user.driven.operations.repository.ProjectDefinitionRepository;
 import com.user.driven.operations.service.EntityDefinitionService;
+import com.user.driven.operations.service.ProjectDefinitionService;
+import com.user.driven.operations.utils.KeysetCursor;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 /**
  * Service implementation for managing {@link EntityDefinition}.
@@ -29,27 +53,38 @@ import com.user.driven.operations.service.EntityDefinitionService;
 public class EntityDefinitionServiceImpl implements EntityDefinitionService {
 
 	@Autowired
-	private OperationConfigRepository operationRepository;
+	private EntityDefinitionRepository entityRepository;
 
 	@Autowired
 	private FieldDefinitionRepository fieldRepository;
 
 	@Autowired
-	private EntityDefinitionRepository entityRepository;
+	private OperationConfigRepository operationRepository;
 
 	@Autowired
-	private ProjectDefinitionRepository projectRepository;
+	private ProjectDefinitionService projectService;
+
+	@Autowired
+	private ProjectAggregateLoader aggregateLoader;
 
 	@Autowired
 	private DtoMapper dtoMapper;
 
+	@Autowired
+	private Validator validator;
+
+	@Value("${app.listing.default-page-size:50}")
+	private int defaultPageSize;
+
+	@Value("${app.listing.max-page-size:200}")
+	private int maxPageSize;
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public EntityDefinition createEntity(Long projectId, EntityDefinitionDto entityDto) {
-		ProjectDefinition project = projectRepository.findById(projectId)
-				.orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
+		ProjectDefinition project = projectService.lockForChange(projectId, null);
 
 		if (existsByNameAndProjectId(entityDto.getName(), projectId)) {
 			throw new RuntimeException("Entity with name '" + entityDto.getName() + "' already exists in this project");
@@ -75,16 +110,7 @@ public class EntityDefinitionServiceImpl implements EntityDefinitionService {
 	@Override
 	@Transactional(readOnly = true)
 	public Optional<EntityDefinition> getEntityByIdWithFieldsAndOperations(Long id) {
-		Optional<EntityDefinition> entityOpt = entityRepository.findById(id);
-
-		if (entityOpt.isPresent()) {
-			EntityDefinition entity = entityOpt.get();
-			// Manually load collections to avoid MultipleBagFetchException
-			entity.setFields(fieldRepository.findByEntityId(id));
-			entity.setOperations(operationRepository.findByEntityId(id));
-		}
-
-		return entityOpt;
+		return aggregateLoader.loadEntity(id);
 	}
 
 	/**
@@ -100,9 +126,23 @@ public class EntityDefinitionServiceImpl implements EntityDefinitionService {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public EntityDefinition updateEntity(Long id, EntityDefinitionDto entityDto) {
+	@Transactional(readOnly = true)
+	public CursorPageDto<EntitySummaryDto> getEntitySummaries(Long projectId, String name, SummarySort sort,
+			Sort.Direction direction, String cursor, Integer limit) {
+		int pageSize = KeysetCursor.pageSize(limit, defaultPageSize, maxPageSize);
+		List<EntitySummaryDto> rows = entityRepository.findSummaries(projectId, name, sort,
+				direction, KeysetCursor.decode(cursor, sort, direction), pageSize);
+		return KeysetCursor.toPage(rows, pageSize, sort, direction);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public EntityDefinition updateEntity(Long id, EntityDefinitionDto entityDto, Long expectedVersion) {
 		EntityDefinition existingEntity = entityRepository.findById(id)
 				.orElseThrow(() -> new RuntimeException("Entity not found with id: " + id));
+		projectService.lockForChange(existingEntity.getProject().getId(), expectedVersion);
 
 		if (!existingEntity.getName().equals(entityDto.getName())
 				&& existsByNameAndProjectId(entityDto.getName(), existingEntity.getProject().getId())) {
@@ -115,13 +155,122 @@ public class EntityDefinitionServiceImpl implements EntityDefinitionService {
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * The diff is computed against the entity as of the project version read
+	 * first; the project is then locked at exactly that version, so a concurrent
+	 * change in between fails the merge instead of being overwritten. Inserts,
+	 * updates and deletes are flushed in per-table JDBC batches.
+	 * </p>
 	 */
 	@Override
-	public void deleteEntity(Long id) {
-		if (!entityRepository.existsById(id)) {
-			throw new RuntimeException("Entity not found with id: " + id);
+	public EntityChangeSetDto mergeEntity(Long id, EntityDefinitionDto entityDto, Long expectedVersion) {
+		Long projectId = entityRepository.findProjectIdById(id)
+				.orElseThrow(() -> new RuntimeException("Entity not found with id: " + id));
+		Long version = checkProjectVersion(projectId, expectedVersion);
+
+		EntityDefinition entity = aggregateLoader.loadEntity(id)
+				.orElseThrow(() -> new RuntimeException("Entity not found with id: " + id));
+		if (!entity.getName().equals(entityDto.getName())
+				&& existsByNameAndProjectId(entityDto.getName(), projectId)) {
+			throw new RuntimeException("Entity with name '" + entityDto.getName() + "' already exists in this project");
 		}
-		entityRepository.deleteById(id);
+
+		EntityMerge merge = new EntityMerge(entity, entityDto);
+		if (merge.changes.hasChanges()) {
+			projectService.lockForChange(projectId, version);
+			merge.apply();
+		}
+		return merge.changes;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Existing entities are looked up by name for the whole batch at once, and
+	 * changes are computed before the project is locked at the version read
+	 * first, as for {@link #mergeEntity}. All inserts, updates and deletes are
+	 * flushed together in per-table JDBC batches.
+	 * </p>
+	 */
+	@Override
+	public List<BatchItemResultDto> upsertEntities(Long projectId, List<EntityDefinitionDto> entityDtos,
+			Long expectedVersion) {
+		Long version = checkProjectVersion(projectId, expectedVersion);
+
+		Set<String> names = new HashSet<>();
+		entityDtos.stream().map(EntityDefinitionDto::getName).filter(Objects::nonNull).forEach(names::add);
+		Map<String, EntityDefinition> existing = new HashMap<>();
+		List<EntityDefinition> found = names.isEmpty() ? List.of()
+				: entityRepository.findByProjectIdAndNameInWithFields(projectId, names);
+		if (!found.isEmpty()) {
+			entityRepository.findByProjectIdAndNameInWithOperations(projectId, names);
+			found.forEach(entity -> existing.put(entity.getName(), entity));
+		}
+
+		List<BatchItemResultDto> results = new ArrayList<>(entityDtos.size());
+		Map<EntityMerge, BatchItemResultDto> merges = new LinkedHashMap<>();
+		Set<String> seen = new HashSet<>();
+		for (int index = 0; index < entityDtos.size(); index++) {
+			EntityDefinitionDto entityDto = entityDtos.get(index);
+			BatchItemResultDto result = new BatchItemResultDto();
+			result.setIndex(index);
+			result.setName(entityDto.getName());
+			results.add(result);
+			try {
+				validate(entityDto);
+				if (!seen.add(entityDto.getName())) {
+					throw new IllegalArgumentException("Duplicate entity name '" + entityDto.getName() + "'");
+				}
+
+				EntityDefinition entity = existing.get(entityDto.getName());
+				EntityMerge merge = new EntityMerge(entity != null ? entity : new EntityDefinition(), entityDto);
+				result.setEntityId(merge.entity.getId());
+				result.setChanges(merge.changes);
+				if (entity == null) {
+					result.setStatus(BatchItemStatus.CREATED);
+					merges.put(merge, result);
+				} else if (merge.changes.hasChanges()) {
+					result.setStatus(BatchItemStatus.UPDATED);
+					merges.put(merge, result);
+				} else {
+					result.setStatus(BatchItemStatus.UNCHANGED);
+				}
+			} catch (IllegalArgumentException e) {
+				result.setStatus(BatchItemStatus.FAILED);
+				result.setError(e.getMessage());
+			}
+		}
+		if (merges.isEmpty()) {
+			return results;
+		}
+
+		ProjectDefinition project = projectService.lockForChange(projectId, version);
+		merges.forEach((merge, result) -> {
+			merge.apply();
+			if (result.getStatus() == BatchItemStatus.CREATED) {
+				merge.entity.setProject(project);
+				entityRepository.save(merge.entity);
+				result.setEntityId(merge.entity.getId());
+				merge.changes.setEntityId(merge.entity.getId());
+				merge.changes.setProjectId(projectId);
+			}
+		});
+		// Surface name conflicts with concurrent writers here rather than at commit.
+		entityRepository.flush();
+		return results;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void deleteEntity(Long id, Long expectedVersion) {
+		Long projectId = entityRepository.findProjectIdById(id)
+				.orElseThrow(() -> new RuntimeException("Entity not found with id: " + id));
+		projectService.lockForChange(projectId, expectedVersion);
+		operationRepository.deleteAllByEntityId(id);
+		fieldRepository.deleteAllByEntityId(id);
+		entityRepository.deleteEntityById(id);
 	}
 
 	/**
@@ -132,4 +281,99 @@ public class EntityDefinitionServiceImpl implements EntityDefinitionService {
 	public boolean existsByNameAndProjectId(String name, Long projectId) {
 		return entityRepository.existsByNameAndProjectId(name, projectId);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Reads the version of a project and checks it against the version the
+	 * client expects.
+	 */
+	private Long checkProjectVersion(Long projectId, Long expectedVersion) {
+		Long version = projectService.getProjectVersion(projectId)
+				.orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
+		if (expectedVersion != null && !expectedVersion.equals(version)) {
+			throw new OptimisticLockingFailureException("Project " + projectId + " is at version " + version
+					+ ", not " + expectedVersion);
+		}
+		return version;
+	}
+
+	private void validate(EntityDefinitionDto entityDto) {
+		List<Object> dtos = new ArrayList<>();
+		dtos.add(entityDto);
+		if (entityDto.getFields() != null) {
+			dtos.addAll(entityDto.getFields());
+		}
+		if (entityDto.getOperations() != null) {
+			dtos.addAll(entityDto.getOperations());
+		}
+		for (Object dto : dtos) {
+			Set<ConstraintViolation<Object>> violations = validator.validate(dto);
+			if (!violations.isEmpty()) {
+				ConstraintViolation<Object> violation = violations.iterator().next();
+				throw new IllegalArgumentException(violation.getPropertyPath() + ": " + violation.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * The changes that merging a DTO makes to an entity and its fields and
+	 * operations, computed up front and applied once the project is locked.
+	 */
+	private final class EntityMerge {
+
+		private final EntityDefinition entity;
+
+		private final EntityDefinitionDto entityDto;
+
+		private final CollectionDiff<FieldDefinitionDto, FieldDefinition> fieldDiff;
+
+		private final CollectionDiff<OperationConfigDto, OperationConfig> operationDiff;
+
+		private final EntityChangeSetDto changes = new EntityChangeSetDto();
+
+		EntityMerge(EntityDefinition entity, EntityDefinitionDto entityDto) {
+			this.entity = entity;
+			this.entityDto = entityDto;
+			fieldDiff = CollectionDiff.of(entityDto.getFields() != null ? entityDto.getFields() : List.of(),
+					entityDto.getFields() != null ? entity.getFields() : List.of(), FieldDefinitionDto::getName,
+					FieldDefinition::getName, dtoMapper::matches);
+			operationDiff = CollectionDiff.of(
+					entityDto.getOperations() != null ? entityDto.getOperations() : List.of(),
+					entityDto.getOperations() != null ? entity.getOperations() : List.of(),
+					OperationConfigDto::getOperationType, OperationConfig::getOperationType, dtoMapper::matches);
+
+			changes.setEntityId(entity.getId());
+			changes.setProjectId(entity.getProject() != null ? entity.getProject().getId() : null);
+			changes.setEntityChanged(!Objects.equals(entity.getName(), entityDto.getName())
+					|| !Objects.equals(entity.getDescription(), entityDto.getDescription()));
+			fieldDiff.getAdded().forEach(field -> changes.getAddedFields().add(field.getName()));
+			fieldDiff.getUpdated().keySet().forEach(field -> changes.getUpdatedFields().add(field.getName()));
+			fieldDiff.getRemoved().forEach(field -> changes.getRemovedFields().add(field.getName()));
+			operationDiff.getAdded()
+					.forEach(operation -> changes.getAddedOperations().add(operation.getOperationType()));
+			operationDiff.getUpdated().keySet()
+					.forEach(operation -> changes.getUpdatedOperations().add(operation.getOperationType()));
+			operationDiff.getRemoved()
+					.forEach(operation -> changes.getRemovedOperations().add(operation.getOperationType()));
+		}
+
+		void apply() {
+			dtoMapper.updateEntityFromDto(entityDto, entity);
+
+			entity.getFields().removeAll(fieldDiff.getRemoved());
+			fieldDiff.getUpdated().forEach((field, dto) -> dtoMapper.updateEntityFromDto(dto, field));
+			for (FieldDefinitionDto dto : fieldDiff.getAdded()) {
+				FieldDefinition field = dtoMapper.toEntity(dto);
+				field.setEntity(entity);
+				entity.getFields().add(field);
+			}
+
+			entity.getOperations().removeAll(operationDiff.getRemoved());
+			operationDiff.getUpdated().forEach((operation, dto) -> dtoMapper.updateEntityFromDto(dto, operation));
+			for (OperationConfigDto dto : operationDiff.getAdded()) {
+				OperationConfig operation = dtoMapper.toEntity(dto);
+				operation.setEntity(entity);
+				entity.getOperations().add(operation);
+			}
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package com.user.driven.operations.serviceimpl;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * Destination for files produced by the {@link CodeGenerator}. Each generated
+ * file is identified by its path relative to the project root, using forward
+ * slashes as separators.
+ *
+ * @author Jatin Raheja
+ */
+public interface GeneratedFileSink {
+
+	/**
+	 * Writes a generated file.
+	 *
+	 * @param relativePath the project-relative path of the file
+	 * @param content      the rendered file content
+	 * @throws IOException if the file cannot be written
+	 */
+	void write(String relativePath, String content) throws IOException;
+
+	/**
+	 * Announces a file that is about to be generated, together with the
+	 * fingerprint of the inputs it is rendered from. Incremental sinks use this to
+	 * skip files whose inputs have not changed since they were last written.
+	 *
+	 * @param relativePath the project-relative path of the file
+	 * @param inputHash    supplies the fingerprint of the file's inputs
+	 * @return true if the file is up to date and does not need to be rendered
+	 */
+	default boolean skipUnchanged(String relativePath, Supplier<String> inputHash) {
+		return false;
+	}
+
+	/**
+	 * Indicates whether {@link #write(String, String)} may be called from several
+	 * threads at once. Sinks that return false receive their files from a single
+	 * thread in generation order.
+	 *
+	 * @return true if concurrent writes are supported
+	 */
+	default boolean isConcurrent() {
+		return false;
+	}
+}
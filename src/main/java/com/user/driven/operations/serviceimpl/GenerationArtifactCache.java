@@ -0,0 +1,193 @@
+package com.user.driven.operations.serviceimpl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Content-addressed, size-bounded cache of generated project ZIP archives.
+ * <p>
+ * Artifacts are stored as {@code <fingerprint>.zip} files in the cache
+ * directory and evicted in least-recently-used order once their total size
+ * exceeds the configured limit. The access order survives restarts through the
+ * file modification times.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+@Component
+public class GenerationArtifactCache {
+
+	private static final Logger log = LoggerFactory.getLogger(GenerationArtifactCache.class);
+
+	private static final String ARTIFACT_SUFFIX = ".zip";
+
+	private static final String TEMP_PREFIX = "artifact-";
+
+	private static final String TEMP_SUFFIX = ".tmp";
+
+	@Value("${app.generation.cache.enabled:true}")
+	private boolean enabled;
+
+	@Value("${app.generation.cache.directory:./generation-cache}")
+	private String cacheDirectory;
+
+	@Value("${app.generation.cache.max-size-mb:512}")
+	private long maxSizeMb;
+
+	/**
+	 * Cached artifact sizes keyed by fingerprint, in access order.
+	 */
+	private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private Path cachePath;
+
+	private long totalSize;
+
+	/**
+	 * Creates the cache directory, deletes the temporary files of generations a
+	 * previous run did not finish, and rebuilds the index from the artifacts it
+	 * left, oldest first.
+	 */
+	@PostConstruct
+	void init() {
+		if (!enabled) {
+			return;
+		}
+		cachePath = Paths.get(cacheDirectory);
+		try {
+			Files.createDirectories(cachePath);
+			try (DirectoryStream<Path> tempFiles = Files.newDirectoryStream(cachePath,
+					TEMP_PREFIX + "*" + TEMP_SUFFIX)) {
+				for (Path tempFile : tempFiles) {
+					Files.deleteIfExists(tempFile);
+				}
+			}
+			List<Path> artifacts;
+			try (Stream<Path> files = Files.list(cachePath)) {
+				artifacts = files.filter(file -> file.getFileName().toString().endsWith(ARTIFACT_SUFFIX))
+						.sorted(Comparator.comparing(this::lastModified)).collect(Collectors.toList());
+			}
+			for (Path artifact : artifacts) {
+				String fileName = artifact.getFileName().toString();
+				long size = Files.size(artifact);
+				entries.put(fileName.substring(0, fileName.length() - ARTIFACT_SUFFIX.length()), size);
+				totalSize += size;
+			}
+			evict();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Error initializing generation cache at: " + cachePath, e);
+		}
+	}
+
+	/**
+	 * Indicates whether artifacts are cached.
+	 *
+	 * @return true if the cache is enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Looks up the artifact for a fingerprint and marks it as recently used.
+	 *
+	 * @param fingerprint the content fingerprint of the project
+	 * @return the artifact file, or empty if it is not cached
+	 */
+	public synchronized Optional<Path> get(String fingerprint) {
+		if (!enabled || entries.get(fingerprint) == null) {
+			return Optional.empty();
+		}
+		Path artifact = artifactPath(fingerprint);
+		try {
+			Files.setLastModifiedTime(artifact, FileTime.fromMillis(System.currentTimeMillis()));
+			return Optional.of(artifact);
+		} catch (IOException e) {
+			// The file vanished underneath the cache; forget about it.
+			totalSize -= entries.remove(fingerprint);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Creates a temporary file in the cache directory for an artifact that is
+	 * about to be written.
+	 *
+	 * @return the temporary file
+	 * @throws IOException if the file cannot be created
+	 */
+	public Path createTempFile() throws IOException {
+		return Files.createTempFile(cachePath, TEMP_PREFIX, TEMP_SUFFIX);
+	}
+
+	/**
+	 * Moves a completely written artifact into the cache and evicts the least
+	 * recently used artifacts if the cache exceeds its size limit.
+	 *
+	 * @param fingerprint the content fingerprint of the project
+	 * @param tempFile    the artifact written to a file from {@link #createTempFile()}
+	 * @throws IOException if the artifact cannot be moved into the cache
+	 */
+	public synchronized void put(String fingerprint, Path tempFile) throws IOException {
+		long size = Files.size(tempFile);
+		Files.move(tempFile, artifactPath(fingerprint), StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE);
+
+		Long previousSize = entries.put(fingerprint, size);
+		totalSize += size - (previousSize == null ? 0 : previousSize);
+		evict();
+	}
+
+	/**
+	 * Removes least recently used artifacts until the cache fits its size limit.
+	 * Readers that already opened an evicted artifact can finish reading it.
+	 */
+	private void evict() {
+		long maxSize = maxSizeMb * 1024 * 1024;
+		Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+
+		while (totalSize > maxSize && iterator.hasNext()) {
+			Map.Entry<String, Long> eldest = iterator.next();
+			iterator.remove();
+			totalSize -= eldest.getValue();
+			try {
+				Files.deleteIfExists(artifactPath(eldest.getKey()));
+			} catch (IOException e) {
+				log.warn("Could not delete evicted generation artifact {}", eldest.getKey(), e);
+			}
+		}
+	}
+
+	private Path artifactPath(String fingerprint) {
+		return cachePath.resolve(fingerprint + ARTIFACT_SUFFIX);
+	}
+
+	private FileTime lastModified(Path file) {
+		try {
+			return Files.getLastModifiedTime(file);
+		} catch (IOException e) {
+			return FileTime.fromMillis(0);
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package com.user.driven.operations.serviceimpl;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.user.driven.operations.enums.GenerationRejectionReason;
+import com.user.driven.operations.service.GenerationRejectedException;
+import com.user.driven.operations.utils.CpuBudget;
+import com.user.driven.operations.utils.CpuBudgetExceededException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Bulkhead around synchronous project generation, keeping CPU-heavy generate
+ * and download requests from starving the request threads and connections the
+ * CRUD endpoints depend on.
+ * <p>
+ * At most a fixed number of generations run at the same time. Further requests
+ * wait in a bounded FIFO queue for a limited time; a request that finds the
+ * queue full or waits too long is rejected right away instead of holding its
+ * request thread. Every admitted generation runs under a {@link CpuBudget} and
+ * is stopped once it has used it up.
+ * </p>
+ * <p>
+ * Queue depth, running generations and rejections by reason are exported as
+ * {@code generation.bulkhead.*} metrics.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+@Component
+public class GenerationBulkhead {
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	/**
+	 * Number of generations running at the same time.
+	 */
+	@Value("${app.generation.bulkhead.max-concurrent:4}")
+	private int maxConcurrent;
+
+	/**
+	 * Number of requests that may wait for a free slot before new ones are
+	 * rejected.
+	 */
+	@Value("${app.generation.bulkhead.queue-capacity:8}")
+	private int queueCapacity;
+
+	/**
+	 * How long a request waits for a free slot before it is rejected.
+	 */
+	@Value("${app.generation.bulkhead.max-wait-ms:2000}")
+	private long maxWaitMillis;
+
+	/**
+	 * CPU time one generation may use; zero or less means unlimited.
+	 */
+	@Value("${app.generation.bulkhead.cpu-budget-ms:20000}")
+	private long cpuBudgetMillis;
+
+	@Value("${app.generation.bulkhead.retry-after-seconds:5}")
+	private long retryAfterSeconds;
+
+	private final AtomicInteger waiting = new AtomicInteger();
+
+	private final Map<GenerationRejectionReason, Counter> rejections = new EnumMap<>(
+			GenerationRejectionReason.class);
+
+	private Semaphore slots;
+
+	/**
+	 * Creates the slots and registers the metrics once the bulkhead properties
+	 * have been injected.
+	 */
+	@PostConstruct
+	void init() {
+		slots = new Semaphore(maxConcurrent, true);
+		Gauge.builder("generation.bulkhead.active", slots, s -> maxConcurrent - s.availablePermits())
+				.description("Generations running inside the bulkhead").register(meterRegistry);
+		Gauge.builder("generation.bulkhead.queued", waiting, AtomicInteger::get)
+				.description("Generation requests waiting for a free slot").register(meterRegistry);
+		for (GenerationRejectionReason reason : GenerationRejectionReason.values()) {
+			rejections.put(reason, Counter.builder("generation.bulkhead.rejected")
+					.description("Generation requests turned away by the bulkhead")
+					.tag("reason", reason.name().toLowerCase(Locale.ROOT)).register(meterRegistry));
+		}
+	}
+
+	/**
+	 * Runs generation work on the current thread inside the bulkhead, waiting in
+	 * the queue for a free slot if necessary.
+	 *
+	 * @param work the generation work
+	 * @return the result of the work
+	 * @throws IOException                 if the work fails
+	 * @throws GenerationRejectedException if the queue is full, no slot became
+	 *                                     free in time, or the work used up its
+	 *                                     CPU budget
+	 */
+	public <T> T execute(GenerationWork<T> work) throws IOException {
+		awaitSlot();
+		try (CpuBudget budget = CpuBudget.open(cpuBudgetMillis, TimeUnit.MILLISECONDS)) {
+			return work.call();
+		} catch (CpuBudgetExceededException e) {
+			throw reject(GenerationRejectionReason.CPU_BUDGET, e);
+		} finally {
+			slots.release();
+		}
+	}
+
+	private void awaitSlot() {
+		try {
+			// A timed attempt honours the queue order, unlike tryAcquire() without one.
+			if (slots.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+				return;
+			}
+			if (waiting.incrementAndGet() > queueCapacity) {
+				waiting.decrementAndGet();
+				throw reject(GenerationRejectionReason.QUEUE_FULL, null);
+			}
+			try {
+				if (!slots.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+					throw reject(GenerationRejectionReason.WAIT_TIMEOUT, null);
+				}
+			} finally {
+				waiting.decrementAndGet();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw reject(GenerationRejectionReason.WAIT_TIMEOUT, e);
+		}
+	}
+
+	private GenerationRejectedException reject(GenerationRejectionReason reason, Throwable cause) {
+		rejections.get(reason).increment();
+		return new GenerationRejectedException(reason, retryAfterSeconds, cause);
+	}
+
+	/**
+	 * Generation work run inside the bulkhead.
+	 */
+	@FunctionalInterface
+	public interface GenerationWork<T> {
+
+		T call() throws IOException;
+	}
+}
@@ -0,0 +1,226 @@
+package com.user.driven.operations.serviceimpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.user.driven.operations.config.SqlStatisticsReporter;
+import com.user.driven.operations.service.GeneratedArtifact;
+import com.user.driven.operations.service.GenerationJob;
+import com.user.driven.operations.service.GenerationJobService;
+import com.user.driven.operations.service.ProjectDefinitionService;
+import com.user.driven.operations.service.ProjectGenerationService;
+import com.user.driven.operations.utils.SqlStatistics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Implementation of {@link GenerationJobService} that runs generation jobs on a
+ * dedicated executor with a fixed number of threads and a bounded queue.
+ * <p>
+ * A job generates the project archive into the artifact cache, from where the
+ * result is served; a finished job keeps only the fingerprint of its archive,
+ * not the project it was generated from. Finished jobs are kept for the
+ * configured retention period and removed periodically.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+@Service
+public class GenerationJobServiceImpl implements GenerationJobService {
+
+	private static final Logger log = LoggerFactory.getLogger(GenerationJobServiceImpl.class);
+
+	private static final String SQL_SCOPE = "generation";
+
+	@Autowired
+	private ProjectDefinitionService projectService;
+
+	@Autowired
+	private ProjectGenerationService generationService;
+
+	@Autowired
+	private GenerationArtifactCache artifactCache;
+
+	@Autowired
+	private SqlStatisticsReporter sqlReporter;
+
+	/**
+	 * Number of jobs generated at the same time.
+	 */
+	@Value("${app.generation.jobs.concurrency:2}")
+	private int concurrency;
+
+	/**
+	 * Number of jobs that may wait for a free worker before new jobs are rejected.
+	 */
+	@Value("${app.generation.jobs.queue-capacity:20}")
+	private int queueCapacity;
+
+	@Value("${app.generation.jobs.retry-after-seconds:10}")
+	private long retryAfterSeconds;
+
+	/**
+	 * How long finished jobs remain available for status and result requests.
+	 */
+	@Value("${app.generation.jobs.retention-minutes:60}")
+	private long retentionMinutes;
+
+	private final Map<String, GenerationJob> jobs = new ConcurrentHashMap<>();
+
+	private ThreadPoolExecutor jobExecutor;
+
+	/**
+	 * Creates the job executor once the job properties have been injected.
+	 */
+	@PostConstruct
+	void initJobExecutor() {
+		AtomicInteger threadCount = new AtomicInteger();
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, "generation-job-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+		jobExecutor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/**
+	 * Stops the job executor when the application context shuts down.
+	 */
+	@PreDestroy
+	void shutdownJobExecutor() {
+		jobExecutor.shutdownNow();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public GenerationJob submitJob(Long projectId) {
+		if (projectService.getProjectById(projectId).isEmpty()) {
+			throw new RuntimeException("Project not found with id: " + projectId);
+		}
+		GenerationJob job = new GenerationJob(UUID.randomUUID().toString(), projectId);
+		jobs.put(job.getId(), job);
+		try {
+			jobExecutor.execute(() -> runJob(job));
+		} catch (RejectedExecutionException e) {
+			jobs.remove(job.getId());
+			throw e;
+		}
+		return job;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Optional<GenerationJob> getJob(String jobId) {
+		return Optional.ofNullable(jobs.get(jobId));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isResultAvailable(GenerationJob job) {
+		return getResultFile(job).isPresent() || currentArtifact(job).isPresent();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Optional<Path> getResultFile(GenerationJob job) {
+		return job.getResultFingerprint() == null ? Optional.empty() : artifactCache.get(job.getResultFingerprint());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void writeResult(GenerationJob job, OutputStream outputStream) throws IOException {
+		Optional<Path> resultFile = getResultFile(job);
+		if (resultFile.isPresent()) {
+			try {
+				Files.copy(resultFile.get(), outputStream);
+				return;
+			} catch (NoSuchFileException e) {
+				// Evicted since it was looked up; generate it again below.
+			}
+		}
+		GeneratedArtifact artifact = currentArtifact(job).orElseThrow(() -> new IOException(
+				"The result of job " + job.getId() + " was evicted and project " + job.getProjectId() + " has changed"));
+		generationService.writeDownload(artifact, outputStream);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+
+	private void runJob(GenerationJob job) {
+		job.markRunning();
+		try (SqlStatistics statistics = SqlStatistics.open(SQL_SCOPE)) {
+			try {
+				GeneratedArtifact artifact = generationService.prepareDownload(job.getProjectId());
+				job.markSucceeded(generationService.buildArtifact(artifact, job));
+			} catch (IOException | RuntimeException e) {
+				log.warn("Generation job {} for project {} failed", job.getId(), job.getProjectId(), e);
+				job.markFailed(e.getMessage());
+			} finally {
+				sqlReporter.report(statistics, "job");
+			}
+		}
+	}
+
+	/**
+	 * Resolves the artifact of the project a job generated, if the project is
+	 * still at the version the job generated.
+	 */
+	private Optional<GeneratedArtifact> currentArtifact(GenerationJob job) {
+		try {
+			GeneratedArtifact artifact = generationService.prepareDownload(job.getProjectId());
+			return artifact.getFingerprint().equals(job.getResultFingerprint()) ? Optional.of(artifact)
+					: Optional.empty();
+		} catch (RuntimeException e) {
+			// The project was deleted.
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Removes finished jobs whose retention period has passed.
+	 */
+	@Scheduled(fixedDelayString = "${app.generation.jobs.cleanup-interval-ms:60000}")
+	public void removeExpiredJobs() {
+		Instant expiry = Instant.now().minus(Duration.ofMinutes(retentionMinutes));
+		jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(expiry));
+	}
+}
@@ -0,0 +1,139 @@
+package com.user.driven.operations.serviceimpl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * {@link DirectoryFileSink} that only rewrites files whose inputs changed.
+ * <p>
+ * A manifest in the project root records, per generated file, the fingerprint
+ * of the template and model inputs it was rendered from. On the next run files
+ * with an unchanged fingerprint are skipped without rendering, and files that
+ * are no longer generated (e.g. those of deleted entities) are removed. The
+ * manifest is only replaced after a complete, successful run.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+public class IncrementalDirectorySink extends DirectoryFileSink {
+
+	/** Name of the manifest file in the project root */
+	public static final String MANIFEST_FILE = ".generation-manifest";
+
+	/**
+	 * Bumped whenever the format of the manifest changes, invalidating all
+	 * existing manifests. A new build of the generator needs no bump: the
+	 * recorded fingerprints include the generator version, so every file is
+	 * rendered again.
+	 */
+	private static final String MANIFEST_VERSION = "1";
+
+	private static final String VERSION_KEY = "@version";
+
+	private final Map<String, String> previousManifest;
+
+	private final Map<String, String> currentManifest = new ConcurrentHashMap<>();
+
+	private final AtomicInteger writtenFiles = new AtomicInteger();
+
+	private final AtomicInteger deletedFiles = new AtomicInteger();
+
+	/**
+	 * @param rootPath the project root directory
+	 * @throws IOException if an existing manifest cannot be read
+	 */
+	public IncrementalDirectorySink(Path rootPath) throws IOException {
+		super(rootPath);
+		this.previousManifest = readManifest(rootPath.resolve(MANIFEST_FILE));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean skipUnchanged(String relativePath, Supplier<String> inputHash) {
+		String hash = inputHash.get();
+		currentManifest.put(relativePath, hash);
+		return hash.equals(previousManifest.get(relativePath)) && Files.isRegularFile(rootPath.resolve(relativePath));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(String relativePath, String content) throws IOException {
+		super.write(relativePath, content);
+		writtenFiles.incrementAndGet();
+	}
+
+	/**
+	 * Completes a successful generation run: deletes the files that were
+	 * generated last time but not in this run, then stores the new manifest.
+	 *
+	 * @throws IOException if stale files or the manifest cannot be written
+	 */
+	public void complete() throws IOException {
+		for (String relativePath : previousManifest.keySet()) {
+			if (!currentManifest.containsKey(relativePath)
+					&& Files.deleteIfExists(rootPath.resolve(relativePath))) {
+				deletedFiles.incrementAndGet();
+			}
+		}
+		writeManifest(rootPath.resolve(MANIFEST_FILE));
+	}
+
+	/**
+	 * @return the number of files rendered and written in this run
+	 */
+	public int getWrittenFiles() {
+		return writtenFiles.get();
+	}
+
+	/**
+	 * @return the number of stale files removed in this run
+	 */
+	public int getDeletedFiles() {
+		return deletedFiles.get();
+	}
+
+	private Map<String, String> readManifest(Path manifestPath) throws IOException {
+		Map<String, String> manifest = new TreeMap<>();
+		if (!Files.isRegularFile(manifestPath)) {
+			return manifest;
+		}
+
+		Properties properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(manifestPath, StandardCharsets.UTF_8)) {
+			properties.load(reader);
+		}
+		if (!MANIFEST_VERSION.equals(properties.getProperty(VERSION_KEY))) {
+			return manifest;
+		}
+		properties.remove(VERSION_KEY);
+		properties.forEach((path, hash) -> manifest.put((String) path, (String) hash));
+		return manifest;
+	}
+
+	private void writeManifest(Path manifestPath) throws IOException {
+		Path tempPath = manifestPath.resolveSibling(MANIFEST_FILE + ".tmp");
+		Properties properties = new Properties();
+		properties.putAll(currentManifest);
+		properties.setProperty(VERSION_KEY, MANIFEST_VERSION);
+
+		try (Writer writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+			properties.store(writer, "Input fingerprints of generated files");
+		}
+		Files.move(tempPath, manifestPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+}
@@ -0,0 +1,44 @@
+package com.user.driven.operations.serviceimpl;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import com.user.driven.operations.service.GenerationProgressListener;
+
+/**
+ * {@link GeneratedFileSink} decorator that reports every finished file to a
+ * {@link GenerationProgressListener}.
+ *
+ * @author Jatin Raheja
+ */
+public class ProgressTrackingSink implements GeneratedFileSink {
+
+	private final GeneratedFileSink delegate;
+
+	private final GenerationProgressListener listener;
+
+	public ProgressTrackingSink(GeneratedFileSink delegate, GenerationProgressListener listener) {
+		this.delegate = delegate;
+		this.listener = listener;
+	}
+
+	@Override
+	public void write(String relativePath, String content) throws IOException {
+		delegate.write(relativePath, content);
+		listener.onFileGenerated();
+	}
+
+	@Override
+	public boolean skipUnchanged(String relativePath, Supplier<String> inputHash) {
+		boolean unchanged = delegate.skipUnchanged(relativePath, inputHash);
+		if (unchanged) {
+			listener.onFileGenerated();
+		}
+		return unchanged;
+	}
+
+	@Override
+	public boolean isConcurrent() {
+		return delegate.isConcurrent();
+	}
+}
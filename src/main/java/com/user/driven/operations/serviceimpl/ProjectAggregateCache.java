@@ -0,0 +1,50 @@
+package com.user.driven.operations.serviceimpl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.user.driven.operations.utils.AppConstants;
+
+/**
+ * Invalidates cached project aggregates when a project or one of its entities,
+ * fields or operations is written.
+ * <p>
+ * The entry is evicted immediately and once more after the surrounding
+ * transaction completes, so a concurrent reader that reloaded the aggregate
+ * before the commit cannot leave the pre-commit state in the cache.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+@Component
+public class ProjectAggregateCache {
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	/**
+	 * Evicts the cached aggregate of a project.
+	 *
+	 * @param projectId the ID of the written project
+	 */
+	public void evict(Long projectId) {
+		Cache cache = cacheManager.getCache(AppConstants.projectAggregateCache);
+		if (cache == null || projectId == null) {
+			return;
+		}
+		cache.evict(projectId);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					cache.evict(projectId);
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package com.user.driven.operations.serviceimpl;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.user.driven.operations.entities.EntityDefinition;
+import com.user.driven.operations.entities.ProjectDefinition;
+import com.user.driven.operations.repository.EntityDefinitionRepository;
+import com.user.driven.operations.repository.ProjectDefinitionRepository;
+
+/**
+ * Loads project and entity aggregates (entities, fields and operations) in a
+ * constant number of queries, independent of the number of entities.
+ * <p>
+ * Fields and operations are both bags, which cannot be fetch-joined in the
+ * same query without a {@code MultipleBagFetchException}. Each collection is
+ * therefore fetched by its own set-based query over all entities of the
+ * project; Hibernate initializes the collections of the entities already
+ * loaded in the persistence context.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+@Component
+@Transactional(readOnly = true)
+public class ProjectAggregateLoader {
+
+	@Autowired
+	private ProjectDefinitionRepository projectRepository;
+
+	@Autowired
+	private EntityDefinitionRepository entityRepository;
+
+	/**
+	 * Loads a project with its entities and their fields and operations in three
+	 * queries.
+	 *
+	 * @param projectId the ID of the project
+	 * @return an Optional containing the fully loaded project if found
+	 */
+	public Optional<ProjectDefinition> loadProject(Long projectId) {
+		Optional<ProjectDefinition> projectOpt = projectRepository.findByIdWithEntities(projectId);
+
+		if (projectOpt.isPresent() && !projectOpt.get().getEntities().isEmpty()) {
+			entityRepository.findByProjectIdWithFields(projectId);
+			entityRepository.findByProjectIdWithOperations(projectId);
+		}
+
+		return projectOpt;
+	}
+
+	/**
+	 * Loads the entities of a project with their fields and operations in two
+	 * queries, in ID order. Unlike {@link #loadProject(Long)}, the entities are
+	 * read from the rows even if the project's entity collection is already
+	 * loaded in the persistence context.
+	 *
+	 * @param projectId the ID of the project
+	 * @return the entities of the project
+	 */
+	public List<EntityDefinition> loadEntities(Long projectId) {
+		List<EntityDefinition> entities = entityRepository.findByProjectIdWithFields(projectId);
+		if (!entities.isEmpty()) {
+			entityRepository.findByProjectIdWithOperations(projectId);
+		}
+		return entities.stream().sorted(Comparator.comparing(EntityDefinition::getId)).toList();
+	}
+
+	/**
+	 * Loads the entities, fields and operations of a batch of projects already
+	 * in the persistence context in three queries, independent of the batch
+	 * size.
+	 *
+	 * @param projects the projects to complete
+	 */
+	public void loadAggregates(List<ProjectDefinition> projects) {
+		List<Long> projectIds = projects.stream().map(ProjectDefinition::getId).toList();
+		if (projectIds.isEmpty()) {
+			return;
+		}
+
+		projectRepository.findByIdInWithEntities(projectIds);
+		if (projects.stream().anyMatch(project -> !project.getEntities().isEmpty())) {
+			entityRepository.findByProjectIdInWithFields(projectIds);
+			entityRepository.findByProjectIdInWithOperations(projectIds);
+		}
+	}
+
+	/**
+	 * Loads an entity with its fields and operations in two queries.
+	 *
+	 * @param entityId the ID of the entity
+	 * @return an Optional containing the fully loaded entity if found
+	 */
+	public Optional<EntityDefinition> loadEntity(Long entityId) {
+		Optional<EntityDefinition> entityOpt = entityRepository.findByIdWithFields(entityId);
+
+		if (entityOpt.isPresent()) {
+			entityRepository.findByIdWithOperations(entityId);
+		}
+
+		return entityOpt;
+	}
+}
@@ -4,17 +4,27 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.user.driven.operations.dto.CursorPageDto;
 import com.user.driven.operations.dto.ProjectDefinitionDto;
-import com.user.driven.operations.entities.EntityDefinition;
+import com.user.driven.operations.dto.ProjectSummaryDto;
 import com.user.driven.operations.entities.ProjectDefinition;
+import com.user.driven.operations.enums.SummarySort;
 import com.user.driven.operations.mapper.DtoMapper;
+import com.user.driven.operations.repository.EntityDefinitionRepository;
 import com.user.driven.operations.repository.FieldDefinitionRepository;
 import com.user.driven.operations.repository.OperationConfigRepository;
 import com.user.driven.operations.repository.ProjectDefinitionRepository;
 import com.user.driven.operations.service.ProjectDefinitionService;
+import com.user.driven.operations.utils.AppConstants;
+import com.user.driven.operations.utils.KeysetCursor;
+import com.user.driven.operations.utils.PrimaryReads;
 
 /**
  * Implementation of {@link ProjectDefinitionService} for managing project definitions.
@@ -27,6 +37,12 @@ import com.user.driven.operations.service.ProjectDefinitionService;
 @Transactional
 public class ProjectDefinitionServiceImpl implements ProjectDefinitionService {
 
+	@Autowired
+	private ProjectDefinitionRepository projectRepository;
+
+	@Autowired
+	private EntityDefinitionRepository entityRepository;
+
 	@Autowired
 	private FieldDefinitionRepository fieldRepository;
 
@@ -34,11 +50,23 @@ public class ProjectDefinitionServiceImpl implements ProjectDefinitionService {
 	private OperationConfigRepository operationRepository;
 
 	@Autowired
-	private ProjectDefinitionRepository projectRepository;
+	private ProjectAggregateLoader aggregateLoader;
+
+	@Autowired
+	private ProjectAggregateCache aggregateCache;
+
+	@Autowired
+	private DefinitionSnapshotStore definitionSnapshots;
 
 	@Autowired
 	private DtoMapper dtoMapper;
 
+	@Value("${app.listing.default-page-size:50}")
+	private int defaultPageSize;
+
+	@Value("${app.listing.max-page-size:200}")
+	private int maxPageSize;
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -48,8 +76,9 @@ public class ProjectDefinitionServiceImpl implements ProjectDefinitionService {
 			throw new RuntimeException("Project with name '" + projectDto.getName() + "' already exists");
 		}
 
-		ProjectDefinition project = dtoMapper.toEntity(projectDto);
-		return projectRepository.save(project);
+		ProjectDefinition project = projectRepository.save(dtoMapper.toEntity(projectDto));
+		definitionSnapshots.scheduleRefresh(project.getId());
+		return project;
 	}
 
 	/**
@@ -63,26 +92,18 @@ public class ProjectDefinitionServiceImpl implements ProjectDefinitionService {
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * Read from the primary: a replica behind the last commit would put a stale
+	 * aggregate into the cache right after the commit evicted it.
+	 * </p>
 	 */
 	@Override
 	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = AppConstants.projectAggregateCache, key = "#id", unless = "#result == null")
 	public Optional<ProjectDefinition> getProjectByIdWithEntities(Long id) {
-		Optional<ProjectDefinition> projectOpt = projectRepository.findByIdWithEntities(id);
-
-		if (projectOpt.isPresent()) {
-			ProjectDefinition project = projectOpt.get();
-
-			// Manually load fields and operations for each entity to avoid
-			// MultipleBagFetchException
-			for (EntityDefinition entity : project.getEntities()) {
-				// Load fields
-				entity.setFields(fieldRepository.findByEntityId(entity.getId()));
-				// Load operations
-				entity.setOperations(operationRepository.findByEntityId(entity.getId()));
-			}
+		try (PrimaryReads pinned = PrimaryReads.pin()) {
+			return aggregateLoader.loadProject(id);
 		}
-
-		return projectOpt;
 	}
 
 	/**
@@ -98,15 +119,31 @@ public class ProjectDefinitionServiceImpl implements ProjectDefinitionService {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public ProjectDefinition updateProject(Long id, ProjectDefinitionDto projectDto) {
+	@Transactional(readOnly = true)
+	public CursorPageDto<ProjectSummaryDto> getProjectSummaries(String name, SummarySort sort, Sort.Direction direction,
+			String cursor, Integer limit) {
+		int pageSize = KeysetCursor.pageSize(limit, defaultPageSize, maxPageSize);
+		List<ProjectSummaryDto> rows = projectRepository.findSummaries(name, sort, direction,
+				KeysetCursor.decode(cursor, sort, direction), pageSize);
+		return KeysetCursor.toPage(rows, pageSize, sort, direction);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ProjectDefinition updateProject(Long id, ProjectDefinitionDto projectDto, Long expectedVersion) {
 		ProjectDefinition existingProject = projectRepository.findById(id)
 				.orElseThrow(() -> new RuntimeException("Project not found with id: " + id));
+		checkVersion(id, existingProject.getVersion(), expectedVersion);
 
 		if (!existingProject.getName().equals(projectDto.getName()) && existsByName(projectDto.getName())) {
 			throw new RuntimeException("Project with name '" + projectDto.getName() + "' already exists");
 		}
 
 		dtoMapper.updateEntityFromDto(projectDto, existingProject);
+		aggregateCache.evict(id);
+		definitionSnapshots.scheduleRefresh(id);
 		return projectRepository.save(existingProject);
 	}
 
@@ -114,11 +151,78 @@ public class ProjectDefinitionServiceImpl implements ProjectDefinitionService {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public void deleteProject(Long id) {
-		if (!projectRepository.existsById(id)) {
-			throw new RuntimeException("Project not found with id: " + id);
+	public void deleteProject(Long id, Long expectedVersion) {
+		Long version = projectRepository.findVersionById(id)
+				.orElseThrow(() -> new RuntimeException("Project not found with id: " + id));
+		checkVersion(id, version, expectedVersion);
+
+		// One statement per table instead of loading and removing the aggregate row
+		// by row; the version condition on the last one rejects concurrent writes.
+		operationRepository.deleteAllByProjectId(id);
+		fieldRepository.deleteAllByProjectId(id);
+		entityRepository.deleteAllByProjectId(id);
+		if (projectRepository.deleteByIdAndVersion(id, version) == 0) {
+			throw new OptimisticLockingFailureException("Project " + id + " was changed while being deleted");
+		}
+		aggregateCache.evict(id);
+		definitionSnapshots.scheduleRefresh(id);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The source project stays share-locked while it is copied, so changes to it
+	 * committing in between cannot leave the copy half old and half new.
+	 * </p>
+	 */
+	@Override
+	public ProjectDefinition cloneProject(Long id, String name) {
+		if (existsByName(name)) {
+			throw new IllegalArgumentException("Project with name '" + name + "' already exists");
 		}
-		projectRepository.deleteById(id);
+		projectRepository.findByIdForShare(id)
+				.orElseThrow(() -> new RuntimeException("Project not found with id: " + id));
+
+		Long cloneId = projectRepository.cloneProject(id, name);
+		definitionSnapshots.scheduleRefresh(cloneId);
+		return projectRepository.findById(cloneId)
+				.orElseThrow(() -> new RuntimeException("Project not found with id: " + cloneId));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Read from the primary, so conditional requests are never answered from a
+	 * version the replica has not caught up with.
+	 * </p>
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<Long> getProjectVersion(Long id) {
+		try (PrimaryReads pinned = PrimaryReads.pin()) {
+			return projectRepository.findVersionById(id);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void evictProjectAggregate(Long id) {
+		aggregateCache.evict(id);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ProjectDefinition lockForChange(Long id, Long expectedVersion) {
+		ProjectDefinition project = projectRepository.findByIdForVersionIncrement(id)
+				.orElseThrow(() -> new RuntimeException("Project not found with id: " + id));
+		checkVersion(id, project.getVersion(), expectedVersion);
+		aggregateCache.evict(id);
+		definitionSnapshots.scheduleRefresh(id);
+		return project;
 	}
 
 	/**
@@ -129,4 +233,15 @@ public class ProjectDefinitionServiceImpl implements ProjectDefinitionService {
 	public boolean existsByName(String name) {
 		return projectRepository.existsByName(name);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Rejects a write based on a stale copy of the project. A concurrent commit
+	 * after this check is detected by the version check of the UPDATE itself.
+	 */
+	private void checkVersion(Long projectId, Long version, Long expectedVersion) {
+		if (expectedVersion != null && !expectedVersion.equals(version)) {
+			throw new OptimisticLockingFailureException("Project " + projectId + " is at version "
+					+ version + ", not " + expectedVersion);
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.user.driven.operations.serviceimpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.driven.operations.entities.ProjectDefinition;
+import com.user.driven.operations.mapper.DtoMapper;
+import com.user.driven.operations.repository.ProjectDefinitionRepository;
+import com.user.driven.operations.service.ProjectExportService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Implementation of {@link ProjectExportService}.
+ * <p>
+ * Projects are read through a forward-only cursor and handled in batches: the
+ * entities, fields and operations of a batch are loaded with three set-based
+ * queries, written with a {@link JsonGenerator} and then cleared from the
+ * persistence context. Memory use is bounded by one batch, however many
+ * projects are exported.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+@Service
+@Transactional(readOnly = true)
+public class ProjectExportServiceImpl implements ProjectExportService {
+
+	@Autowired
+	private ProjectDefinitionRepository projectRepository;
+
+	@Autowired
+	private ProjectAggregateLoader aggregateLoader;
+
+	@Autowired
+	private DtoMapper dtoMapper;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Value("${app.export.batch-size:100}")
+	private int batchSize;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void exportProjects(OutputStream outputStream, boolean ndjson) throws IOException {
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+				Stream<ProjectDefinition> projects = projectRepository.streamAll(batchSize)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			generator.setRootValueSeparator(null);
+			if (!ndjson) {
+				generator.writeStartArray();
+			}
+
+			// The cursor is only advanced after a batch is written and cleared, so
+			// every project read is still managed when its batch is loaded.
+			List<ProjectDefinition> batch = new ArrayList<>(batchSize);
+			Iterator<ProjectDefinition> iterator = projects.iterator();
+			while (iterator.hasNext()) {
+				batch.add(iterator.next());
+				if (batch.size() == batchSize) {
+					writeBatch(generator, batch, ndjson);
+					batch.clear();
+				}
+			}
+			if (!batch.isEmpty()) {
+				writeBatch(generator, batch, ndjson);
+			}
+
+			if (!ndjson) {
+				generator.writeEndArray();
+			}
+		}
+	}
+
+	private void writeBatch(JsonGenerator generator, List<ProjectDefinition> batch, boolean ndjson)
+			throws IOException {
+		aggregateLoader.loadAggregates(batch);
+		for (ProjectDefinition project : batch) {
+			generator.writeObject(dtoMapper.toDto(project));
+			if (ndjson) {
+				generator.writeRaw('\n');
+			}
+		}
+		generator.flush();
+		entityManager.clear();
+	}
+}
@@ -1,64 +1,342 @@
 package com.user.driven.operations.serviceimpl;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.user.driven.operations.entities.ProjectDefinition;
-import com.user.driven.operations.service.ProjectDefinitionService;
+import com.user.driven.operations.mapper.RenderModelMapper;
+import com.user.driven.operations.enums.GenerationRejectionReason;
+import com.user.driven.operations.model.ProjectModel;
+import com.user.driven.operations.service.GeneratedArtifact;
+import com.user.driven.operations.service.GenerationProgressListener;
+import com.user.driven.operations.service.GenerationRejectedException;
 import com.user.driven.operations.service.ProjectGenerationService;
-import com.user.driven.operations.utils.FileUtils;
+import com.user.driven.operations.utils.FingerprintUtils;
+import com.user.driven.operations.utils.SingleFlight;
+import com.user.driven.operations.utils.ZipArchiveBuilder;
+import com.user.driven.operations.utils.ZipArchiveBuilder.ArchiveStream;
 
 /**
  * Implementation of {@link ProjectGenerationService} for generating and downloading
  * Spring Boot project source code based on the provided project definition.
  * 
  * This service handles generating the directory structure, writing code files, and
- * compressing the project for download.
+ * streaming the project as a ZIP archive for download. Archives are cached by
+ * the content fingerprint of the project, so unchanged projects are not
+ * regenerated. Concurrent requests for the same project version share a single
+ * generation. Project definitions are read from their denormalized snapshot.
  * 
  * @author Jatin Raheja
  */
 @Service
 public class ProjectGenerationServiceImpl implements ProjectGenerationService {
 
+	private static final int DIRECTORY_LOCK_STRIPES = 32;
+
 	@Autowired
-	private ProjectDefinitionService projectService;
+	private DefinitionSnapshotStore definitionSnapshots;
 
 	@Autowired
 	private CodeGenerator codeGenerator;
 
 	@Autowired
-	private FileUtils fileUtils;
+	private FingerprintUtils fingerprintUtils;
+
+	@Autowired
+	private RenderModelMapper renderModelMapper;
+
+	@Autowired
+	private GenerationArtifactCache artifactCache;
+
+	@Autowired
+	private ProjectSnapshotStore snapshotStore;
+
+	@Autowired
+	private ZipArchiveBuilder zipArchiveBuilder;
+
+	@Autowired
+	private GenerationBulkhead bulkhead;
+
+	/**
+	 * In-flight archive generations keyed by project version.
+	 */
+	private final SingleFlight<String, Void> artifactFlights = new SingleFlight<>();
+
+	/**
+	 * In-flight directory generations keyed by project version.
+	 */
+	private final SingleFlight<String, String> directoryFlights = new SingleFlight<>();
 
-	@Value("${app.generated-projects.directory}")
-	private String generatedProjectsDirectory;
+	/**
+	 * Striped locks serializing writes into the same project directory while
+	 * independent projects generate in parallel.
+	 */
+	private final Lock[] directoryLocks = createLocks(DIRECTORY_LOCK_STRIPES);
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public String generateProject(Long projectId) throws IOException {
-		ProjectDefinition project = projectService.getProjectByIdWithEntities(projectId)
+		ProjectDefinition project = definitionSnapshots.load(projectId)
 				.orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
 
-		Path projectPath = Paths.get(generatedProjectsDirectory, project.getName());
+		Path projectPath = snapshotStore.getPublishedPath(project.getName());
+		String fingerprint = fingerprintUtils.fingerprint(project);
+
+		// Concurrent requests for the same project version share one generation, which
+		// takes a bulkhead slot; different versions of the same project take turns on
+		// its directory.
+		AtomicBoolean joined = new AtomicBoolean();
+		try {
+			return directoryFlights.execute(flightKey(projectId, fingerprint),
+					() -> bulkhead.execute(() -> generateDirectory(project, projectPath)), () -> joined.set(true));
+		} catch (GenerationRejectedException e) {
+			if (joined.get() && e.getReason() == GenerationRejectionReason.CPU_BUDGET) {
+				throw new IOException("Shared generation of project " + projectId + " failed: " + e.getMessage(), e);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Generates a project into a staging directory and publishes it as the new
+	 * snapshot of the project directory.
+	 *
+	 * @return the published snapshot, which stays unchanged while it is retained
+	 */
+	private String generateDirectory(ProjectDefinition project, Path projectPath) throws IOException {
+		Lock lock = directoryLock(projectPath);
+		lock.lock();
+		try {
+			// Generate project structure and files into a staging directory, then
+			// publish it as the new snapshot in one atomic step.
+			Path staging = snapshotStore.createStagingDirectory(project.getName());
+			try {
+				codeGenerator.generateProject(project, staging);
+				return snapshotStore.publish(project.getName(), staging).toString();
+			} catch (IOException | RuntimeException e) {
+				snapshotStore.discard(staging);
+				throw e;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public GeneratedArtifact prepareDownload(Long projectId) {
+		ProjectDefinition project = definitionSnapshots.load(projectId)
+				.orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
+
+		String fingerprint = fingerprintUtils.fingerprint(project);
+		Path cachedFile = artifactCache.get(fingerprint).orElse(null);
+		return new GeneratedArtifact(project, fingerprint, cachedFile);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public SeekableByteChannel openDownload(GeneratedArtifact artifact) throws IOException {
+		SeekableByteChannel archive = openCached(artifact.getCachedFile());
+		if (archive != null) {
+			return archive;
+		}
+		if (artifactCache.isEnabled()) {
+			// Only the generation takes a slot; callers read the finished archive
+			// afterwards, each at the pace of its own client.
+			generateShared(artifact, () -> bulkhead.execute(() -> {
+				writeAndCache(artifact, null);
+				return null;
+			}));
+			archive = openCached(artifactCache.get(artifact.getFingerprint()).orElse(null));
+			if (archive != null) {
+				return archive;
+			}
+		}
+		// The cache is disabled, or the archive did not fit into it or was evicted
+		// right away.
+		return bulkhead.execute(() -> generateTemporary(artifact.getProject()));
+	}
 
-		// Generate project structure and files
-		codeGenerator.generateProject(project, projectPath);
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void writeDownload(GeneratedArtifact artifact, OutputStream outputStream) throws IOException {
+		try (InputStream archive = Channels.newInputStream(openDownload(artifact))) {
+			archive.transferTo(outputStream);
+		}
+	}
 
-		return projectPath.toString();
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public GeneratedArtifact buildArtifact(GeneratedArtifact artifact, GenerationProgressListener listener)
+			throws IOException {
+		if (!artifactCache.isEnabled()
+				|| (artifact.getCachedFile() != null && Files.exists(artifact.getCachedFile()))) {
+			return artifact;
+		}
+		if (!generateShared(artifact, () -> {
+			writeAndCache(artifact, listener);
+			return null;
+		}) && artifactCache.get(artifact.getFingerprint()).isEmpty()) {
+			// The shared generation failed or its archive was evicted right away.
+			writeAndCache(artifact, listener);
+		}
+		return new GeneratedArtifact(artifact.getProject(), artifact.getFingerprint(),
+				artifactCache.get(artifact.getFingerprint()).orElse(null));
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public byte[] downloadProject(Long projectId) throws IOException {
-		String projectPath = generateProject(projectId);
-		return fileUtils.createZipFile(Paths.get(projectPath));
+	public void downloadProject(Long projectId, OutputStream outputStream) throws IOException {
+		writeDownload(prepareDownload(projectId), outputStream);
+	}
+
+	/**
+	 * Runs a generation of the archive into the artifact cache, unless the same
+	 * project version is already being generated by another thread, in which case
+	 * the call waits for the other generation instead. A CPU budget the other
+	 * generation ran out of is not reported as a rejection of this call.
+	 *
+	 * @return true if the generation ran here, false if the call joined another
+	 *         generation, which may have failed
+	 */
+	private boolean generateShared(GeneratedArtifact artifact, SingleFlight.Task<Void> generation)
+			throws IOException {
+		AtomicBoolean generatedHere = new AtomicBoolean();
+		try {
+			artifactFlights.execute(flightKey(artifact.getProject().getId(), artifact.getFingerprint()), () -> {
+				generatedHere.set(true);
+				return generation.call();
+			});
+		} catch (IOException e) {
+			if (generatedHere.get()) {
+				throw e;
+			}
+			// The shared generation failed; the caller generates on its own.
+		} catch (GenerationRejectedException e) {
+			if (generatedHere.get()) {
+				throw e;
+			}
+			throw new IOException("Shared generation failed: " + e.getMessage(), e);
+		}
+		return generatedHere.get();
+	}
+
+	/**
+	 * Generates the archive into a temporary file of the artifact cache and
+	 * stores it in the cache once it is complete.
+	 */
+	private void writeAndCache(GeneratedArtifact artifact, GenerationProgressListener listener) throws IOException {
+		Path tempFile = artifactCache.createTempFile();
+		try {
+			try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+				writeZip(artifact.getProject(), outputStream, listener);
+			}
+			artifactCache.put(artifact.getFingerprint(), tempFile);
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	/**
+	 * Generates the archive into a temporary file outside the cache and opens it.
+	 * The file is deleted when the returned channel is closed.
+	 */
+	private SeekableByteChannel generateTemporary(ProjectDefinition project) throws IOException {
+		Path tempFile = Files.createTempFile("artifact-", ".zip");
+		try {
+			try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+				writeZip(project, outputStream, null);
+			}
+			return Files.newByteChannel(tempFile, StandardOpenOption.READ, StandardOpenOption.DELETE_ON_CLOSE);
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(tempFile);
+			throw e;
+		}
+	}
+
+	/**
+	 * Opens a cached archive. An archive evicted after it was opened stays
+	 * readable through the returned channel.
+	 *
+	 * @return the opened archive, or null if there is none or it has been evicted
+	 */
+	private static SeekableByteChannel openCached(Path cachedFile) throws IOException {
+		if (cachedFile == null) {
+			return null;
+		}
+		try {
+			return Files.newByteChannel(cachedFile);
+		} catch (NoSuchFileException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Key of a project version: the project ID combined with its content
+	 * fingerprint.
+	 */
+	private String flightKey(Long projectId, String fingerprint) {
+		return projectId + ":" + fingerprint;
+	}
+
+	/**
+	 * Returns the lock stripe guarding a generated project directory.
+	 */
+	private Lock directoryLock(Path projectPath) {
+		return directoryLocks[Math.floorMod(projectPath.toAbsolutePath().normalize().hashCode(),
+				directoryLocks.length)];
+	}
+
+	/**
+	 * Renders the project into a ZIP archive on the given stream, compressing and
+	 * writing the files while later ones are still generated and reporting
+	 * progress to the listener if one is given.
+	 */
+	private void writeZip(ProjectDefinition project, OutputStream outputStream, GenerationProgressListener listener)
+			throws IOException {
+		ProjectModel model = renderModelMapper.toRenderModel(project);
+		try (ArchiveStream archive = zipArchiveBuilder.openArchive(outputStream)) {
+			GeneratedFileSink sink = new ZipStreamFileSink(archive);
+			if (listener != null) {
+				listener.onStart(codeGenerator.countFiles(model));
+				sink = new ProgressTrackingSink(sink, listener);
+			}
+			codeGenerator.generateProject(model, sink);
+			archive.finish();
+		}
+	}
+
+	private static Lock[] createLocks(int stripes) {
+		Lock[] locks = new Lock[stripes];
+		for (int i = 0; i < stripes; i++) {
+			locks[i] = new ReentrantLock();
+		}
+		return locks;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,192 @@
+package com.user.driven.operations.serviceimpl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.user.driven.operations.dto.EntityDefinitionDto;
+import com.user.driven.operations.dto.ProjectDefinitionDto;
+import com.user.driven.operations.dto.ProjectImportDto;
+import com.user.driven.operations.entities.EntityDefinition;
+import com.user.driven.operations.entities.ProjectDefinition;
+import com.user.driven.operations.mapper.DtoMapper;
+import com.user.driven.operations.repository.ProjectDefinitionRepository;
+import com.user.driven.operations.service.ProjectImportService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Implementation of {@link ProjectImportService}.
+ * <p>
+ * The document is read with Jackson's streaming parser: only the project
+ * attributes and the entity currently being imported are materialized. Entities
+ * are persisted as they are read, and the persistence context is flushed in JDBC
+ * batches and cleared whenever the pending rows reach a fixed count, so memory
+ * use does not grow with the size of the definition.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+@Service
+@Transactional
+public class ProjectImportServiceImpl implements ProjectImportService {
+
+	private static final Logger log = LoggerFactory.getLogger(ProjectImportServiceImpl.class);
+
+	private static final String ENTITIES = "entities";
+
+	@Autowired
+	private ProjectDefinitionRepository projectRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private Validator validator;
+
+	@Autowired
+	private DtoMapper dtoMapper;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Value("${app.import.flush-rows:1000}")
+	private int flushRows;
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The definition snapshot of the imported project is not written here; like
+	 * for projects predating snapshots, it is built on first use.
+	 * </p>
+	 */
+	@Override
+	public ProjectImportDto importProject(InputStream json) throws IOException {
+		long start = System.nanoTime();
+		ProjectImportDto result = new ProjectImportDto();
+		ObjectNode attributes = objectMapper.createObjectNode();
+
+		try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new IllegalArgumentException("Expected a project definition object");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String property = parser.currentName();
+				JsonToken value = parser.nextToken();
+				if (result.getProjectId() != null) {
+					throw new IllegalArgumentException("Project attributes must precede the entities array");
+				}
+				if (!ENTITIES.equals(property)) {
+					attributes.set(property, objectMapper.readTree(parser));
+					continue;
+				}
+
+				createProject(attributes, result);
+				if (value == JsonToken.START_ARRAY) {
+					importEntities(parser, result);
+				} else if (value != JsonToken.VALUE_NULL) {
+					throw new IllegalArgumentException("Expected an array of entities");
+				}
+			}
+		}
+
+		if (result.getProjectId() == null) {
+			createProject(attributes, result);
+		}
+		entityManager.flush();
+		entityManager.clear();
+		result.setBatches(result.getBatches() + 1);
+		result.setDurationMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		log.info("Imported project '{}': {} entities, {} fields, {} operations in {} batch(es), {} ms",
+				result.getName(), result.getEntities(), result.getFields(), result.getOperations(),
+				result.getBatches(), result.getDurationMillis());
+		return result;
+	}
+
+	private void createProject(ObjectNode attributes, ProjectImportDto result) throws IOException {
+		ProjectDefinitionDto projectDto = objectMapper.treeToValue(attributes, ProjectDefinitionDto.class);
+		validate(projectDto, "project");
+		if (projectRepository.existsByName(projectDto.getName())) {
+			throw new DuplicateKeyException("Project with name '" + projectDto.getName() + "' already exists");
+		}
+
+		ProjectDefinition project = dtoMapper.toEntity(projectDto);
+		entityManager.persist(project);
+		result.setProjectId(project.getId());
+		result.setName(project.getName());
+	}
+
+	/**
+	 * Reads and persists the elements of the entities array one at a time.
+	 */
+	private void importEntities(JsonParser parser, ProjectImportDto result) throws IOException {
+		Set<String> entityNames = new HashSet<>();
+		int pendingRows = 0;
+		JsonToken token;
+		while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+			String path = ENTITIES + "[" + result.getEntities() + "]";
+			EntityDefinitionDto entityDto = objectMapper.readValue(parser, EntityDefinitionDto.class);
+			validate(entityDto, path);
+			validateAll(entityDto.getFields(), path + ".fields");
+			validateAll(entityDto.getOperations(), path + ".operations");
+			if (!entityNames.add(entityDto.getName())) {
+				throw new IllegalArgumentException(path + ": duplicate entity name '" + entityDto.getName() + "'");
+			}
+
+			EntityDefinition entity = dtoMapper.toEntity(entityDto);
+			entity.setProject(entityManager.getReference(ProjectDefinition.class, result.getProjectId()));
+			entityManager.persist(entity);
+			result.setEntities(result.getEntities() + 1);
+			result.setFields(result.getFields() + entity.getFields().size());
+			result.setOperations(result.getOperations() + entity.getOperations().size());
+
+			pendingRows += 1 + entity.getFields().size() + entity.getOperations().size();
+			if (pendingRows >= flushRows) {
+				entityManager.flush();
+				entityManager.clear();
+				pendingRows = 0;
+				result.setBatches(result.getBatches() + 1);
+				log.info("Importing project '{}': {} entities, {} fields, {} operations written", result.getName(),
+						result.getEntities(), result.getFields(), result.getOperations());
+			}
+		}
+		if (token != JsonToken.END_ARRAY) {
+			throw new IllegalArgumentException(ENTITIES + "[" + result.getEntities() + "]: expected an entity object");
+		}
+	}
+
+	private void validateAll(List<?> dtos, String path) {
+		if (dtos != null) {
+			for (int i = 0; i < dtos.size(); i++) {
+				validate(dtos.get(i), path + "[" + i + "]");
+			}
+		}
+	}
+
+	private void validate(Object dto, String path) {
+		Set<ConstraintViolation<Object>> violations = validator.validate(dto);
+		if (!violations.isEmpty()) {
+			ConstraintViolation<Object> violation = violations.iterator().next();
+			throw new IllegalArgumentException(
+					path + "." + violation.getPropertyPath() + ": " + violation.getMessage());
+		}
+	}
+}
@@ -0,0 +1,281 @@
+package com.user.driven.operations.serviceimpl;
+
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.user.driven.operations.utils.FileUtils;
+
+/**
+ * Stores generated project directories as immutable snapshots.
+ * <p>
+ * Each generation writes into a fresh staging directory below
+ * {@code .snapshots/<project>/}. The directory is then published by
+ * atomically renaming a symbolic link at {@code <project>} onto it, so readers
+ * always see either the previous or the new complete tree and never need a
+ * lock. Readers that walk a tree resolve the link first, as {@link #publish}
+ * does for its caller, so a later publication cannot swap files underneath
+ * them while the snapshot is retained. For incremental generation the staging directory starts as a
+ * hard-linked clone of the published snapshot. Superseded snapshots are
+ * deleted in the background once readers had time to finish.
+ * </p>
+ * <p>
+ * On file systems without symbolic links the published directory is replaced
+ * with two renames instead, which leaves a brief window without a published
+ * directory; the old directory is only moved aside once the new one is
+ * complete, and moved back if the new one cannot take its place.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+@Component
+public class ProjectSnapshotStore {
+
+	private static final Logger log = LoggerFactory.getLogger(ProjectSnapshotStore.class);
+
+	/** Name of the directory holding the snapshots of all projects */
+	private static final String SNAPSHOTS_DIRECTORY = ".snapshots";
+
+	@Autowired
+	private FileUtils fileUtils;
+
+	@Value("${app.generated-projects.directory}")
+	private String generatedProjectsDirectory;
+
+	@Value("${app.generation.incremental-enabled:true}")
+	private boolean incrementalEnabled;
+
+	/**
+	 * How long a superseded snapshot is kept for readers that still use it.
+	 */
+	@Value("${app.generation.snapshots.retention-minutes:10}")
+	private long retentionMinutes;
+
+	/**
+	 * Staging directories of generations in progress, never reclaimed.
+	 */
+	private final Set<Path> stagingDirectories = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Returns the published directory of a project. It is a link that each
+	 * publication redirects; resolve it before walking the tree.
+	 *
+	 * @param projectName the project name
+	 * @return the published project path
+	 */
+	public Path getPublishedPath(String projectName) {
+		return root().resolve(projectName);
+	}
+
+	/**
+	 * Creates the staging directory for a new generation of a project. In
+	 * incremental mode it is cloned from the published snapshot if that carries a
+	 * generation manifest.
+	 *
+	 * @param projectName the project name
+	 * @return the new staging directory
+	 * @throws IOException if the directory cannot be created
+	 */
+	public Path createStagingDirectory(String projectName) throws IOException {
+		Path staging = snapshotsOf(projectName)
+				.resolve(System.currentTimeMillis() + "-" + UUID.randomUUID().toString().substring(0, 8));
+		Files.createDirectories(staging);
+		stagingDirectories.add(staging);
+
+		Path published = getPublishedPath(projectName);
+		if (incrementalEnabled && Files.isRegularFile(published.resolve(IncrementalDirectorySink.MANIFEST_FILE))) {
+			try {
+				fileUtils.linkTree(published.toRealPath(), staging);
+			} catch (IOException e) {
+				discard(staging);
+				throw e;
+			}
+		}
+		return staging;
+	}
+
+	/**
+	 * Publishes a completely generated staging directory as the current snapshot
+	 * of the project.
+	 *
+	 * @param projectName the project name
+	 * @param staging     the directory from {@link #createStagingDirectory(String)}
+	 * @return the published snapshot with all links resolved; unlike the
+	 *         published path it keeps its content while later generations are
+	 *         published, so readers walking the tree should use it
+	 * @throws IOException if the snapshot cannot be published; the previously
+	 *                     published directory is then still in place
+	 */
+	public Path publish(String projectName, Path staging) throws IOException {
+		Path published = getPublishedPath(projectName);
+		Path previous = currentSnapshot(published);
+
+		Path link = published.resolveSibling("." + projectName + ".link-" + UUID.randomUUID());
+		Path snapshot;
+		try {
+			try {
+				Files.createSymbolicLink(link, published.getParent().relativize(staging));
+			} catch (UnsupportedOperationException | FileSystemException e) {
+				log.debug("Symbolic links unavailable, publishing {} by rename", projectName, e);
+				link = null;
+			}
+			// Resolved before anything moves, so a failure here leaves nothing
+			// half published.
+			snapshot = link != null ? staging.toRealPath()
+					: published.getParent().toRealPath().resolve(published.getFileName());
+
+			// A directory rather than a link was generated before snapshots were
+			// introduced, or published by rename; it is moved aside only now that
+			// its replacement is ready, and moved back if that cannot take its place.
+			Path retired = null;
+			if (Files.isDirectory(published, LinkOption.NOFOLLOW_LINKS)) {
+				retired = snapshotsOf(projectName).resolve("retired-" + UUID.randomUUID());
+				Files.move(published, retired, StandardCopyOption.ATOMIC_MOVE);
+				previous = retired;
+			}
+			try {
+				if (link != null) {
+					Files.move(link, published, StandardCopyOption.REPLACE_EXISTING,
+							StandardCopyOption.ATOMIC_MOVE);
+				} else {
+					Files.move(staging, published, StandardCopyOption.ATOMIC_MOVE);
+				}
+			} catch (IOException | RuntimeException e) {
+				if (retired != null) {
+					restore(retired, published, e);
+				}
+				throw e;
+			}
+		} finally {
+			if (link != null) {
+				Files.deleteIfExists(link);
+			}
+			stagingDirectories.remove(staging);
+		}
+
+		if (previous != null && Files.isDirectory(previous)) {
+			// Start the retention period of the superseded snapshot now.
+			try {
+				Files.setLastModifiedTime(previous, FileTime.from(Instant.now()));
+			} catch (IOException e) {
+				log.warn("Could not start the retention period of snapshot {}", previous, e);
+			}
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Moves a retired directory back to the published path after its replacement
+	 * failed to take its place.
+	 */
+	private void restore(Path retired, Path published, Exception failure) {
+		try {
+			Files.move(retired, published, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			failure.addSuppressed(e);
+			log.error("Could not restore published directory {} from {}", published, retired, e);
+		}
+	}
+
+	/**
+	 * Deletes a staging directory whose generation failed.
+	 *
+	 * @param staging the directory from {@link #createStagingDirectory(String)}
+	 */
+	public void discard(Path staging) {
+		stagingDirectories.remove(staging);
+		try {
+			fileUtils.deleteRecursively(staging);
+		} catch (IOException e) {
+			log.warn("Could not delete staging directory {}", staging, e);
+		}
+	}
+
+	/**
+	 * Deletes snapshots that are neither published nor being generated and were
+	 * superseded longer ago than the retention period.
+	 */
+	@Scheduled(fixedDelayString = "${app.generation.snapshots.cleanup-interval-ms:300000}")
+	public void reclaimSnapshots() {
+		Path snapshotsRoot = root().resolve(SNAPSHOTS_DIRECTORY);
+		if (!Files.isDirectory(snapshotsRoot)) {
+			return;
+		}
+		Instant expiry = Instant.now().minus(Duration.ofMinutes(retentionMinutes));
+
+		for (Path projectSnapshots : list(snapshotsRoot)) {
+			Path current = currentSnapshot(getPublishedPath(projectSnapshots.getFileName().toString()));
+			for (Path snapshot : list(projectSnapshots)) {
+				if (snapshot.equals(current) || stagingDirectories.contains(snapshot)) {
+					continue;
+				}
+				try {
+					if (Files.getLastModifiedTime(snapshot).toInstant().isBefore(expiry)) {
+						fileUtils.deleteRecursively(snapshot);
+						log.debug("Reclaimed generated project snapshot {}", snapshot);
+					}
+				} catch (IOException e) {
+					log.warn("Could not reclaim generated project snapshot {}", snapshot, e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the absolute, normalized generated projects directory, so that
+	 * snapshot paths from different sources can be compared.
+	 */
+	private Path root() {
+		return Paths.get(generatedProjectsDirectory).toAbsolutePath().normalize();
+	}
+
+	private Path snapshotsOf(String projectName) {
+		return root().resolve(SNAPSHOTS_DIRECTORY).resolve(projectName);
+	}
+
+	/**
+	 * Resolves the snapshot a published link points to.
+	 *
+	 * @return the snapshot directory, or null if the project is not published
+	 *         through a link
+	 */
+	private Path currentSnapshot(Path published) {
+		if (!Files.isSymbolicLink(published)) {
+			return null;
+		}
+		try {
+			return published.getParent().resolve(Files.readSymbolicLink(published)).normalize();
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private List<Path> list(Path directory) {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(Files::isDirectory).collect(Collectors.toList());
+		} catch (IOException e) {
+			log.warn("Could not list snapshot directory {}", directory, e);
+			return List.of();
+		}
+	}
+}
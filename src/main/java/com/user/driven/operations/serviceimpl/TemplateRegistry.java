@@ -0,0 +1,272 @@
+package com.user.driven.operations.serviceimpl;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import com.user.driven.operations.entities.EntityDefinition;
+import com.user.driven.operations.entities.FieldDefinition;
+import com.user.driven.operations.entities.OperationConfig;
+import com.user.driven.operations.entities.ProjectDefinition;
+import com.user.driven.operations.enums.DataType;
+import com.user.driven.operations.enums.DatabaseType;
+import com.user.driven.operations.enums.FieldType;
+import com.user.driven.operations.enums.OperationType;
+import com.user.driven.operations.enums.SecurityType;
+import com.user.driven.operations.mapper.RenderModelMapper;
+import com.user.driven.operations.model.ProjectModel;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Registry of the compiled code generation templates.
+ * <p>
+ * All {@code /templates/*.ftl} files are parsed once at startup and rendered
+ * against synthetic project models to warm up the template engine, so the first
+ * generation request is as fast as any later one. A template that fails to
+ * parse or render aborts the application startup instead of failing a customer
+ * request. Parse and render timings are published as Micrometer timers.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+@Component
+public class TemplateRegistry {
+
+	private static final Logger log = LoggerFactory.getLogger(TemplateRegistry.class);
+
+	/** Location pattern of the code generation templates */
+	private static final String TEMPLATE_PATTERN = "classpath:/templates/*.ftl";
+
+	private final Configuration freemarkerConfig;
+
+	@Autowired
+	private RenderModelMapper renderModelMapper;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	/**
+	 * Number of times every template is rendered against each synthetic model at
+	 * startup.
+	 */
+	@Value("${app.generation.templates.warmup-iterations:5}")
+	private int warmupIterations;
+
+	/**
+	 * Compiled templates keyed by template file name. Immutable after startup.
+	 */
+	private Map<String, Template> templates = Collections.emptyMap();
+
+	/**
+	 * Render timers keyed by template file name. Immutable after startup.
+	 */
+	private Map<String, Timer> renderTimers = Collections.emptyMap();
+
+	/**
+	 * Constructor initializes Freemarker configuration for template processing.
+	 */
+	public TemplateRegistry() {
+		this.freemarkerConfig = new Configuration(Configuration.VERSION_2_3_32);
+		this.freemarkerConfig.setClassForTemplateLoading(this.getClass(), "/templates");
+		this.freemarkerConfig.setDefaultEncoding("UTF-8");
+	}
+
+	/**
+	 * Parses all templates, then warms them up. Collects every failure before
+	 * aborting, so one startup reports all broken templates at once.
+	 */
+	@PostConstruct
+	void init() {
+		Map<String, Template> compiled = new LinkedHashMap<>();
+		Map<String, Timer> timers = new HashMap<>();
+		List<String> failures = new ArrayList<>();
+
+		long start = System.nanoTime();
+		for (String templateName : findTemplateNames()) {
+			long parseStart = System.nanoTime();
+			try {
+				compiled.put(templateName, freemarkerConfig.getTemplate(templateName));
+			} catch (IOException e) {
+				failures.add(templateName + ": " + e.getMessage());
+				continue;
+			}
+			Timer.builder("generation.template.parse").description("Time to parse a code generation template")
+					.tag("template", templateName).register(meterRegistry)
+					.record(System.nanoTime() - parseStart, TimeUnit.NANOSECONDS);
+			timers.put(templateName, Timer.builder("generation.template.render")
+					.description("Time to render a code generation template").tag("template", templateName)
+					.register(meterRegistry));
+		}
+		long parseMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		failIfAny(failures);
+
+		templates = Collections.unmodifiableMap(compiled);
+		renderTimers = Collections.unmodifiableMap(timers);
+
+		start = System.nanoTime();
+		warmUp(failures);
+		failIfAny(failures);
+
+		log.info("Compiled {} code generation template(s) in {} ms, warmed up in {} ms", templates.size(),
+				parseMillis, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+	}
+
+	/**
+	 * Returns the names of all registered templates.
+	 *
+	 * @return the template file names
+	 */
+	public Set<String> getTemplateNames() {
+		return templates.keySet();
+	}
+
+	/**
+	 * Renders a compiled template with the given model.
+	 *
+	 * @param templateName Template file name.
+	 * @param model        Data model to populate the template.
+	 * @return Rendered template as a String.
+	 * @throws IOException if the template does not exist or its processing fails.
+	 */
+	public String process(String templateName, Map<String, Object> model) throws IOException {
+		Template template = templates.get(templateName);
+		if (template == null) {
+			throw new IOException("Unknown template: " + templateName);
+		}
+		StringWriter writer = new StringWriter();
+		long start = System.nanoTime();
+		render(template, model, writer);
+		renderTimers.get(templateName).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		return writer.toString();
+	}
+
+	/**
+	 * Renders every template against synthetic projects for every database type:
+	 * one per security type with every optional feature enabled, and one with
+	 * security, caching and Swagger disabled. Together they exercise each branch
+	 * of the templates.
+	 */
+	private void warmUp(List<String> failures) {
+		Timer warmupTimer = Timer.builder("generation.template.warmup")
+				.description("Time to warm up all code generation templates").register(meterRegistry);
+		long start = System.nanoTime();
+
+		for (DatabaseType databaseType : DatabaseType.values()) {
+			List<SecurityType> securityTypes = new ArrayList<>(Arrays.asList(SecurityType.values()));
+			// Stands for the project without optional features.
+			securityTypes.add(null);
+
+			for (SecurityType securityType : securityTypes) {
+				ProjectModel project = renderModelMapper
+						.toRenderModel(createWarmupProject(databaseType, securityType));
+				Map<String, Object> model = new HashMap<>();
+				model.put("project", project);
+				model.put("entity", project.getEntities().get(0));
+				String variant = databaseType + ", " + (securityType == null ? "no optional features" : securityType);
+
+				for (Map.Entry<String, Template> entry : templates.entrySet()) {
+					try {
+						for (int i = 0; i < warmupIterations; i++) {
+							render(entry.getValue(), model, new StringWriter());
+						}
+					} catch (IOException e) {
+						failures.add(entry.getKey() + " (" + variant + "): " + e.getMessage());
+					}
+				}
+			}
+		}
+		warmupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Builds a synthetic project with an entity that has one field per data type
+	 * and every operation.
+	 *
+	 * @param databaseType Database of the project.
+	 * @param securityType Security type with security, caching and Swagger
+	 *                     enabled, or null to disable all three.
+	 */
+	private ProjectDefinition createWarmupProject(DatabaseType databaseType, SecurityType securityType) {
+		boolean featuresEnabled = securityType != null;
+		ProjectDefinition project = new ProjectDefinition();
+		project.setName("Warmup Project");
+		project.setDescription("Synthetic project used to warm up the templates");
+		project.setPackageName("com.example.warmup");
+		project.setDatabaseType(databaseType);
+		project.setSecurityEnabled(featuresEnabled);
+		project.setSecurityType(securityType);
+		project.setCachingEnabled(featuresEnabled);
+		project.setSwaggerEnabled(featuresEnabled);
+
+		EntityDefinition entity = new EntityDefinition();
+		entity.setName("WarmupItem");
+		entity.setProject(project);
+		project.getEntities().add(entity);
+
+		for (DataType dataType : DataType.values()) {
+			FieldDefinition field = new FieldDefinition();
+			field.setName(dataType.name().toLowerCase() + "Value");
+			field.setDataType(dataType);
+			field.setFieldType(dataType == DataType.LONG ? FieldType.PRIMARY_KEY : FieldType.NORMAL_FIELD);
+			field.setNullable(dataType != DataType.STRING);
+			field.setValidationRules(dataType == DataType.STRING ? "email,min=3,max=50" : "min=1,max=100");
+			field.setEntity(entity);
+			entity.getFields().add(field);
+		}
+		for (OperationType operationType : OperationType.values()) {
+			OperationConfig operation = new OperationConfig();
+			operation.setOperationType(operationType);
+			operation.setEntity(entity);
+			entity.getOperations().add(operation);
+		}
+		return project;
+	}
+
+	private void render(Template template, Map<String, Object> model, Writer writer) throws IOException {
+		try {
+			template.process(model, writer);
+		} catch (TemplateException e) {
+			throw new IOException("Error processing template: " + template.getName(), e);
+		}
+	}
+
+	private List<String> findTemplateNames() {
+		try {
+			Resource[] resources = new PathMatchingResourcePatternResolver().getResources(TEMPLATE_PATTERN);
+			return Arrays.stream(resources).map(Resource::getFilename).sorted().toList();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Error listing code generation templates", e);
+		}
+	}
+
+	private void failIfAny(List<String> failures) {
+		if (!failures.isEmpty()) {
+			throw new IllegalStateException("Invalid code generation template(s):" + System.lineSeparator()
+					+ String.join(System.lineSeparator(), failures));
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package com.user.driven.operations.serviceimpl;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import com.user.driven.operations.utils.ZipArchiveBuilder.ArchiveStream;
+
+/**
+ * {@link GeneratedFileSink} that appends every generated file as an entry of a
+ * ZIP archive streamed to its destination. Files arrive in generation order
+ * from a single thread; the archive compresses them on its compression pool
+ * and writes each one as soon as it and all earlier files are compressed, so
+ * only a bounded window of entries is held in memory.
+ * <p>
+ * Entries keep the generation order and carry a fixed timestamp, so generating
+ * the same project twice produces byte-identical archives.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+public class ZipStreamFileSink implements GeneratedFileSink {
+
+	private final ArchiveStream archive;
+
+	/**
+	 * @param archive the archive the entries are appended to
+	 */
+	public ZipStreamFileSink(ArchiveStream archive) {
+		this.archive = archive;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void write(String relativePath, String content) throws IOException {
+		archive.add(relativePath, content.getBytes(StandardCharsets.UTF_8));
+	}
+}
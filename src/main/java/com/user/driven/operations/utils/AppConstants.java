@@ -17,6 +17,9 @@ public class AppConstants {
 	/** Endpoint for entity definitions under a project */
 	public static final String entityDefination = "/api/projects/{projectId}/entities";
 
+	/** Endpoint to create or merge many entities of a project at once */
+	public static final String batchEntities = "/batch";
+
 	/** Endpoint suffix for referencing by ID */
 	public static final String Id = "/{id}";
 
@@ -33,4 +36,31 @@ public class AppConstants {
 
 	/** Endpoint to download a generated project as a ZIP file */
 	public static final String downloadProject = "/{id}/download";
+
+	/** Endpoint to import a project definition streamed as JSON */
+	public static final String importProject = "/import";
+
+	/** Endpoint to export all project definitions as JSON or NDJSON */
+	public static final String exportProjects = "/export";
+
+	/** Endpoint to copy a project with all its entities, fields and operations */
+	public static final String cloneProject = "/{id}/clone";
+
+	/** Endpoint to submit an asynchronous generation job for a project */
+	public static final String submitGenerationJob = "/{id}/generation-jobs";
+
+	/** Base endpoint for asynchronous generation jobs */
+	public static final String generationJobs = "/api/generation-jobs";
+
+	/** Endpoint suffix for referencing a generation job by ID */
+	public static final String jobId = "/{jobId}";
+
+	/** Endpoint to download the artifact of a finished generation job */
+	public static final String jobResult = "/{jobId}/result";
+
+	/** Cache of fully loaded project aggregates, keyed by project ID */
+	public static final String projectAggregateCache = "projectAggregates";
+
+	/** Response header reporting the SQL statement statistics of a request */
+	public static final String sqlStatisticsHeader = "X-SQL-Statistics";
 }
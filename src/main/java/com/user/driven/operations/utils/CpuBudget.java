@@ -0,0 +1,164 @@
+package com.user.driven.operations.utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CPU-time budget of one unit of work, such as a generation request.
+ * <p>
+ * A budget is bound to the thread that opens it, like {@link SqlStatistics}.
+ * The CPU time of that thread counts against the budget, and so does the CPU
+ * time of worker tasks wrapped with {@link #wrap(Callable)} while the budget is
+ * open. Work checks the budget cooperatively with {@link #check()} at points
+ * where it can stop cleanly, so a budget is enforced at the granularity of
+ * those checkpoints.
+ * </p>
+ * <p>
+ * On JVMs without thread CPU time measurement every budget is unlimited.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+public final class CpuBudget implements AutoCloseable {
+
+	private static final ThreadLocal<CpuBudget> CURRENT = new ThreadLocal<>();
+
+	private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+	private static final boolean SUPPORTED = THREADS.isThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled();
+
+	private final long limitNanos;
+
+	private final CpuBudget parent;
+
+	private final long ownerThreadId;
+
+	private final long ownerStartNanos;
+
+	private final LongAdder workerNanos = new LongAdder();
+
+	private CpuBudget(long limitNanos, CpuBudget parent) {
+		this.limitNanos = limitNanos;
+		this.parent = parent;
+		this.ownerThreadId = Thread.currentThread().getId();
+		this.ownerStartNanos = SUPPORTED ? THREADS.getCurrentThreadCpuTime() : 0;
+	}
+
+	/**
+	 * Opens a budget on the current thread. Budgets nest; closing a budget makes
+	 * the enclosing one current again.
+	 *
+	 * @param limit the CPU time the work may use; zero or less means unlimited
+	 * @param unit  the unit of the limit
+	 * @return the opened budget, to be closed by the caller
+	 */
+	public static CpuBudget open(long limit, TimeUnit unit) {
+		CpuBudget budget = new CpuBudget(limit > 0 ? unit.toNanos(limit) : 0, CURRENT.get());
+		CURRENT.set(budget);
+		return budget;
+	}
+
+	/**
+	 * Checks the budget open on the current thread. Does nothing outside a
+	 * budget.
+	 *
+	 * @throws CpuBudgetExceededException if the budget is used up
+	 */
+	public static void check() {
+		CpuBudget budget = CURRENT.get();
+		if (budget != null) {
+			budget.checkRemaining();
+		}
+	}
+
+	/**
+	 * Wraps a task so that its CPU time counts against the budget open on the
+	 * submitting thread, and checks against that budget run inside the task. A
+	 * task started after the budget is used up fails right away. Outside a
+	 * budget the task is returned unchanged.
+	 *
+	 * @param task the task to run on another thread
+	 * @return the wrapped task
+	 */
+	public static <T> Callable<T> wrap(Callable<T> task) {
+		CpuBudget budget = CURRENT.get();
+		if (budget == null) {
+			return task;
+		}
+		return () -> {
+			budget.checkRemaining();
+			CpuBudget previous = CURRENT.get();
+			CURRENT.set(budget);
+			long start = SUPPORTED ? THREADS.getCurrentThreadCpuTime() : 0;
+			try {
+				return task.call();
+			} finally {
+				if (SUPPORTED) {
+					budget.charge(THREADS.getCurrentThreadCpuTime() - start);
+				}
+				if (previous == null) {
+					CURRENT.remove();
+				} else {
+					CURRENT.set(previous);
+				}
+			}
+		};
+	}
+
+	/**
+	 * @return the CPU time used so far by the owning thread and by finished
+	 *         worker tasks
+	 */
+	public long getUsedNanos() {
+		if (!SUPPORTED) {
+			return 0;
+		}
+		long ownerNanos = THREADS.getThreadCpuTime(ownerThreadId);
+		return workerNanos.sum() + (ownerNanos > 0 ? ownerNanos - ownerStartNanos : 0);
+	}
+
+	/**
+	 * @return the CPU time the work may use, or zero if unlimited
+	 */
+	public long getLimitNanos() {
+		return limitNanos;
+	}
+
+	/**
+	 * @return true if the work has used more CPU time than the limit
+	 */
+	public boolean isExceeded() {
+		return limitNanos > 0 && getUsedNanos() > limitNanos;
+	}
+
+	private void checkRemaining() {
+		for (CpuBudget budget = this; budget != null; budget = budget.parent) {
+			if (budget.isExceeded()) {
+				throw new CpuBudgetExceededException(budget.getUsedNanos(), budget.limitNanos);
+			}
+		}
+	}
+
+	private void charge(long nanos) {
+		for (CpuBudget budget = this; budget != null; budget = budget.parent) {
+			budget.workerNanos.add(nanos);
+		}
+	}
+
+	/**
+	 * Closes this budget and makes the enclosing budget current again.
+	 */
+	@Override
+	public void close() {
+		if (CURRENT.get() == this) {
+			if (parent == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(parent);
+			}
+		}
+	}
+}
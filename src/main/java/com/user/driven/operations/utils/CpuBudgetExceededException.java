@@ -0,0 +1,22 @@
+package com.user.driven.operations.utils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thrown when a unit of work has used up its {@link CpuBudget}.
+ *
+ * @author Jatin Raheja
+ */
+public class CpuBudgetExceededException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * @param usedNanos  the CPU time used
+	 * @param limitNanos the CPU time allowed
+	 */
+	public CpuBudgetExceededException(long usedNanos, long limitNanos) {
+		super("CPU budget exceeded: used " + TimeUnit.NANOSECONDS.toMillis(usedNanos) + " ms of "
+				+ TimeUnit.NANOSECONDS.toMillis(limitNanos) + " ms");
+	}
+}
@@ -0,0 +1,57 @@
+package com.user.driven.operations.utils;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * Helpers for the version-based entity tags of project resources. A project's
+ * ETag is its aggregate version; Spring adds and strips the quotes.
+ *
+ * @author Jatin Raheja
+ */
+public final class ETagUtils {
+
+	private static final String WEAK_PREFIX = "W/";
+
+	private ETagUtils() {
+	}
+
+	/**
+	 * Returns the entity tag for an aggregate version.
+	 *
+	 * @param version the aggregate version
+	 * @return the unquoted entity tag
+	 */
+	public static String versionTag(Long version) {
+		return String.valueOf(version);
+	}
+
+	/**
+	 * Extracts the expected aggregate version from an {@code If-Match} header.
+	 * {@code If-Match} compares entity tags strongly, so a weak tag never matches.
+	 *
+	 * @param ifMatch the header value, or null if absent
+	 * @return the expected version, or null if the write is unconditional
+	 * @throws IllegalArgumentException          if the header is not a single
+	 *                                           version tag; answered with 400
+	 * @throws OptimisticLockingFailureException if the header carries a weak tag;
+	 *                                           answered with 412 like a version
+	 *                                           mismatch
+	 */
+	public static Long parseIfMatch(String ifMatch) {
+		if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+			return null;
+		}
+		String tag = ifMatch.trim();
+		if (tag.startsWith(WEAK_PREFIX)) {
+			throw new OptimisticLockingFailureException("Weak entity tag " + tag + " cannot match in If-Match");
+		}
+		if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+			tag = tag.substring(1, tag.length() - 1);
+		}
+		try {
+			return Long.valueOf(tag);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Malformed If-Match header: " + ifMatch, e);
+		}
+	}
+}
@@ -1,19 +1,21 @@
 package com.user.driven.operations.utils;
 
-import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
-import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.springframework.stereotype.Component;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
- * Utility class for file-related operations such as compressing project
- * directories into ZIP archives.
+ * Utility class for file-related operations such as cloning and deleting
+ * directory trees.
  * <p>
- * Used primarily to package generated project files for download.
+ * Used primarily to manage the snapshots of generated projects.
  * </p>
  * 
  * @author Jatin Raheja
@@ -22,32 +24,51 @@ import java.util.stream.Stream;
 public class FileUtils {
 
 	/**
-	 * Creates a ZIP archive in memory from the specified source directory path.
+	 * Clones a directory tree by hard-linking every regular file into the target
+	 * directory. Files are copied instead where the file system does not support
+	 * hard links.
 	 *
-	 * @param sourcePath the root directory to zip
-	 * @return a byte array containing the zipped contents
-	 * @throws IOException if an I/O error occurs while reading files or writing the ZIP archive
+	 * @param sourcePath the directory to clone
+	 * @param targetPath the existing, empty target directory
+	 * @throws IOException if an I/O error occurs while cloning
 	 */
-	public byte[] createZipFile(Path sourcePath) throws IOException {
-		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+	public void linkTree(Path sourcePath, Path targetPath) throws IOException {
+		List<Path> paths;
+		try (Stream<Path> walk = Files.walk(sourcePath)) {
+			paths = walk.collect(Collectors.toList());
+		}
 
-		try (ZipArchiveOutputStream zipOut = new ZipArchiveOutputStream(baos)) {
-			try (Stream<Path> paths = Files.walk(sourcePath)) {
-				paths.filter(Files::isRegularFile).forEach(file -> {
-					try {
-						String relativePath = sourcePath.relativize(file).toString();
-						ZipArchiveEntry entry = new ZipArchiveEntry(relativePath);
-						entry.setSize(Files.size(file));
-						zipOut.putArchiveEntry(entry);
-						Files.copy(file, zipOut);
-						zipOut.closeArchiveEntry();
-					} catch (IOException e) {
-						throw new RuntimeException("Error adding file to zip: " + file, e);
-					}
-				});
+		for (Path source : paths) {
+			Path target = targetPath.resolve(sourcePath.relativize(source).toString());
+			if (Files.isDirectory(source)) {
+				Files.createDirectories(target);
+			} else if (Files.isRegularFile(source)) {
+				try {
+					Files.createLink(target, source);
+				} catch (UnsupportedOperationException | FileSystemException e) {
+					Files.copy(source, target);
+				}
 			}
 		}
+	}
 
-		return baos.toByteArray();
+	/**
+	 * Deletes a file or a directory with all of its contents. Symbolic links are
+	 * deleted, not followed.
+	 *
+	 * @param path the file or directory to delete
+	 * @throws IOException if an I/O error occurs while deleting
+	 */
+	public void deleteRecursively(Path path) throws IOException {
+		if (!Files.exists(path, LinkOption.NOFOLLOW_LINKS)) {
+			return;
+		}
+		List<Path> paths;
+		try (Stream<Path> walk = Files.walk(path)) {
+			paths = walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+		}
+		for (Path file : paths) {
+			Files.deleteIfExists(file);
+		}
 	}
 }
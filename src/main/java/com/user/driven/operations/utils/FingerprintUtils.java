@@ -0,0 +1,251 @@
+package com.user.driven.operations.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import com.user.driven.operations.entities.EntityDefinition;
+import com.user.driven.operations.entities.FieldDefinition;
+import com.user.driven.operations.entities.OperationConfig;
+import com.user.driven.operations.entities.ProjectDefinition;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Utility class for computing content fingerprints of project definitions and
+ * of the code generation templates.
+ * <p>
+ * A fingerprint is a SHA-256 hash over every value that influences the
+ * generated output: the model, the templates, the build of the generator and,
+ * for archives, the ZIP settings. Two project aggregates with the same
+ * fingerprint produce the same generated project.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+@Component
+public class FingerprintUtils {
+
+	/** Location pattern of the code generation templates */
+	private static final String TEMPLATE_PATTERN = "classpath:/templates/*.ftl";
+
+	/**
+	 * Build of the generator. Generator code changes alter the output without
+	 * touching the templates.
+	 */
+	@Value("${app.generation.generator-version:development}")
+	private String generatorVersion;
+
+	@Value("${app.generation.zip.compression-level:-1}")
+	private int zipCompressionLevel;
+
+	@Value("${app.generation.zip.store-threshold-bytes:256}")
+	private int zipStoreThresholdBytes;
+
+	/**
+	 * Hash over the content of all templates, computed once at startup.
+	 */
+	private String templateSetVersion;
+
+	/**
+	 * Hash of every single template keyed by template file name.
+	 */
+	private final Map<String, String> templateVersions = new HashMap<>();
+
+	/**
+	 * Computes the template set version from the templates on the classpath.
+	 */
+	@PostConstruct
+	void initTemplateSetVersion() {
+		try {
+			Resource[] templates = new PathMatchingResourcePatternResolver().getResources(TEMPLATE_PATTERN);
+			Arrays.sort(templates, Comparator.comparing(Resource::getFilename));
+
+			MessageDigest digest = newDigest();
+			for (Resource template : templates) {
+				byte[] content;
+				try (InputStream in = template.getInputStream()) {
+					content = in.readAllBytes();
+				}
+				update(digest, template.getFilename());
+				update(digest, content);
+
+				MessageDigest templateDigest = newDigest();
+				update(templateDigest, content);
+				templateVersions.put(template.getFilename(), HexFormat.of().formatHex(templateDigest.digest()));
+			}
+			templateSetVersion = HexFormat.of().formatHex(digest.digest());
+		} catch (IOException e) {
+			throw new UncheckedIOException("Error reading code generation templates", e);
+		}
+	}
+
+	/**
+	 * Returns the version of the template set, a hash over the names and content
+	 * of all code generation templates.
+	 *
+	 * @return the template set version
+	 */
+	public String getTemplateSetVersion() {
+		return templateSetVersion;
+	}
+
+	/**
+	 * Returns the version of a single template, a hash over its content.
+	 *
+	 * @param templateName the template file name, e.g. {@code Entity.java.ftl}
+	 * @return the template version, or null if the template does not exist
+	 */
+	public String getTemplateVersion(String templateName) {
+		return templateVersions.get(templateName);
+	}
+
+	/**
+	 * Computes the fingerprint of the inputs a single generated file depends on:
+	 * the generator build, the template, the project-level settings and, for
+	 * entity files, the entity with its fields and operations. Other entities do not contribute, so editing
+	 * one entity leaves the fingerprints of all other files unchanged.
+	 *
+	 * @param templateName        the template the file is rendered from
+	 * @param settingsFingerprint the fingerprint of the project settings, see
+	 *                            {@link #fingerprintSettings(ProjectDefinition)}
+	 * @param entityFingerprint   the fingerprint of the entity the file is
+	 *                            generated for, or null for project-level files
+	 * @return the hex encoded fingerprint
+	 */
+	public String fingerprint(String templateName, String settingsFingerprint, String entityFingerprint) {
+		MessageDigest digest = newDigest();
+		update(digest, generatorVersion);
+		update(digest, templateName);
+		update(digest, getTemplateVersion(templateName));
+		update(digest, settingsFingerprint);
+		update(digest, entityFingerprint);
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Computes the fingerprint of the project-level settings, excluding entities.
+	 *
+	 * @param project the project whose settings are used
+	 * @return the hex encoded fingerprint
+	 */
+	public String fingerprintSettings(ProjectDefinition project) {
+		MessageDigest digest = newDigest();
+		updateProject(digest, project);
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Computes the fingerprint of a single entity with its fields and operations.
+	 *
+	 * @param entity the entity definition
+	 * @return the hex encoded fingerprint
+	 */
+	public String fingerprint(EntityDefinition entity) {
+		MessageDigest digest = newDigest();
+		updateEntity(digest, entity);
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Computes the fingerprint of a full project aggregate (project, entities,
+	 * fields and operations) combined with the generator build, the template set
+	 * version and the ZIP settings. Entities, fields and operations must already
+	 * be loaded.
+	 *
+	 * @param project the project aggregate
+	 * @return the hex encoded fingerprint
+	 */
+	public String fingerprint(ProjectDefinition project) {
+		MessageDigest digest = newDigest();
+		update(digest, generatorVersion);
+		update(digest, templateSetVersion);
+		update(digest, zipCompressionLevel);
+		update(digest, zipStoreThresholdBytes);
+		updateProject(digest, project);
+		update(digest, project.getEntities().size());
+
+		for (EntityDefinition entity : project.getEntities()) {
+			updateEntity(digest, entity);
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private void updateProject(MessageDigest digest, ProjectDefinition project) {
+		update(digest, project.getName());
+		update(digest, project.getDescription());
+		update(digest, project.getPackageName());
+		update(digest, project.getDatabaseType());
+		update(digest, project.isSecurityEnabled());
+		update(digest, project.getSecurityType());
+		update(digest, project.isCachingEnabled());
+		update(digest, project.isSwaggerEnabled());
+		update(digest, project.getCustomConfiguration());
+	}
+
+	private void updateEntity(MessageDigest digest, EntityDefinition entity) {
+		update(digest, entity.getName());
+		update(digest, entity.getDescription());
+
+		update(digest, entity.getFields().size());
+		for (FieldDefinition field : entity.getFields()) {
+			update(digest, field.getName());
+			update(digest, field.getDescription());
+			update(digest, field.getDataType());
+			update(digest, field.getFieldType());
+			update(digest, field.getValidationRules());
+			update(digest, field.getRelationshipType());
+			update(digest, field.getRelationshipTarget());
+			update(digest, field.isNullable());
+			update(digest, field.getDefaultValue());
+		}
+
+		update(digest, entity.getOperations().size());
+		for (OperationConfig operation : entity.getOperations()) {
+			update(digest, operation.getOperationType());
+			update(digest, operation.isEnabled());
+			update(digest, operation.getCustomLogic());
+			update(digest, operation.getParameters());
+		}
+	}
+
+	/**
+	 * Adds a single value to the digest. Values are length-prefixed and nulls are
+	 * marked explicitly so that adjacent values cannot run into each other.
+	 */
+	private static void update(MessageDigest digest, Object value) {
+		if (value == null) {
+			digest.update((byte) 0);
+			return;
+		}
+		update(digest, value.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void update(MessageDigest digest, byte[] bytes) {
+		digest.update((byte) 1);
+		digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+		digest.update(bytes);
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+}
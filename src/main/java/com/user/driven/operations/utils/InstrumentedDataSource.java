@@ -0,0 +1,120 @@
+package com.user.driven.operations.utils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Data source decorator that reports every executed JDBC statement with its
+ * execution time to the {@link SqlStatistics} scope of the calling thread.
+ * <p>
+ * Connections and statements are wrapped in lightweight dynamic proxies; all
+ * calls other than statement execution go straight to the driver.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+	/**
+	 * @param targetDataSource the data source to instrument
+	 */
+	public InstrumentedDataSource(DataSource targetDataSource) {
+		super(targetDataSource);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return wrapConnection(obtainTargetDataSource().getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+	}
+
+	private static Connection wrapConnection(Connection connection) {
+		return (Connection) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(),
+				new Class<?>[] { Connection.class }, new ConnectionHandler(connection));
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Wraps the statements created by a connection.
+	 */
+	private static final class ConnectionHandler implements InvocationHandler {
+
+		private final Connection target;
+
+		ConnectionHandler(Connection target) {
+			this.target = target;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			Object result = InstrumentedDataSource.invoke(target, method, args);
+			if (result instanceof Statement statement) {
+				String sql = args != null && args.length > 0 && args[0] instanceof String value ? value : null;
+				Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+						: statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+				return Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[] { type },
+						new StatementHandler(statement, sql));
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Times the execution methods of a statement.
+	 */
+	private static final class StatementHandler implements InvocationHandler {
+
+		private final Statement target;
+
+		private final String preparedSql;
+
+		private String batchSql;
+
+		StatementHandler(Statement target, String preparedSql) {
+			this.target = target;
+			this.preparedSql = preparedSql;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if (name.equals("addBatch") && args != null && args.length == 1) {
+				batchSql = (String) args[0];
+			}
+			if (!name.startsWith("execute")) {
+				return InstrumentedDataSource.invoke(target, method, args);
+			}
+
+			String sql = args != null && args.length > 0 && args[0] instanceof String value ? value
+					: preparedSql != null ? preparedSql : batchSql;
+			long start = System.nanoTime();
+			try {
+				return InstrumentedDataSource.invoke(target, method, args);
+			} finally {
+				SqlStatistics.record(sql, System.nanoTime() - start);
+			}
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.user.driven.operations.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+
+import com.user.driven.operations.dto.CursorPageDto;
+import com.user.driven.operations.dto.SummaryDto;
+import com.user.driven.operations.enums.SummarySort;
+
+import lombok.Getter;
+
+/**
+ * Position after the last row of a keyset-paginated listing. The next page
+ * starts with the rows that sort after {@code (lastValue, lastId)}, so its cost
+ * does not depend on how deep into the listing the client is.
+ * <p>
+ * Cursors are handed to clients as opaque URL-safe tokens that also record the
+ * sort they were issued for.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+@Getter
+public final class KeysetCursor {
+
+	private static final String SEPARATOR = "|";
+
+	private final Long lastId;
+
+	private final Object lastValue;
+
+	private KeysetCursor(Long lastId, Object lastValue) {
+		this.lastId = lastId;
+		this.lastValue = lastValue;
+	}
+
+	/**
+	 * Decodes a cursor token issued for the given sort.
+	 *
+	 * @param token     the token from a previous page, or null for the first page
+	 * @param sort      the requested sort key
+	 * @param direction the requested sort direction
+	 * @return the decoded cursor, or null for the first page
+	 * @throws IllegalArgumentException if the token is malformed or was issued
+	 *                                  for a different sort
+	 */
+	public static KeysetCursor decode(String token, SummarySort sort, Sort.Direction direction) {
+		if (token == null || token.isEmpty()) {
+			return null;
+		}
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = decoded.split("\\" + SEPARATOR, 4);
+			if (parts.length != 4 || !parts[0].equals(sort.name()) || !parts[1].equals(direction.name())) {
+				throw new IllegalArgumentException("Cursor does not match the requested sort");
+			}
+			return new KeysetCursor(Long.valueOf(parts[2]), sort.parseValue(parts[3]));
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("Invalid cursor: " + token, e);
+		}
+	}
+
+	/**
+	 * Encodes the position after a row as a cursor token.
+	 *
+	 * @param last      the last row of the page
+	 * @param sort      the sort key of the listing
+	 * @param direction the sort direction of the listing
+	 * @return the opaque cursor token
+	 */
+	public static String encode(SummaryDto last, SummarySort sort, Sort.Direction direction) {
+		Object value = sort.sortValue(last);
+		String raw = sort.name() + SEPARATOR + direction.name() + SEPARATOR + last.getId() + SEPARATOR
+				+ (value == null ? "" : value.toString());
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Resolves the requested page size against the configured limits.
+	 *
+	 * @param requested   the page size requested by the client, or null
+	 * @param defaultSize the page size used when none is requested
+	 * @param maxSize     the largest page size served
+	 * @return the page size to fetch
+	 * @throws IllegalArgumentException if the requested size is not positive
+	 */
+	public static int pageSize(Integer requested, int defaultSize, int maxSize) {
+		if (requested == null) {
+			return Math.min(defaultSize, maxSize);
+		}
+		if (requested < 1) {
+			throw new IllegalArgumentException("Page size must be positive");
+		}
+		return Math.min(requested, maxSize);
+	}
+
+	/**
+	 * Builds a page from rows fetched with one extra row beyond the page size,
+	 * whose presence tells that another page follows.
+	 *
+	 * @param rows      up to {@code pageSize + 1} rows in listing order
+	 * @param pageSize  the page size
+	 * @param sort      the sort key of the listing
+	 * @param direction the sort direction of the listing
+	 * @param <T>       the type of the listed rows
+	 * @return the page with the cursor of the next page, if any
+	 */
+	public static <T extends SummaryDto> CursorPageDto<T> toPage(List<T> rows, int pageSize, SummarySort sort,
+			Sort.Direction direction) {
+		if (rows.size() <= pageSize) {
+			return new CursorPageDto<>(rows, null);
+		}
+		List<T> items = rows.subList(0, pageSize);
+		return new CursorPageDto<>(items, encode(items.get(pageSize - 1), sort, direction));
+	}
+}
@@ -0,0 +1,58 @@
+package com.user.driven.operations.utils;
+
+/**
+ * Pins the read-only transactions of the current thread to the primary
+ * database.
+ * <p>
+ * The read replica trails the primary, so a read that has to see the latest
+ * commit, such as one that fills a cache or answers a version check, opens a
+ * pin for its duration. A pin is bound to the thread that opens it, like
+ * {@link CpuBudget}, and pins nest. The replica data source only consults it
+ * when it hands out a connection, so a pin must be open before the first
+ * statement of the transaction.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+public final class PrimaryReads implements AutoCloseable {
+
+	private static final ThreadLocal<PrimaryReads> CURRENT = new ThreadLocal<>();
+
+	private final PrimaryReads parent;
+
+	private PrimaryReads(PrimaryReads parent) {
+		this.parent = parent;
+	}
+
+	/**
+	 * Opens a pin on the current thread.
+	 *
+	 * @return the opened pin, to be closed by the caller
+	 */
+	public static PrimaryReads pin() {
+		PrimaryReads pin = new PrimaryReads(CURRENT.get());
+		CURRENT.set(pin);
+		return pin;
+	}
+
+	/**
+	 * @return true if reads on the current thread must go to the primary
+	 */
+	public static boolean isPinned() {
+		return CURRENT.get() != null;
+	}
+
+	/**
+	 * Closes this pin and makes the enclosing one current again.
+	 */
+	@Override
+	public void close() {
+		if (CURRENT.get() == this) {
+			if (parent == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(parent);
+			}
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package com.user.driven.operations.utils;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Coalesces concurrent executions of the same task. The first caller for a key
+ * runs the task; callers arriving while it is in flight wait for it and share
+ * its result instead of running the task again. Tasks for different keys run
+ * independently, and a key is forgotten as soon as its task completes.
+ *
+ * @param <K> the key type
+ * @param <V> the result type
+ * @author Jatin Raheja
+ */
+public class SingleFlight<K, V> {
+
+	/**
+	 * A task that may fail with an {@link IOException}.
+	 *
+	 * @param <V> the result type
+	 */
+	@FunctionalInterface
+	public interface Task<V> {
+		V call() throws IOException;
+	}
+
+	private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * Runs the task for the key, or waits for the task already running for it.
+	 * A failure of the running task is rethrown to every waiting caller.
+	 *
+	 * @param key  the key identifying the work
+	 * @param task the task to run if no task is in flight for the key
+	 * @return the result of the task
+	 * @throws IOException if the task failed with an IOException or the wait was
+	 *                     interrupted
+	 */
+	public V execute(K key, Task<V> task) throws IOException {
+		return execute(key, task, () -> {
+		});
+	}
+
+	/**
+	 * Runs the task for the key, or waits for the task already running for it
+	 * after notifying the caller that it is about to wait. Callers use this to
+	 * give up resources they only need to run the task themselves.
+	 *
+	 * @param key    the key identifying the work
+	 * @param task   the task to run if no task is in flight for the key
+	 * @param onWait called before waiting for a task already in flight
+	 * @return the result of the task
+	 * @throws IOException if the task failed with an IOException or the wait was
+	 *                     interrupted
+	 */
+	public V execute(K key, Task<V> task, Runnable onWait) throws IOException {
+		CompletableFuture<V> flight = new CompletableFuture<>();
+		CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+		if (running != null) {
+			onWait.run();
+			return await(running);
+		}
+
+		try {
+			V result = task.call();
+			flight.complete(result);
+			return result;
+		} catch (IOException | RuntimeException | Error e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, flight);
+		}
+	}
+
+	private V await(CompletableFuture<V> running) throws IOException {
+		try {
+			return running.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for a shared task", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new IOException("Shared task failed: " + cause.getMessage(), cause);
+		}
+	}
+}
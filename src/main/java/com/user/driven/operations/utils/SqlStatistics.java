@@ -0,0 +1,190 @@
+package com.user.driven.operations.utils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * JDBC statement statistics of one unit of work, such as an HTTP request or a
+ * generation job, collected by {@link InstrumentedDataSource}.
+ * <p>
+ * A scope is bound to the thread that opens it and collects every statement
+ * that thread executes until it is closed. Statements are also grouped by
+ * shape, i.e. their SQL with literals replaced by placeholders, so a loop that
+ * runs the same query once per row (an N+1) shows up as one shape executed
+ * many times.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+public final class SqlStatistics implements AutoCloseable {
+
+	private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+	private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+
+	private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+
+	private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private final String scope;
+
+	private final SqlStatistics parent;
+
+	/**
+	 * The scope that was current on the opening thread before this one.
+	 */
+	private final SqlStatistics previous;
+
+	private final LongAdder statementCount = new LongAdder();
+
+	private final LongAdder jdbcNanos = new LongAdder();
+
+	private final Map<String, LongAdder> shapeCounts = new ConcurrentHashMap<>();
+
+	private SqlStatistics(String scope, SqlStatistics parent, SqlStatistics previous) {
+		this.scope = scope;
+		this.parent = parent;
+		this.previous = previous;
+	}
+
+	/**
+	 * Opens a scope on the current thread. Scopes nest; closing a scope makes the
+	 * enclosing one current again.
+	 *
+	 * @param scope the kind of work measured, e.g. {@code http} or
+	 *              {@code generation}
+	 * @return the opened scope, to be closed by the caller
+	 */
+	public static SqlStatistics open(String scope) {
+		SqlStatistics current = CURRENT.get();
+		SqlStatistics statistics = new SqlStatistics(scope, current, current);
+		CURRENT.set(statistics);
+		return statistics;
+	}
+
+	/**
+	 * Opens a scope on the current thread nested in a scope opened on another
+	 * thread, e.g. for the body of an HTTP response written asynchronously after
+	 * the request thread has returned. Its statements also count towards the
+	 * enclosing scope; closing it makes the scope that was current on this thread
+	 * current again.
+	 *
+	 * @param scope  the kind of work measured
+	 * @param parent the enclosing scope
+	 * @return the opened scope, to be closed by the caller on this thread
+	 */
+	public static SqlStatistics openWithin(String scope, SqlStatistics parent) {
+		SqlStatistics statistics = new SqlStatistics(scope, parent, CURRENT.get());
+		CURRENT.set(statistics);
+		return statistics;
+	}
+
+	/**
+	 * Returns the scope open on the current thread.
+	 *
+	 * @return the current scope, or null if none is open
+	 */
+	public static SqlStatistics current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Records an executed statement in the scope open on the current thread and in
+	 * the scopes enclosing it. Does nothing outside a scope.
+	 *
+	 * @param sql   the executed SQL, or null if unknown
+	 * @param nanos the time the driver took to execute it
+	 */
+	public static void record(String sql, long nanos) {
+		SqlStatistics statistics = CURRENT.get();
+		if (statistics == null) {
+			return;
+		}
+		String shape = shapeOf(sql);
+		for (SqlStatistics scope = statistics; scope != null; scope = scope.parent) {
+			scope.statementCount.increment();
+			scope.jdbcNanos.add(nanos);
+			scope.shapeCounts.computeIfAbsent(shape, key -> new LongAdder()).increment();
+		}
+	}
+
+	/**
+	 * Reduces a SQL statement to its shape by replacing literals and IN-lists with
+	 * placeholders and collapsing whitespace.
+	 *
+	 * @param sql the SQL statement
+	 * @return the statement shape
+	 */
+	public static String shapeOf(String sql) {
+		if (sql == null) {
+			return "<unknown>";
+		}
+		String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+		shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+		shape = IN_LIST.matcher(shape).replaceAll("(?)");
+		return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+	}
+
+	public String getScope() {
+		return scope;
+	}
+
+	/**
+	 * @return the number of statements executed in this scope
+	 */
+	public long getStatementCount() {
+		return statementCount.sum();
+	}
+
+	/**
+	 * @return the total time the driver spent executing statements in this scope
+	 */
+	public long getJdbcTimeNanos() {
+		return jdbcNanos.sum();
+	}
+
+	/**
+	 * @return the number of executions of the most frequent statement shape
+	 */
+	public long getMaxRepeats() {
+		return shapeCounts.values().stream().mapToLong(LongAdder::sum).max().orElse(0);
+	}
+
+	/**
+	 * Returns the statement shapes executed at least the given number of times,
+	 * which usually point at per-row query loops.
+	 *
+	 * @param threshold the minimum number of executions
+	 * @return the repeated shapes with their execution counts
+	 */
+	public Map<String, Long> getRepeatedShapes(long threshold) {
+		Map<String, Long> repeated = new LinkedHashMap<>();
+		shapeCounts.forEach((shape, count) -> {
+			if (count.sum() >= threshold) {
+				repeated.put(shape, count.sum());
+			}
+		});
+		return Collections.unmodifiableMap(repeated);
+	}
+
+	/**
+	 * Closes this scope and makes the scope that was current before it current
+	 * again.
+	 */
+	@Override
+	public void close() {
+		if (CURRENT.get() == this) {
+			if (previous == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+		}
+	}
+}
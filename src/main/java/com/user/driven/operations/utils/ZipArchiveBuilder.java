@@ -0,0 +1,278 @@
+package com.user.driven.operations.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+
+import org.apache.commons.compress.archivers.zip.StreamCompressor;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipMethod;
+import org.apache.commons.compress.parallel.ScatterGatherBackingStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Builds reproducible ZIP archives whose entries are compressed in parallel.
+ * <p>
+ * Every entry is compressed on its own with a commons-compress
+ * {@link StreamCompressor} into an in-memory scatter store on the compression
+ * pool. The compressed entries are then appended to the archive as raw entries
+ * in the order they were added and with a fixed timestamp, so the same content
+ * always produces a byte-identical archive. Entries smaller than the store
+ * threshold are stored uncompressed, where deflating would only add overhead.
+ * </p>
+ * <p>
+ * {@code ParallelScatterZipCreator} is not used because it orders entries by
+ * the worker thread that happened to compress them, which makes archives
+ * non-reproducible.
+ * </p>
+ *
+ * @author Jatin Raheja
+ */
+@Component
+public class ZipArchiveBuilder {
+
+	/** Modification time of every entry: 2000-01-01T00:00:00Z */
+	public static final long ENTRY_TIME = 946684800000L;
+
+	/**
+	 * Deflate level from 0 (none) to 9 (best), or -1 for the zlib default.
+	 */
+	@Value("${app.generation.zip.compression-level:-1}")
+	private int compressionLevel;
+
+	/**
+	 * Entries smaller than this many bytes are stored without compression.
+	 */
+	@Value("${app.generation.zip.store-threshold-bytes:256}")
+	private int storeThresholdBytes;
+
+	/**
+	 * Number of threads compressing archive entries. A value of zero or less
+	 * falls back to the number of available processors.
+	 */
+	@Value("${app.generation.zip.parallelism:0}")
+	private int parallelism;
+
+	private ExecutorService compressionPool;
+
+	/**
+	 * Validates the settings and creates the compression pool.
+	 */
+	@PostConstruct
+	void init() {
+		if (compressionLevel != Deflater.DEFAULT_COMPRESSION
+				&& (compressionLevel < Deflater.NO_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION)) {
+			throw new IllegalStateException("Invalid ZIP compression level: " + compressionLevel);
+		}
+		if (parallelism <= 0) {
+			parallelism = Runtime.getRuntime().availableProcessors();
+		}
+		AtomicInteger threadCount = new AtomicInteger();
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, "zip-worker-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+		compressionPool = Executors.newFixedThreadPool(parallelism, threadFactory);
+	}
+
+	/**
+	 * Stops the compression pool when the application context shuts down.
+	 */
+	@PreDestroy
+	void shutdown() {
+		compressionPool.shutdownNow();
+	}
+
+	/**
+	 * Compresses a single entry. Safe to call from any thread.
+	 *
+	 * @param name    the entry name
+	 * @param content the uncompressed content
+	 * @return the compressed entry
+	 * @throws IOException if compression fails
+	 */
+	public CompressedEntry compress(String name, byte[] content) throws IOException {
+		int method = content.length < storeThresholdBytes || compressionLevel == Deflater.NO_COMPRESSION
+				? ZipMethod.STORED.getCode()
+				: ZipMethod.DEFLATED.getCode();
+
+		InMemoryBackingStore store = new InMemoryBackingStore(content.length);
+		try (StreamCompressor compressor = StreamCompressor.create(compressionLevel, store)) {
+			compressor.deflate(new ByteArrayInputStream(content), method);
+			return new CompressedEntry(name, method, compressor.getCrc32(), compressor.getBytesRead(),
+					store.toByteArray());
+		}
+	}
+
+	/**
+	 * Opens an archive on a stream. Entries are compressed on the compression pool
+	 * and written in the order they were added, each as soon as it and all earlier
+	 * entries are compressed; only a bounded window of compressed entries is held
+	 * in memory at any time.
+	 *
+	 * @param outputStream the stream receiving the archive; it is not closed
+	 * @return the archive, to be finished and closed by the caller
+	 */
+	public ArchiveStream openArchive(OutputStream outputStream) {
+		return new ArchiveStream(outputStream);
+	}
+
+	private CompressedEntry await(Future<CompressedEntry> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("ZIP compression was interrupted", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			if (e.getCause() instanceof CpuBudgetExceededException budgetExceeded) {
+				throw budgetExceeded;
+			}
+			throw new IOException("ZIP compression failed", e.getCause());
+		}
+	}
+
+	/**
+	 * A ZIP archive being written to a stream. Not thread-safe: entries are added
+	 * from a single thread.
+	 */
+	public final class ArchiveStream implements AutoCloseable {
+
+		private final ZipArchiveOutputStream zipOut;
+
+		private final Deque<Future<CompressedEntry>> pending = new ArrayDeque<>();
+
+		private ArchiveStream(OutputStream outputStream) {
+			this.zipOut = new ZipArchiveOutputStream(outputStream);
+		}
+
+		/**
+		 * Adds an entry. Compression starts right away on the compression pool; when
+		 * the window of pending entries is full, the oldest one is written first.
+		 *
+		 * @param name    the entry name
+		 * @param content the uncompressed content
+		 * @throws IOException if an earlier entry cannot be compressed or written
+		 */
+		public void add(String name, byte[] content) throws IOException {
+			if (pending.size() >= parallelism * 2) {
+				await(pending.poll()).writeTo(zipOut);
+			}
+			pending.add(compressionPool.submit(CpuBudget.wrap(() -> compress(name, content))));
+		}
+
+		/**
+		 * Writes the remaining entries and the central directory.
+		 *
+		 * @throws IOException if an entry cannot be compressed or the archive cannot
+		 *                     be written
+		 */
+		public void finish() throws IOException {
+			while (!pending.isEmpty()) {
+				await(pending.poll()).writeTo(zipOut);
+			}
+			zipOut.finish();
+			zipOut.flush();
+		}
+
+		/**
+		 * Cancels the compression of entries that were not written, e.g. after a
+		 * failure. The underlying stream is not closed.
+		 */
+		@Override
+		public void close() {
+			pending.forEach(future -> future.cancel(true));
+			pending.clear();
+		}
+	}
+
+	/**
+	 * A compressed ZIP entry waiting to be appended to an archive.
+	 */
+	public static final class CompressedEntry {
+
+		private final String name;
+
+		private final int method;
+
+		private final long crc;
+
+		private final long size;
+
+		private final byte[] data;
+
+		private CompressedEntry(String name, int method, long crc, long size, byte[] data) {
+			this.name = name;
+			this.method = method;
+			this.crc = crc;
+			this.size = size;
+			this.data = data;
+		}
+
+		/**
+		 * Appends the entry to an archive without compressing it again.
+		 */
+		void writeTo(ZipArchiveOutputStream zipOut) throws IOException {
+			ZipArchiveEntry entry = new ZipArchiveEntry(name);
+			entry.setMethod(method);
+			entry.setCrc(crc);
+			entry.setSize(size);
+			entry.setCompressedSize(data.length);
+			entry.setTime(ENTRY_TIME);
+			zipOut.addRawArchiveEntry(entry, new ByteArrayInputStream(data));
+		}
+	}
+
+	/**
+	 * Scatter store keeping the compressed bytes of a single entry in memory.
+	 */
+	private static final class InMemoryBackingStore implements ScatterGatherBackingStore {
+
+		private final ByteArrayOutputStream buffer;
+
+		InMemoryBackingStore(int initialSize) {
+			this.buffer = new ByteArrayOutputStream(Math.max(32, initialSize / 2));
+		}
+
+		@Override
+		public InputStream getInputStream() {
+			return new ByteArrayInputStream(buffer.toByteArray());
+		}
+
+		@Override
+		public void writeOut(byte[] data, int offset, int length) {
+			buffer.write(data, offset, length);
+		}
+
+		@Override
+		public void closeForWriting() {
+		}
+
+		@Override
+		public void close() {
+		}
+
+		byte[] toByteArray() {
+			return buffer.toByteArray();
+		}
+	}
+}
@@ -1,7 +1,7 @@
 package ${project.packageName}.controller;
 
-import ${project.packageName}.model.${entity.name?cap_first};
-import ${project.packageName}.service.${entity.name?cap_first}Service;
+import ${project.packageName}.model.${entity.className};
+import ${project.packageName}.service.${entity.className}Service;
 <#if project.swaggerEnabled>
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,54 +14,54 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
 @RestController
-@RequestMapping("/api/${entity.name?lower_case?replace(" ", "-")}s")
+@RequestMapping("${entity.urlPath}")
 <#if project.swaggerEnabled>
-@Tag(name = "${entity.name?cap_first} Management", description = "APIs for managing ${entity.name?lower_case}s")
+@Tag(name = "${entity.className} Management", description = "APIs for managing ${entity.lowerCaseName}s")
 </#if>
-public class ${entity.name?cap_first}Controller {
+public class ${entity.className}Controller {
     
     @Autowired
-    private ${entity.name?cap_first}Service ${entity.name?uncap_first}Service;
+    private ${entity.className}Service ${entity.variableName}Service;
     
 <#list entity.operations as operation>
     <#if operation.operationType == "CREATE">
     @PostMapping
     <#if project.swaggerEnabled>
-    @Operation(summary = "Create a new ${entity.name?lower_case}")
+    @Operation(summary = "Create a new ${entity.lowerCaseName}")
     </#if>
-    public ResponseEntity<${entity.name?cap_first}> create${entity.name?cap_first}(@Valid @RequestBody ${entity.name?cap_first} ${entity.name?uncap_first}) {
-        ${entity.name?cap_first} created = ${entity.name?uncap_first}Service.create${entity.name?cap_first}(${entity.name?uncap_first});
+    public ResponseEntity<${entity.className}> create${entity.className}(@Valid @RequestBody ${entity.className} ${entity.variableName}) {
+        ${entity.className} created = ${entity.variableName}Service.create${entity.className}(${entity.variableName});
         return new ResponseEntity<>(created, HttpStatus.CREATED);
     }
     
     <#elseif operation.operationType == "READ">
     @GetMapping
     <#if project.swaggerEnabled>
-    @Operation(summary = "Get all ${entity.name?lower_case}s")
+    @Operation(summary = "Get all ${entity.lowerCaseName}s")
     </#if>
-    public ResponseEntity<List<${entity.name?cap_first}>> getAll${entity.name?cap_first}s() {
-        List<${entity.name?cap_first}> ${entity.name?uncap_first}s = ${entity.name?uncap_first}Service.getAll${entity.name?cap_first}s();
-        return ResponseEntity.ok(${entity.name?uncap_first}s);
+    public ResponseEntity<List<${entity.className}>> getAll${entity.className}s() {
+        List<${entity.className}> ${entity.variableName}s = ${entity.variableName}Service.getAll${entity.className}s();
+        return ResponseEntity.ok(${entity.variableName}s);
     }
     
     @GetMapping("/{id}")
     <#if project.swaggerEnabled>
-    @Operation(summary = "Get ${entity.name?lower_case} by ID")
+    @Operation(summary = "Get ${entity.lowerCaseName} by ID")
     </#if>
-    public ResponseEntity<${entity.name?cap_first}> get${entity.name?cap_first}ById(@PathVariable Long id) {
-        return ${entity.name?uncap_first}Service.get${entity.name?cap_first}ById(id)
-            .map(${entity.name?uncap_first} -> ResponseEntity.ok(${entity.name?uncap_first}))
+    public ResponseEntity<${entity.className}> get${entity.className}ById(@PathVariable Long id) {
+        return ${entity.variableName}Service.get${entity.className}ById(id)
+            .map(${entity.variableName} -> ResponseEntity.ok(${entity.variableName}))
             .orElse(ResponseEntity.notFound().build());
     }
     
     <#elseif operation.operationType == "UPDATE">
     @PutMapping("/{id}")
     <#if project.swaggerEnabled>
-    @Operation(summary = "Update ${entity.name?lower_case}")
+    @Operation(summary = "Update ${entity.lowerCaseName}")
     </#if>
-    public ResponseEntity<${entity.name?cap_first}> update${entity.name?cap_first}(@PathVariable Long id, @Valid @RequestBody ${entity.name?cap_first} ${entity.name?uncap_first}) {
+    public ResponseEntity<${entity.className}> update${entity.className}(@PathVariable Long id, @Valid @RequestBody ${entity.className} ${entity.variableName}) {
         try {
-            ${entity.name?cap_first} updated = ${entity.name?uncap_first}Service.update${entity.name?cap_first}(id, ${entity.name?uncap_first});
+            ${entity.className} updated = ${entity.variableName}Service.update${entity.className}(id, ${entity.variableName});
             return ResponseEntity.ok(updated);
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
@@ -71,11 +71,11 @@ public class ${entity.name?cap_first}Controller {
     <#elseif operation.operationType == "DELETE">
     @DeleteMapping("/{id}")
     <#if project.swaggerEnabled>
-    @Operation(summary = "Delete ${entity.name?lower_case}")
+    @Operation(summary = "Delete ${entity.lowerCaseName}")
     </#if>
-    public ResponseEntity<Void> delete${entity.name?cap_first}(@PathVariable Long id) {
+    public ResponseEntity<Void> delete${entity.className}(@PathVariable Long id) {
         try {
-            ${entity.name?uncap_first}Service.delete${entity.name?cap_first}(id);
+            ${entity.variableName}Service.delete${entity.className}(id);
             return ResponseEntity.noContent().build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
@@ -85,20 +85,20 @@ public class ${entity.name?cap_first}Controller {
     <#elseif operation.operationType == "SEARCH">
     @GetMapping("/search")
     <#if project.swaggerEnabled>
-    @Operation(summary = "Search ${entity.name?lower_case}s")
+    @Operation(summary = "Search ${entity.lowerCaseName}s")
     </#if>
-    public ResponseEntity<List<${entity.name?cap_first}>> search${entity.name?cap_first}s(@RequestParam String query) {
-        List<${entity.name?cap_first}> results = ${entity.name?uncap_first}Service.search${entity.name?cap_first}s(query);
+    public ResponseEntity<List<${entity.className}>> search${entity.className}s(@RequestParam String query) {
+        List<${entity.className}> results = ${entity.variableName}Service.search${entity.className}s(query);
         return ResponseEntity.ok(results);
     }
     
     <#elseif operation.operationType == "BULK_INSERT">
     @PostMapping("/bulk")
     <#if project.swaggerEnabled>
-    @Operation(summary = "Bulk create ${entity.name?lower_case}s")
+    @Operation(summary = "Bulk create ${entity.lowerCaseName}s")
     </#if>
-    public ResponseEntity<List<${entity.name?cap_first}>> bulkCreate${entity.name?cap_first}s(@Valid @RequestBody List<${entity.name?cap_first}> ${entity.name?uncap_first}s) {
-        List<${entity.name?cap_first}> created = ${entity.name?uncap_first}Service.bulkCreate${entity.name?cap_first}s(${entity.name?uncap_first}s);
+    public ResponseEntity<List<${entity.className}>> bulkCreate${entity.className}s(@Valid @RequestBody List<${entity.className}> ${entity.variableName}s) {
+        List<${entity.className}> created = ${entity.variableName}Service.bulkCreate${entity.className}s(${entity.variableName}s);
         return new ResponseEntity<>(created, HttpStatus.CREATED);
     }
     
@@ -1,27 +1,11 @@
 package ${project.packageName}.dto;
 
 import jakarta.validation.constraints.*;
-<#assign hasDateOrDateTime = false>
-<#list entity.fields as field>
-    <#if field.dataType == "DATE" || field.dataType == "DATETIME">
-        <#assign hasDateOrDateTime = true>
-    </#if>
-</#list>
-<#if hasDateOrDateTime>
-import java.time.LocalDateTime;
-import java.time.LocalDate;
-</#if>
-<#assign hasDecimal = false>
-<#list entity.fields as field>
-    <#if field.dataType == "DECIMAL">
-        <#assign hasDecimal = true>
-    </#if>
+<#list entity.imports as javaImport>
+import ${javaImport};
 </#list>
-<#if hasDecimal>
-import java.math.BigDecimal;
-</#if>
 
-public class ${entity.name?cap_first}Dto {
+public class ${entity.className}Dto {
     
 <#list entity.fields as field>
     <#if !field.nullable>
@@ -30,51 +14,23 @@ public class ${entity.name?cap_first}Dto {
     <#if field.validationRules?has_content>
     // Validation: ${field.validationRules}
     </#if>
-    private ${getJavaType(field.dataType)} ${field.name?uncap_first};
+    private ${field.javaType} ${field.variableName};
     
 </#list>
     
     // Constructors
-    public ${entity.name?cap_first}Dto() {}
+    public ${entity.className}Dto() {}
     
     // Getters and Setters
 <#list entity.fields as field>
-    public ${getJavaType(field.dataType)} get${field.name?cap_first}() { 
-        return ${field.name?uncap_first}; 
+    public ${field.javaType} get${field.capitalizedName}() { 
+        return ${field.variableName}; 
     }
     
-    public void set${field.name?cap_first}(${getJavaType(field.dataType)} ${field.name?uncap_first}) { 
-        this.${field.name?uncap_first} = ${field.name?uncap_first}; 
+    public void set${field.capitalizedName}(${field.javaType} ${field.variableName}) { 
+        this.${field.variableName} = ${field.variableName}; 
     }
     
 </#list>
 }
 
-<#function getJavaType dataType>
-    <#switch dataType>
-        <#case "STRING">
-            <#return "String">
-        <#case "INTEGER">
-            <#return "Integer">
-        <#case "LONG">
-            <#return "Long">
-        <#case "DOUBLE">
-            <#return "Double">
-        <#case "FLOAT">
-            <#return "Float">
-        <#case "BOOLEAN">
-            <#return "Boolean">
-        <#case "DATE">
-            <#return "LocalDate">
-        <#case "DATETIME">
-            <#return "LocalDateTime">
-        <#case "TEXT">
-            <#return "String">
-        <#case "DECIMAL">
-            <#return "BigDecimal">
-        <#case "UUID">
-            <#return "String">
-        <#default>
-            <#return "String">
-    </#switch>
-</#function>
\ No newline at end of file
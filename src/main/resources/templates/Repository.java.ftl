@@ -1,6 +1,6 @@
 package ${project.packageName}.repository;
 
-import ${project.packageName}.model.${entity.name?cap_first};
+import ${project.packageName}.model.${entity.className};
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,17 +9,17 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ${entity.name?cap_first}Repository extends JpaRepository<${entity.name?cap_first}, Long> {
+public interface ${entity.className}Repository extends JpaRepository<${entity.className}, Long> {
     
 <#list entity.operations as operation>
     <#if operation.operationType == "SEARCH">
     // Search operations
-    List<${entity.name?cap_first}> findByNameContainingIgnoreCase(String name);
+    List<${entity.className}> findByNameContainingIgnoreCase(String name);
     
     <#elseif operation.operationType == "SOFT_DELETE">
     // Soft delete operations
-    @Query("SELECT e FROM ${entity.name?cap_first} e WHERE e.deleted = false")
-    List<${entity.name?cap_first}> findAllActive();
+    @Query("SELECT e FROM ${entity.className} e WHERE e.deleted = false")
+    List<${entity.className}> findAllActive();
     
     </#if>
 </#list>
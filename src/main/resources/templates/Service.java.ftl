@@ -1,31 +1,31 @@
 package ${project.packageName}.service;
 
-import ${project.packageName}.model.${entity.name?cap_first};
+import ${project.packageName}.model.${entity.className};
 import java.util.List;
 import java.util.Optional;
 
-public interface ${entity.name?cap_first}Service {
+public interface ${entity.className}Service {
     
 <#list entity.operations as operation>
     <#if operation.operationType == "CREATE">
-    ${entity.name?cap_first} create${entity.name?cap_first}(${entity.name?cap_first} ${entity.name?uncap_first});
+    ${entity.className} create${entity.className}(${entity.className} ${entity.variableName});
     
     <#elseif operation.operationType == "READ">
-    Optional<${entity.name?cap_first}> get${entity.name?cap_first}ById(Long id);
+    Optional<${entity.className}> get${entity.className}ById(Long id);
     
-    List<${entity.name?cap_first}> getAll${entity.name?cap_first}s();
+    List<${entity.className}> getAll${entity.className}s();
     
     <#elseif operation.operationType == "UPDATE">
-    ${entity.name?cap_first} update${entity.name?cap_first}(Long id, ${entity.name?cap_first} ${entity.name?uncap_first});
+    ${entity.className} update${entity.className}(Long id, ${entity.className} ${entity.variableName});
     
     <#elseif operation.operationType == "DELETE">
-    void delete${entity.name?cap_first}(Long id);
+    void delete${entity.className}(Long id);
     
     <#elseif operation.operationType == "SEARCH">
-    List<${entity.name?cap_first}> search${entity.name?cap_first}s(String query);
+    List<${entity.className}> search${entity.className}s(String query);
     
     <#elseif operation.operationType == "BULK_INSERT">
-    List<${entity.name?cap_first}> bulkCreate${entity.name?cap_first}s(List<${entity.name?cap_first}> ${entity.name?uncap_first}s);
+    List<${entity.className}> bulkCreate${entity.className}s(List<${entity.className}> ${entity.variableName}s);
     
     </#if>
 </#list>
@@ -1,8 +1,8 @@
 package ${project.packageName}.service.impl;
 
-import ${project.packageName}.model.${entity.name?cap_first};
-import ${project.packageName}.repository.${entity.name?cap_first}Repository;
-import ${project.packageName}.service.${entity.name?cap_first}Service;
+import ${project.packageName}.model.${entity.className};
+import ${project.packageName}.repository.${entity.className}Repository;
+import ${project.packageName}.service.${entity.className}Service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,79 +15,79 @@ import java.util.Optional;
 
 @Service
 @Transactional
-public class ${entity.name?cap_first}ServiceImpl implements ${entity.name?cap_first}Service {
+public class ${entity.className}ServiceImpl implements ${entity.className}Service {
     
     @Autowired
-    private ${entity.name?cap_first}Repository ${entity.name?uncap_first}Repository;
+    private ${entity.className}Repository ${entity.variableName}Repository;
     
 <#list entity.operations as operation>
     <#if operation.operationType == "CREATE">
     @Override
     <#if project.cachingEnabled>
-    @CacheEvict(value = "${entity.name?lower_case}s", allEntries = true)
+    @CacheEvict(value = "${entity.lowerCaseName}s", allEntries = true)
     </#if>
-    public ${entity.name?cap_first} create${entity.name?cap_first}(${entity.name?cap_first} ${entity.name?uncap_first}) {
-        return ${entity.name?uncap_first}Repository.save(${entity.name?uncap_first});
+    public ${entity.className} create${entity.className}(${entity.className} ${entity.variableName}) {
+        return ${entity.variableName}Repository.save(${entity.variableName});
     }
     
     <#elseif operation.operationType == "READ">
     @Override
     @Transactional(readOnly = true)
     <#if project.cachingEnabled>
-    @Cacheable(value = "${entity.name?lower_case}", key = "#id")
+    @Cacheable(value = "${entity.lowerCaseName}", key = "#id")
     </#if>
-    public Optional<${entity.name?cap_first}> get${entity.name?cap_first}ById(Long id) {
-        return ${entity.name?uncap_first}Repository.findById(id);
+    public Optional<${entity.className}> get${entity.className}ById(Long id) {
+        return ${entity.variableName}Repository.findById(id);
     }
     
     @Override
     @Transactional(readOnly = true)
     <#if project.cachingEnabled>
-    @Cacheable(value = "${entity.name?lower_case}s")
+    @Cacheable(value = "${entity.lowerCaseName}s")
     </#if>
-    public List<${entity.name?cap_first}> getAll${entity.name?cap_first}s() {
-        return ${entity.name?uncap_first}Repository.findAll();
+    public List<${entity.className}> getAll${entity.className}s() {
+        return ${entity.variableName}Repository.findAll();
     }
     
     <#elseif operation.operationType == "UPDATE">
     @Override
     <#if project.cachingEnabled>
-    @CacheEvict(value = {"${entity.name?lower_case}", "${entity.name?lower_case}s"}, allEntries = true)
+    @CacheEvict(value = {"${entity.lowerCaseName}", "${entity.lowerCaseName}s"}, allEntries = true)
     </#if>
-    public ${entity.name?cap_first} update${entity.name?cap_first}(Long id, ${entity.name?cap_first} ${entity.name?uncap_first}) {
-        ${entity.name?cap_first} existing = ${entity.name?uncap_first}Repository.findById(id)
-            .orElseThrow(() -> new RuntimeException("${entity.name?cap_first} not found with id: " + id));
+    public ${entity.className} update${entity.className}(Long id, ${entity.className} ${entity.variableName}) {
+        ${entity.className} existing = ${entity.variableName}Repository.findById(id)
+            .orElseThrow(() -> new RuntimeException("${entity.className} not found with id: " + id));
         
         // Update fields here
-        return ${entity.name?uncap_first}Repository.save(existing);
+        return ${entity.variableName}Repository.save(existing);
     }
     
     <#elseif operation.operationType == "DELETE">
     @Override
     <#if project.cachingEnabled>
-    @CacheEvict(value = {"${entity.name?lower_case}", "${entity.name?lower_case}s"}, allEntries = true)
+    @CacheEvict(value = {"${entity.lowerCaseName}", "${entity.lowerCaseName}s"}, allEntries = true)
     </#if>
-    public void delete${entity.name?cap_first}(Long id) {
-        if (!${entity.name?uncap_first}Repository.existsById(id)) {
-            throw new RuntimeException("${entity.name?cap_first} not found with id: " + id);
+    public void delete${entity.className}(Long id) {
+        if (!${entity.variableName}Repository.existsById(id)) {
+            throw new RuntimeException("${entity.className} not found with id: " + id);
         }
-        ${entity.name?uncap_first}Repository.deleteById(id);
+        ${entity.variableName}Repository.deleteById(id);
     }
     
     <#elseif operation.operationType == "SEARCH">
     @Override
     @Transactional(readOnly = true)
-    public List<${entity.name?cap_first}> search${entity.name?cap_first}s(String query) {
-        return ${entity.name?uncap_first}Repository.findByNameContainingIgnoreCase(query);
+    public List<${entity.className}> search${entity.className}s(String query) {
+        return ${entity.variableName}Repository.findByNameContainingIgnoreCase(query);
     }
     
     <#elseif operation.operationType == "BULK_INSERT">
     @Override
     <#if project.cachingEnabled>
-    @CacheEvict(value = "${entity.name?lower_case}s", allEntries = true)
+    @CacheEvict(value = "${entity.lowerCaseName}s", allEntries = true)
     </#if>
-    public List<${entity.name?cap_first}> bulkCreate${entity.name?cap_first}s(List<${entity.name?cap_first}> ${entity.name?uncap_first}s) {
-        return ${entity.name?uncap_first}Repository.saveAll(${entity.name?uncap_first}s);
+    public List<${entity.className}> bulkCreate${entity.className}s(List<${entity.className}> ${entity.variableName}s) {
+        return ${entity.variableName}Repository.saveAll(${entity.variableName}s);
     }
     
     </#if>
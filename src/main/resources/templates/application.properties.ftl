@@ -7,7 +7,7 @@ spring.datasource.password=password
 spring.h2.console.enabled=true
 spring.jpa.database-platform=org.hibernate.dialect.H2Dialect
 <#elseif project.databaseType == "POSTGRESQL">
-spring.datasource.url=jdbc:postgresql://localhost:5432/${project.name?lower_case?replace(" ", "_")}
+spring.datasource.url=jdbc:postgresql://localhost:5432/${project.databaseName}
 spring.datasource.driverClassName=org.postgresql.Driver
 spring.datasource.username=postgres
 spring.datasource.password=password
@@ -17,7 +17,7 @@ spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect
 spring.jpa.properties.hibernate.jdbc.lob.non_contextual_creation=true
 spring.jpa.properties.hibernate.temp.use_jdbc_metadata_defaults=false
 <#elseif project.databaseType == "MYSQL">
-spring.datasource.url=jdbc:mysql://localhost:3306/${project.name?lower_case?replace(" ", "_")}?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true
+spring.datasource.url=jdbc:mysql://localhost:3306/${project.databaseName}?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true
 spring.datasource.driverClassName=com.mysql.cj.jdbc.Driver
 spring.datasource.username=root
 spring.datasource.password=password
@@ -9,7 +9,7 @@
         <relativePath/>
     </parent>
     <groupId>${project.packageName}</groupId>
-    <artifactId>${project.name?lower_case?replace(" ", "-")}</artifactId>
+    <artifactId>${project.artifactId}</artifactId>
     <version>0.0.1-SNAPSHOT</version>
     <name>${project.name}</name>
     <description>${project.description!""}</description>
@@ -0,0 +1,115 @@
+package com.user.driven.operations.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.user.driven.operations.utils.PrimaryReads;
+import com.user.driven.operations.utils.SqlStatistics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Verifies the read/write routing of {@link ReadReplicaConfig} against two
+ * embedded H2 databases standing in for the primary and the replica.
+ *
+ * @author Jatin Raheja
+ */
+class ReadReplicaConfigTest {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+			.withUserConfiguration(ReadReplicaConfig.class, SqlInstrumentationConfig.class)
+			.withBean(SimpleMeterRegistry.class)
+			.withPropertyValues("app.datasource.replica.enabled=true", "spring.datasource.url=jdbc:h2:mem:primary",
+					"app.datasource.replica.url=jdbc:h2:mem:replica", "app.datasource.replica.max-lag-seconds=5");
+
+	@Test
+	void routesReadOnlyTransactionsToReplica() {
+		contextRunner.withPropertyValues("app.datasource.replica.lag-query=SELECT 0").run(context -> {
+			markPools(context);
+			context.getBean(ReplicaLagMonitor.class).check();
+
+			assertThat(poolUsedBy(context, true)).isEqualTo("replica");
+			assertThat(poolUsedBy(context, false)).isEqualTo("primary");
+			assertThat(context.getBean(MeterRegistry.class).get("datasource.reads").tag("pool", "replica").counter()
+					.count()).isEqualTo(1);
+		});
+	}
+
+	@Test
+	void routesReadOnlyTransactionsToPrimaryWhileReplicaLags() {
+		contextRunner.withPropertyValues("app.datasource.replica.lag-query=SELECT 30").run(context -> {
+			markPools(context);
+			ReplicaLagMonitor monitor = context.getBean(ReplicaLagMonitor.class);
+
+			// Unusable until the first check, then because of the lag.
+			assertThat(poolUsedBy(context, true)).isEqualTo("primary");
+			monitor.check();
+			assertThat(monitor.isUsable()).isFalse();
+			assertThat(monitor.getLagSeconds()).isEqualTo(30);
+			assertThat(poolUsedBy(context, true)).isEqualTo("primary");
+			assertThat(context.getBean(MeterRegistry.class).get("datasource.replica.usable").gauge().value())
+					.isZero();
+		});
+	}
+
+	@Test
+	void routesPinnedReadsToPrimary() {
+		contextRunner.withPropertyValues("app.datasource.replica.lag-query=SELECT 0").run(context -> {
+			markPools(context);
+			context.getBean(ReplicaLagMonitor.class).check();
+
+			try (PrimaryReads pinned = PrimaryReads.pin()) {
+				assertThat(poolUsedBy(context, true)).isEqualTo("primary");
+			}
+			assertThat(poolUsedBy(context, true)).isEqualTo("replica");
+		});
+	}
+
+	@Test
+	void countsEachStatementOnce() {
+		contextRunner.withPropertyValues("app.datasource.replica.lag-query=SELECT 0").run(context -> {
+			markPools(context);
+			context.getBean(ReplicaLagMonitor.class).check();
+
+			try (SqlStatistics statistics = SqlStatistics.open("test")) {
+				poolUsedBy(context, true);
+				assertThat(statistics.getStatementCount()).isEqualTo(1);
+			}
+		});
+	}
+
+	/**
+	 * Creates a table in each database naming the pool it belongs to.
+	 */
+	private static void markPools(ApplicationContext context) {
+		for (String pool : new String[] { "primary", "replica" }) {
+			JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(pool + "DataSource", DataSource.class));
+			jdbcTemplate.execute("CREATE TABLE pool (name VARCHAR(20))");
+			jdbcTemplate.update("INSERT INTO pool (name) VALUES (?)", pool);
+		}
+	}
+
+	/**
+	 * Reads the pool name through the routing data source in a transaction.
+	 */
+	private static String poolUsedBy(ApplicationContext context, boolean readOnly) {
+		DataSource dataSource = context.getBean(DataSource.class);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(
+				new DataSourceTransactionManager(dataSource));
+		transactionTemplate.setReadOnly(readOnly);
+		return transactionTemplate.execute(
+				status -> new JdbcTemplate(dataSource).queryForObject("SELECT name FROM pool", String.class));
+	}
+}
@@ -0,0 +1,177 @@
+package com.user.driven.operations.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.user.driven.operations.config.SqlInstrumentationConfig;
+import com.user.driven.operations.entities.EntityDefinition;
+import com.user.driven.operations.entities.FieldDefinition;
+import com.user.driven.operations.entities.OperationConfig;
+import com.user.driven.operations.entities.ProjectDefinition;
+import com.user.driven.operations.enums.DataType;
+import com.user.driven.operations.enums.FieldType;
+import com.user.driven.operations.enums.OperationType;
+import com.user.driven.operations.utils.QueryBudget;
+
+/**
+ * Verifies that {@link ProjectDefinitionRepositoryCustomImpl#cloneProject}
+ * copies a whole project in a constant number of statements, and that the IDs
+ * it takes from the sequences never collide with IDs Hibernate generates.
+ *
+ * @author Jatin Raheja
+ */
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import(SqlInstrumentationConfig.class)
+class ProjectCloneTest {
+
+	private static final int ENTITY_COUNT = 3;
+
+	private static final OperationType[] OPERATIONS = { OperationType.CREATE, OperationType.READ,
+			OperationType.DELETE };
+
+	/**
+	 * More than one block of the pooled ID optimizer.
+	 */
+	private static final int ROWS_AFTER_CLONE = 60;
+
+	@Autowired
+	private ProjectDefinitionRepository projectRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private Long sourceId;
+
+	@BeforeEach
+	void setUp() {
+		ProjectDefinition project = new ProjectDefinition();
+		project.setName("Inventory");
+		project.setDescription("Stock keeping");
+		project.setPackageName("com.example.inventory");
+		entityManager.persist(project);
+
+		for (int i = 0; i < ENTITY_COUNT; i++) {
+			EntityDefinition entity = new EntityDefinition();
+			entity.setName("Item" + i);
+			entity.setDescription("Entity " + i);
+			entity.setProject(project);
+			entityManager.persist(entity);
+
+			for (int j = 0; j <= i; j++) {
+				FieldDefinition field = new FieldDefinition();
+				field.setName("field" + j);
+				field.setDataType(j % 2 == 0 ? DataType.STRING : DataType.INTEGER);
+				field.setFieldType(FieldType.NORMAL_FIELD);
+				field.setNullable(j % 2 == 0);
+				field.setDefaultValue("default" + j);
+				field.setEntity(entity);
+				entityManager.persist(field);
+			}
+			for (int j = 0; j < OPERATIONS.length - i; j++) {
+				OperationConfig operation = new OperationConfig();
+				operation.setOperationType(OPERATIONS[j]);
+				operation.setParameters("p" + i + j);
+				operation.setEntity(entity);
+				entityManager.persist(operation);
+			}
+		}
+		sourceId = project.getId();
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	void copiesWholeProject() {
+		Long cloneId;
+		try (QueryBudget budget = QueryBudget.start()) {
+			cloneId = projectRepository.cloneProject(sourceId, "Inventory copy");
+			// The project ID and one statement per table.
+			budget.assertStatementsAtMost(5);
+		}
+		entityManager.clear();
+
+		ProjectDefinition source = entityManager.find(ProjectDefinition.class, sourceId);
+		ProjectDefinition clone = entityManager.find(ProjectDefinition.class, cloneId);
+		assertThat(clone.getName()).isEqualTo("Inventory copy");
+		assertThat(clone.getDescription()).isEqualTo(source.getDescription());
+		assertThat(clone.getPackageName()).isEqualTo(source.getPackageName());
+		assertThat(clone.getVersion()).isZero();
+
+		// Three entities with one to three fields and three to one operations.
+		assertThat(describe(source)).hasSize(ENTITY_COUNT + 6 + 6);
+		assertThat(describe(clone)).isEqualTo(describe(source));
+	}
+
+	@Test
+	void generatedIdsDoNotCollideWithClonedRows() {
+		Long cloneId = projectRepository.cloneProject(sourceId, "Inventory copy");
+		entityManager.clear();
+		ProjectDefinition clone = entityManager.find(ProjectDefinition.class, cloneId);
+		Set<Long> clonedIds = new HashSet<>();
+		for (EntityDefinition entity : clone.getEntities()) {
+			clonedIds.add(entity.getId());
+			entity.getFields().forEach(field -> clonedIds.add(field.getId()));
+			entity.getOperations().forEach(operation -> clonedIds.add(operation.getId()));
+		}
+
+		EntityDefinition target = entityManager.find(ProjectDefinition.class, sourceId).getEntities().get(0);
+		List<Long> generatedIds = new ArrayList<>();
+		for (int i = 0; i < ROWS_AFTER_CLONE; i++) {
+			EntityDefinition entity = new EntityDefinition();
+			entity.setName("Added" + i);
+			entity.setProject(target.getProject());
+			entityManager.persist(entity);
+			generatedIds.add(entity.getId());
+
+			FieldDefinition field = new FieldDefinition();
+			field.setName("added" + i);
+			field.setDataType(DataType.STRING);
+			field.setFieldType(FieldType.NORMAL_FIELD);
+			field.setEntity(target);
+			entityManager.persist(field);
+			generatedIds.add(field.getId());
+
+			OperationConfig operation = new OperationConfig();
+			operation.setOperationType(OperationType.SEARCH);
+			operation.setEntity(entity);
+			entityManager.persist(operation);
+			generatedIds.add(operation.getId());
+		}
+		// A reused ID would fail here with a primary key violation.
+		entityManager.flush();
+
+		assertThat(generatedIds).doesNotContainAnyElementsOf(clonedIds);
+		assertThat(cloneId).isNotEqualTo(sourceId);
+	}
+
+	/**
+	 * Describes the entities, fields and operations of a project without their
+	 * IDs, in ID order.
+	 */
+	private static List<String> describe(ProjectDefinition project) {
+		List<String> rows = new ArrayList<>();
+		for (EntityDefinition entity : project.getEntities()) {
+			rows.add(entity.getName() + ":" + entity.getDescription());
+			for (FieldDefinition field : entity.getFields()) {
+				rows.add(entity.getName() + "." + field.getName() + ":" + field.getDataType() + ":"
+						+ field.getFieldType() + ":" + field.isNullable() + ":" + field.getDefaultValue());
+			}
+			for (OperationConfig operation : entity.getOperations()) {
+				rows.add(entity.getName() + "#" + operation.getOperationType() + ":" + operation.isEnabled() + ":"
+						+ operation.getParameters());
+			}
+		}
+		return rows;
+	}
+}
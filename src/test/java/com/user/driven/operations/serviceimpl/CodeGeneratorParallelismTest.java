@@ -0,0 +1,154 @@
+package com.user.driven.operations.serviceimpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import com.user.driven.operations.entities.EntityDefinition;
+import com.user.driven.operations.entities.FieldDefinition;
+import com.user.driven.operations.entities.OperationConfig;
+import com.user.driven.operations.entities.ProjectDefinition;
+import com.user.driven.operations.enums.DataType;
+import com.user.driven.operations.enums.DatabaseType;
+import com.user.driven.operations.enums.FieldType;
+import com.user.driven.operations.enums.OperationType;
+import com.user.driven.operations.enums.SecurityType;
+import com.user.driven.operations.mapper.RenderModelMapper;
+import com.user.driven.operations.model.ProjectModel;
+import com.user.driven.operations.utils.FingerprintUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Verifies that rendering the entity files of {@link CodeGenerator} on the
+ * worker pool produces exactly the files of a sequential run.
+ *
+ * @author Jatin Raheja
+ */
+class CodeGeneratorParallelismTest {
+
+	private static final int ENTITY_COUNT = 12;
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withUserConfiguration(CodeGenerator.class, TemplateRegistry.class, RenderModelMapper.class,
+					FingerprintUtils.class)
+			.withBean(SimpleMeterRegistry.class)
+			.withPropertyValues("app.generation.templates.warmup-iterations=1");
+
+	@Test
+	void parallelGenerationMatchesSequentialGeneration() {
+		Map<String, byte[]> sequential = generate(false, new CollectingSink(false));
+		assertThat(sequential).hasSizeGreaterThan(ENTITY_COUNT * 6);
+
+		CollectingSink concurrentSink = new CollectingSink(true);
+		assertThat(generate(true, concurrentSink)).containsOnlyKeys(sequential.keySet())
+				.allSatisfy((path, content) -> assertThat(content).as(path).isEqualTo(sequential.get(path)));
+	}
+
+	@Test
+	void parallelGenerationIntoSingleWriterKeepsSequentialOrder() {
+		CollectingSink sequentialSink = new CollectingSink(false);
+		Map<String, byte[]> sequential = generate(false, sequentialSink);
+
+		CollectingSink orderedSink = new CollectingSink(false);
+		Map<String, byte[]> parallel = generate(true, orderedSink);
+
+		assertThat(orderedSink.paths).containsExactlyElementsOf(sequentialSink.paths);
+		assertThat(parallel).containsOnlyKeys(sequential.keySet())
+				.allSatisfy((path, content) -> assertThat(content).as(path).isEqualTo(sequential.get(path)));
+	}
+
+	/**
+	 * Generates the test project in a fresh context.
+	 *
+	 * @return the bytes of every generated file keyed by path
+	 */
+	private Map<String, byte[]> generate(boolean parallel, CollectingSink sink) {
+		contextRunner.withPropertyValues("app.generation.parallel-enabled=" + parallel,
+				"app.generation.parallelism=4").run(context -> {
+					ProjectModel project = context.getBean(RenderModelMapper.class).toRenderModel(createProject());
+					context.getBean(CodeGenerator.class).generateProject(project, sink);
+				});
+		return sink.files;
+	}
+
+	/**
+	 * Builds a project whose entities differ in their fields and operations, so
+	 * files rendered for the wrong entity would show.
+	 */
+	private static ProjectDefinition createProject() {
+		ProjectDefinition project = new ProjectDefinition();
+		project.setName("Parallel Shop");
+		project.setPackageName("com.example.shop");
+		project.setDatabaseType(DatabaseType.POSTGRESQL);
+		project.setSecurityEnabled(true);
+		project.setSecurityType(SecurityType.JWT);
+		project.setCachingEnabled(true);
+
+		DataType[] dataTypes = DataType.values();
+		OperationType[] operationTypes = OperationType.values();
+		for (int i = 0; i < ENTITY_COUNT; i++) {
+			EntityDefinition entity = new EntityDefinition();
+			entity.setName("Item" + i);
+			entity.setDescription("Entity " + i);
+			entity.setProject(project);
+			project.getEntities().add(entity);
+
+			for (int j = 0; j <= i % dataTypes.length; j++) {
+				FieldDefinition field = new FieldDefinition();
+				field.setName("field" + j);
+				field.setDataType(dataTypes[(i + j) % dataTypes.length]);
+				field.setFieldType(FieldType.NORMAL_FIELD);
+				field.setNullable(j % 2 == 0);
+				field.setEntity(entity);
+				entity.getFields().add(field);
+			}
+			for (int j = 0; j <= i % operationTypes.length; j++) {
+				OperationConfig operation = new OperationConfig();
+				operation.setOperationType(operationTypes[j]);
+				operation.setEntity(entity);
+				entity.getOperations().add(operation);
+			}
+		}
+		return project;
+	}
+
+	/**
+	 * Keeps the written files in memory, recording the order they arrive in.
+	 */
+	private static class CollectingSink implements GeneratedFileSink {
+
+		private final Map<String, byte[]> files;
+
+		private final List<String> paths = new ArrayList<>();
+
+		private final boolean concurrent;
+
+		CollectingSink(boolean concurrent) {
+			this.concurrent = concurrent;
+			this.files = concurrent ? new ConcurrentHashMap<>() : new LinkedHashMap<>();
+		}
+
+		@Override
+		public void write(String relativePath, String content) throws IOException {
+			if (!concurrent) {
+				paths.add(relativePath);
+			}
+			assertThat(files.put(relativePath, content.getBytes(StandardCharsets.UTF_8))).as(relativePath).isNull();
+		}
+
+		@Override
+		public boolean isConcurrent() {
+			return concurrent;
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.user.driven.operations.serviceimpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies how {@link CollectionDiff} matches incoming DTOs with persisted rows
+ * by natural key.
+ *
+ * @author Jatin Raheja
+ */
+class CollectionDiffTest {
+
+	@Test
+	void separatesAddedUpdatedAndRemovedRows() {
+		Row kept = new Row("name", "string");
+		Row changed = new Row("price", "int");
+		Row dropped = new Row("legacy", "string");
+
+		CollectionDiff<Row, Row> diff = diff(
+				List.of(new Row("name", "string"), new Row("price", "decimal"), new Row("stock", "int")),
+				List.of(kept, changed, dropped));
+
+		assertThat(diff.getAdded()).containsExactly(new Row("stock", "int"));
+		assertThat(diff.getUpdated()).containsExactly(Map.entry(changed, new Row("price", "decimal")));
+		assertThat(diff.getRemoved()).containsExactly(dropped);
+	}
+
+	@Test
+	void isEmptyWhenRowsMatch() {
+		CollectionDiff<Row, Row> diff = diff(List.of(new Row("name", "string")), List.of(new Row("name", "string")));
+
+		assertThat(diff.getAdded()).isEmpty();
+		assertThat(diff.getUpdated()).isEmpty();
+		assertThat(diff.getRemoved()).isEmpty();
+	}
+
+	@Test
+	void removesEveryRowForEmptyIncomingList() {
+		Row first = new Row("name", "string");
+		Row second = new Row("price", "int");
+
+		CollectionDiff<Row, Row> diff = diff(List.of(), List.of(first, second));
+
+		assertThat(diff.getAdded()).isEmpty();
+		assertThat(diff.getRemoved()).containsExactly(first, second);
+	}
+
+	@Test
+	void rejectsDuplicateIncomingKeys() {
+		assertThatThrownBy(() -> diff(List.of(new Row("name", "string"), new Row("name", "int")), List.of()))
+				.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("'name'");
+	}
+
+	@Test
+	void removesPersistedRowsSharingAKey() {
+		Row first = new Row("name", "string");
+		Row duplicate = new Row("name", "string");
+
+		CollectionDiff<Row, Row> diff = diff(List.of(new Row("name", "string")), List.of(first, duplicate));
+
+		assertThat(diff.getUpdated()).isEmpty();
+		assertThat(diff.getRemoved()).hasSize(1).first().isSameAs(duplicate);
+	}
+
+	private static CollectionDiff<Row, Row> diff(List<Row> incoming, List<Row> persisted) {
+		return CollectionDiff.of(incoming, persisted, Row::name, Row::name,
+				(dto, entity) -> Objects.equals(dto.type(), entity.type()));
+	}
+
+	/**
+	 * Stands in for both the DTO and the entity.
+	 */
+	private record Row(String name, String type) {
+	}
+}
@@ -0,0 +1,265 @@
+package com.user.driven.operations.serviceimpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.user.driven.operations.config.SqlInstrumentationConfig;
+import com.user.driven.operations.dto.EntityChangeSetDto;
+import com.user.driven.operations.dto.EntityDefinitionDto;
+import com.user.driven.operations.dto.FieldDefinitionDto;
+import com.user.driven.operations.dto.OperationConfigDto;
+import com.user.driven.operations.entities.EntityDefinition;
+import com.user.driven.operations.entities.FieldDefinition;
+import com.user.driven.operations.entities.OperationConfig;
+import com.user.driven.operations.entities.ProjectDefinition;
+import com.user.driven.operations.enums.DataType;
+import com.user.driven.operations.enums.FieldType;
+import com.user.driven.operations.enums.OperationType;
+import com.user.driven.operations.mapper.DtoMapper;
+import com.user.driven.operations.utils.QueryBudget;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.LockModeType;
+
+/**
+ * Verifies that {@link EntityDefinitionServiceImpl#mergeEntity} writes only the
+ * rows that changed, reports them, and leaves the project version alone when
+ * nothing changed.
+ *
+ * @author Jatin Raheja
+ */
+@DataJpaTest(properties = { "spring.jpa.properties.hibernate.generate_statistics=true",
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect" })
+@ImportAutoConfiguration({ JacksonAutoConfiguration.class, ValidationAutoConfiguration.class })
+@Import({ EntityDefinitionServiceImpl.class, ProjectDefinitionServiceImpl.class, ProjectAggregateLoader.class,
+		ProjectAggregateCache.class, DefinitionSnapshotStore.class, DtoMapper.class, SqlInstrumentationConfig.class })
+class EntityMergeTest {
+
+	/**
+	 * Entity ID lookup, project version, and the entity with its fields and its
+	 * operations.
+	 */
+	private static final long READ_STATEMENTS = 4;
+
+	/**
+	 * The reads, the project lock, and one batch per table and kind of write.
+	 */
+	private static final long MERGE_STATEMENTS = READ_STATEMENTS + 1 + 5;
+
+	@Autowired
+	private EntityDefinitionServiceImpl entityService;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Long projectId;
+
+	private Long projectVersion;
+
+	private Long entityId;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		ProjectDefinition project = new ProjectDefinition();
+		project.setName("Inventory");
+		project.setPackageName("com.example.inventory");
+		entityManager.persist(project);
+
+		EntityDefinition entity = new EntityDefinition();
+		entity.setName("Item");
+		entity.setDescription("A stocked item");
+		entity.setProject(project);
+		entityManager.persist(entity);
+		for (String name : new String[] { "name", "price", "legacy" }) {
+			FieldDefinition field = new FieldDefinition();
+			field.setName(name);
+			field.setDataType(DataType.STRING);
+			field.setFieldType(FieldType.NORMAL_FIELD);
+			field.setEntity(entity);
+			entityManager.persist(field);
+		}
+		for (OperationType operationType : new OperationType[] { OperationType.CREATE, OperationType.READ }) {
+			OperationConfig operation = new OperationConfig();
+			operation.setOperationType(operationType);
+			operation.setEntity(entity);
+			entityManager.persist(operation);
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		projectId = project.getId();
+		projectVersion = project.getVersion();
+		entityId = entity.getId();
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void writesOnlyChangedRows() {
+		EntityDefinitionDto dto = unchangedDto();
+		dto.getFields().get(1).setDataType(DataType.DECIMAL);
+		dto.getFields().remove(2);
+		dto.getFields().add(field("stock"));
+		dto.getOperations().remove(1);
+		dto.getOperations().add(operation(OperationType.DELETE));
+
+		EntityChangeSetDto changes;
+		try (QueryBudget budget = QueryBudget.start()) {
+			changes = entityService.mergeEntity(entityId, dto, projectVersion);
+			entityManager.flush();
+			budget.assertStatementsAtMost(MERGE_STATEMENTS).assertNoRepeatedStatements(2);
+		}
+
+		assertThat(changes.getEntityId()).isEqualTo(entityId);
+		assertThat(changes.getProjectId()).isEqualTo(projectId);
+		assertThat(changes.isEntityChanged()).isFalse();
+		assertThat(changes.getAddedFields()).containsExactly("stock");
+		assertThat(changes.getUpdatedFields()).containsExactly("price");
+		assertThat(changes.getRemovedFields()).containsExactly("legacy");
+		assertThat(changes.getAddedOperations()).containsExactly(OperationType.DELETE);
+		assertThat(changes.getUpdatedOperations()).isEmpty();
+		assertThat(changes.getRemovedOperations()).containsExactly(OperationType.READ);
+
+		// Only the changed field; the entity row is untouched.
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(2);
+		assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+		assertThat(statistics.getEntityDeleteCount()).isEqualTo(2);
+		// The project version is raised when the transaction commits.
+		assertThat(lockModeOfProject()).isEqualTo(LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+
+		entityManager.clear();
+		EntityDefinition merged = entityManager.find(EntityDefinition.class, entityId);
+		assertThat(merged.getFields()).extracting(FieldDefinition::getName).containsExactly("name", "price",
+				"stock");
+		assertThat(merged.getFields().get(1).getDataType()).isEqualTo(DataType.DECIMAL);
+		assertThat(merged.getOperations()).extracting(OperationConfig::getOperationType)
+				.containsExactly(OperationType.CREATE, OperationType.DELETE);
+	}
+
+	@Test
+	void unchangedEntityWritesNothing() {
+		EntityChangeSetDto changes;
+		try (QueryBudget budget = QueryBudget.start()) {
+			changes = entityService.mergeEntity(entityId, unchangedDto(), projectVersion);
+			entityManager.flush();
+			budget.assertStatementsAtMost(READ_STATEMENTS);
+		}
+
+		assertThat(changes.hasChanges()).isFalse();
+		assertThat(statistics.getEntityInsertCount()).isZero();
+		assertThat(statistics.getEntityUpdateCount()).isZero();
+		assertThat(statistics.getEntityDeleteCount()).isZero();
+		assertThat(lockModeOfProject()).isNotEqualTo(LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+		entityManager.clear();
+		assertThat(entityManager.find(ProjectDefinition.class, projectId).getVersion()).isEqualTo(projectVersion);
+	}
+
+	@Test
+	void omittedCollectionsAreLeftAlone() {
+		EntityDefinitionDto dto = unchangedDto();
+		dto.setFields(null);
+		dto.setOperations(null);
+
+		EntityChangeSetDto changes = entityService.mergeEntity(entityId, dto, projectVersion);
+		entityManager.flush();
+
+		assertThat(changes.hasChanges()).isFalse();
+		assertThat(statistics.getEntityDeleteCount()).isZero();
+		entityManager.clear();
+		EntityDefinition merged = entityManager.find(EntityDefinition.class, entityId);
+		assertThat(merged.getFields()).hasSize(3);
+		assertThat(merged.getOperations()).hasSize(2);
+	}
+
+	@Test
+	void emptyCollectionsRemoveEveryRow() {
+		EntityDefinitionDto dto = unchangedDto();
+		dto.setFields(new ArrayList<>());
+		dto.setOperations(new ArrayList<>());
+
+		EntityChangeSetDto changes = entityService.mergeEntity(entityId, dto, projectVersion);
+		entityManager.flush();
+
+		assertThat(changes.getRemovedFields()).containsExactly("name", "price", "legacy");
+		assertThat(changes.getRemovedOperations()).containsExactly(OperationType.CREATE, OperationType.READ);
+		assertThat(statistics.getEntityDeleteCount()).isEqualTo(5);
+		entityManager.clear();
+		EntityDefinition merged = entityManager.find(EntityDefinition.class, entityId);
+		assertThat(merged.getFields()).isEmpty();
+		assertThat(merged.getOperations()).isEmpty();
+	}
+
+	@Test
+	void duplicateFieldNamesAreRejected() {
+		EntityDefinitionDto dto = unchangedDto();
+		dto.getFields().add(field("name"));
+
+		// Answered with 400 by the controller.
+		assertThatThrownBy(() -> entityService.mergeEntity(entityId, dto, projectVersion))
+				.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("'name'");
+		entityManager.flush();
+		assertThat(statistics.getEntityInsertCount()).isZero();
+		assertThat(statistics.getEntityUpdateCount()).isZero();
+	}
+
+	@Test
+	void duplicateOperationTypesAreRejected() {
+		EntityDefinitionDto dto = unchangedDto();
+		dto.getOperations().add(operation(OperationType.CREATE));
+
+		assertThatThrownBy(() -> entityService.mergeEntity(entityId, dto, projectVersion))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private LockModeType lockModeOfProject() {
+		ProjectDefinition project = entityManager.find(ProjectDefinition.class, projectId);
+		return entityManager.getEntityManager().getLockMode(project);
+	}
+
+	/**
+	 * @return a DTO holding exactly the persisted state of the entity
+	 */
+	private static EntityDefinitionDto unchangedDto() {
+		EntityDefinitionDto dto = new EntityDefinitionDto();
+		dto.setName("Item");
+		dto.setDescription("A stocked item");
+		dto.setFields(new ArrayList<>(List.of(field("name"), field("price"), field("legacy"))));
+		dto.setOperations(
+				new ArrayList<>(List.of(operation(OperationType.CREATE), operation(OperationType.READ))));
+		return dto;
+	}
+
+	private static FieldDefinitionDto field(String name) {
+		FieldDefinitionDto field = new FieldDefinitionDto();
+		field.setName(name);
+		field.setDataType(DataType.STRING);
+		field.setFieldType(FieldType.NORMAL_FIELD);
+		return field;
+	}
+
+	private static OperationConfigDto operation(OperationType operationType) {
+		OperationConfigDto operation = new OperationConfigDto();
+		operation.setOperationType(operationType);
+		return operation;
+	}
+}
@@ -0,0 +1,127 @@
+package com.user.driven.operations.serviceimpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.user.driven.operations.config.SqlInstrumentationConfig;
+import com.user.driven.operations.entities.EntityDefinition;
+import com.user.driven.operations.entities.FieldDefinition;
+import com.user.driven.operations.entities.OperationConfig;
+import com.user.driven.operations.entities.ProjectDefinition;
+import com.user.driven.operations.enums.DataType;
+import com.user.driven.operations.enums.FieldType;
+import com.user.driven.operations.enums.OperationType;
+import com.user.driven.operations.utils.QueryBudget;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifies that {@link ProjectAggregateLoader} loads aggregates in a constant
+ * number of queries, independent of the number of entities.
+ *
+ * @author Jatin Raheja
+ */
+@DataJpaTest(properties = { "spring.jpa.properties.hibernate.generate_statistics=true",
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect" })
+@Import({ ProjectAggregateLoader.class, SqlInstrumentationConfig.class })
+class ProjectAggregateLoaderTest {
+
+	private static final int ENTITY_COUNT = 5;
+
+	@Autowired
+	private ProjectAggregateLoader aggregateLoader;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Long projectId;
+
+	private Long entityId;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		ProjectDefinition project = new ProjectDefinition();
+		project.setName("Inventory");
+		project.setPackageName("com.example.inventory");
+		entityManager.persist(project);
+
+		for (int i = 0; i < ENTITY_COUNT; i++) {
+			EntityDefinition entity = new EntityDefinition();
+			entity.setName("Item" + i);
+			entity.setProject(project);
+			entityManager.persist(entity);
+
+			for (int j = 0; j < 3; j++) {
+				FieldDefinition field = new FieldDefinition();
+				field.setName("field" + j);
+				field.setDataType(DataType.STRING);
+				field.setFieldType(FieldType.NORMAL_FIELD);
+				field.setEntity(entity);
+				entityManager.persist(field);
+			}
+			for (OperationType operationType : new OperationType[] { OperationType.CREATE, OperationType.READ }) {
+				OperationConfig operation = new OperationConfig();
+				operation.setOperationType(operationType);
+				operation.setEntity(entity);
+				entityManager.persist(operation);
+			}
+			entityId = entity.getId();
+		}
+		projectId = project.getId();
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void loadProjectUsesConstantNumberOfQueries() {
+		ProjectDefinition project = aggregateLoader.loadProject(projectId).orElseThrow();
+
+		assertThat(project.getEntities()).hasSize(ENTITY_COUNT);
+		for (EntityDefinition entity : project.getEntities()) {
+			assertThat(Hibernate.isInitialized(entity.getFields())).isTrue();
+			assertThat(Hibernate.isInitialized(entity.getOperations())).isTrue();
+			assertThat(entity.getFields()).hasSize(3);
+			assertThat(entity.getOperations()).hasSize(2);
+		}
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+	}
+
+	@Test
+	void loadEntityUsesConstantNumberOfQueries() {
+		EntityDefinition entity = aggregateLoader.loadEntity(entityId).orElseThrow();
+
+		assertThat(entity.getFields()).hasSize(3);
+		assertThat(entity.getOperations()).hasSize(2);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	void loadProjectStaysWithinQueryBudget() {
+		try (QueryBudget budget = QueryBudget.start()) {
+			aggregateLoader.loadProject(projectId);
+			budget.assertStatementsAtMost(3).assertNoRepeatedStatements(2);
+		}
+	}
+
+	@Test
+	void loadProjectReturnsEmptyForUnknownId() {
+		assertThat(aggregateLoader.loadProject(-1L)).isEmpty();
+	}
+}
@@ -0,0 +1,133 @@
+package com.user.driven.operations.serviceimpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.user.driven.operations.dto.EntityDefinitionDto;
+import com.user.driven.operations.dto.FieldDefinitionDto;
+import com.user.driven.operations.dto.OperationConfigDto;
+import com.user.driven.operations.dto.ProjectDefinitionDto;
+import com.user.driven.operations.enums.DataType;
+import com.user.driven.operations.enums.FieldType;
+import com.user.driven.operations.enums.OperationType;
+import com.user.driven.operations.mapper.DtoMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Compares the JDBC round trips needed to create a nested project with and
+ * without insert batching.
+ *
+ * @author Jatin Raheja
+ */
+@DataJpaTest(properties = { "spring.jpa.properties.hibernate.generate_statistics=true",
+		"spring.jpa.properties.hibernate.jdbc.batch_size=50", "spring.jpa.properties.hibernate.order_inserts=true",
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect" })
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ ProjectDefinitionServiceImpl.class, ProjectAggregateLoader.class, ProjectAggregateCache.class,
+		DefinitionSnapshotStore.class, DtoMapper.class })
+class ProjectCreationBatchingBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger(ProjectCreationBatchingBenchmarkTest.class);
+
+	private static final int ENTITY_COUNT = 20;
+
+	private static final int FIELDS_PER_ENTITY = 10;
+
+	private static final OperationType[] OPERATIONS = { OperationType.CREATE, OperationType.READ,
+			OperationType.UPDATE, OperationType.DELETE, OperationType.SEARCH };
+
+	private static final int ROW_COUNT = 1 + ENTITY_COUNT * (1 + FIELDS_PER_ENTITY + OPERATIONS.length);
+
+	@Autowired
+	private ProjectDefinitionServiceImpl projectService;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void batchingCollapsesInsertRoundTrips() {
+		long unbatched = createProject("Unbatched", 1);
+		long batched = createProject("Batched", 50);
+
+		assertThat(unbatched).isGreaterThanOrEqualTo(ROW_COUNT);
+		assertThat(batched).isLessThan(ROW_COUNT / 5);
+	}
+
+	/**
+	 * Creates a nested project and returns the number of JDBC statements prepared
+	 * to persist it.
+	 */
+	private long createProject(String name, int batchSize) {
+		entityManager.getEntityManager().unwrap(Session.class).setJdbcBatchSize(batchSize);
+		statistics.clear();
+
+		long start = System.nanoTime();
+		projectService.createProject(projectDto(name));
+		entityManager.flush();
+		long elapsedMicros = (System.nanoTime() - start) / 1_000;
+
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(ROW_COUNT);
+		long statements = statistics.getPrepareStatementCount();
+		log.info("Batch size {}: {} rows, {} statements, {} us", batchSize, ROW_COUNT, statements, elapsedMicros);
+		entityManager.clear();
+		return statements;
+	}
+
+	private ProjectDefinitionDto projectDto(String name) {
+		List<EntityDefinitionDto> entities = new ArrayList<>();
+		for (int i = 0; i < ENTITY_COUNT; i++) {
+			List<FieldDefinitionDto> fields = new ArrayList<>();
+			for (int j = 0; j < FIELDS_PER_ENTITY; j++) {
+				FieldDefinitionDto field = new FieldDefinitionDto();
+				field.setName("field" + j);
+				field.setDataType(DataType.STRING);
+				field.setFieldType(FieldType.NORMAL_FIELD);
+				fields.add(field);
+			}
+			List<OperationConfigDto> operations = new ArrayList<>();
+			for (OperationType operationType : OPERATIONS) {
+				OperationConfigDto operation = new OperationConfigDto();
+				operation.setOperationType(operationType);
+				operations.add(operation);
+			}
+			EntityDefinitionDto entity = new EntityDefinitionDto();
+			entity.setName(name + "Entity" + i);
+			entity.setFields(fields);
+			entity.setOperations(operations);
+			entities.add(entity);
+		}
+
+		ProjectDefinitionDto project = new ProjectDefinitionDto();
+		project.setName(name);
+		project.setPackageName("com.example." + name.toLowerCase());
+		project.setEntities(entities);
+		return project;
+	}
+}
@@ -0,0 +1,95 @@
+package com.user.driven.operations.utils;
+
+import java.util.Map;
+
+/**
+ * Test utility asserting how many JDBC statements a piece of code executes. It
+ * relies on {@link InstrumentedDataSource}, so the test context must include
+ * {@code SqlInstrumentationConfig}.
+ *
+ * <pre>
+ * try (QueryBudget budget = QueryBudget.start()) {
+ * 	service.loadSomething();
+ * 	budget.assertStatementsAtMost(3).assertNoRepeatedStatements(2);
+ * }
+ * </pre>
+ *
+ * Statements issued by a later flush or commit are only counted if they run
+ * before the budget is checked.
+ *
+ * @author Jatin Raheja
+ */
+public final class QueryBudget implements AutoCloseable {
+
+	private final SqlStatistics statistics;
+
+	private QueryBudget(SqlStatistics statistics) {
+		this.statistics = statistics;
+	}
+
+	/**
+	 * Starts counting the statements executed by the current thread.
+	 *
+	 * @return the budget, to be closed by the caller
+	 */
+	public static QueryBudget start() {
+		return new QueryBudget(SqlStatistics.open("test"));
+	}
+
+	/**
+	 * Runs the given code and asserts that it executes at most the given number
+	 * of statements.
+	 *
+	 * @param maxStatements the statement budget
+	 * @param work          the code under test
+	 */
+	public static void assertAtMost(long maxStatements, Runnable work) {
+		try (QueryBudget budget = start()) {
+			work.run();
+			budget.assertStatementsAtMost(maxStatements);
+		}
+	}
+
+	/**
+	 * @return the number of statements executed so far
+	 */
+	public long getStatementCount() {
+		return statistics.getStatementCount();
+	}
+
+	/**
+	 * Asserts that at most the given number of statements were executed so far.
+	 *
+	 * @param maxStatements the statement budget
+	 * @return this budget, for further assertions
+	 */
+	public QueryBudget assertStatementsAtMost(long maxStatements) {
+		if (statistics.getStatementCount() > maxStatements) {
+			throw new AssertionError("Expected at most " + maxStatements + " statements but "
+					+ statistics.getStatementCount() + " were executed; statement shapes executed more than once: "
+					+ statistics.getRepeatedShapes(2));
+		}
+		return this;
+	}
+
+	/**
+	 * Asserts that no statement shape was executed the given number of times or
+	 * more, which would indicate a per-row query loop.
+	 *
+	 * @param threshold the number of executions of one shape that fails the
+	 *                  assertion
+	 * @return this budget, for further assertions
+	 */
+	public QueryBudget assertNoRepeatedStatements(long threshold) {
+		Map<String, Long> repeated = statistics.getRepeatedShapes(threshold);
+		if (!repeated.isEmpty()) {
+			throw new AssertionError("Statement shapes executed " + threshold + " or more times: " + repeated);
+		}
+		return this;
+	}
+
+	@Override
+	public void close() {
+		statistics.close();
+	}
+}
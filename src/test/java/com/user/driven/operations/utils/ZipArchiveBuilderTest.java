@@ -0,0 +1,114 @@
+package com.user.driven.operations.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import com.user.driven.operations.utils.ZipArchiveBuilder.ArchiveStream;
+
+/**
+ * Verifies that {@link ZipArchiveBuilder} produces byte-identical archives for
+ * the same entries, however their compression is scheduled.
+ *
+ * @author Jatin Raheja
+ */
+class ZipArchiveBuilderTest {
+
+	/**
+	 * More entries than the window of pending entries of a single thread.
+	 */
+	private static final int ENTRY_COUNT = 40;
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withUserConfiguration(ZipArchiveBuilder.class);
+
+	@Test
+	void sameEntriesProduceIdenticalArchives() {
+		Map<String, byte[]> entries = createEntries();
+
+		contextRunner.withPropertyValues("app.generation.zip.parallelism=4").run(context -> {
+			ZipArchiveBuilder builder = context.getBean(ZipArchiveBuilder.class);
+			byte[] first = build(builder, entries);
+			byte[] second = build(builder, entries);
+
+			assertThat(second).isEqualTo(first);
+			assertThat(read(first)).containsExactlyEntriesOf(entries);
+		});
+	}
+
+	@Test
+	void archiveDoesNotDependOnParallelism() {
+		Map<String, byte[]> entries = createEntries();
+		byte[][] archives = new byte[2][];
+
+		contextRunner.withPropertyValues("app.generation.zip.parallelism=1")
+				.run(context -> archives[0] = build(context.getBean(ZipArchiveBuilder.class), entries));
+		contextRunner.withPropertyValues("app.generation.zip.parallelism=8")
+				.run(context -> archives[1] = build(context.getBean(ZipArchiveBuilder.class), entries));
+
+		assertThat(archives[0]).isNotEmpty();
+		assertThat(archives[1]).isEqualTo(archives[0]);
+	}
+
+	private static byte[] build(ZipArchiveBuilder builder, Map<String, byte[]> entries) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ArchiveStream archive = builder.openArchive(out)) {
+			for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+				archive.add(entry.getKey(), entry.getValue());
+			}
+			archive.finish();
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * Reads an archive back, checking the fixed entry timestamp.
+	 *
+	 * @return the content of every entry keyed by name, in archive order
+	 */
+	private static Map<String, byte[]> read(byte[] archive) throws IOException {
+		Map<String, byte[]> entries = new LinkedHashMap<>();
+		try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(archive))) {
+			ZipEntry entry;
+			while ((entry = in.getNextEntry()) != null) {
+				assertThat(entry.getTime()).as(entry.getName()).isEqualTo(ZipArchiveBuilder.ENTRY_TIME);
+				entries.put(entry.getName(), in.readAllBytes());
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Creates stored and deflated entries of very different sizes, so their
+	 * compression finishes out of order.
+	 */
+	private static Map<String, byte[]> createEntries() {
+		Random random = new Random(42);
+		Map<String, byte[]> entries = new LinkedHashMap<>();
+		for (int i = 0; i < ENTRY_COUNT; i++) {
+			String name = "src/main/java/com/example/File" + i + ".java";
+			if (i % 4 == 0) {
+				entries.put(name, ("class File" + i + " {}").getBytes(StandardCharsets.UTF_8));
+			} else if (i % 4 == 1) {
+				byte[] noise = new byte[64 * 1024];
+				random.nextBytes(noise);
+				entries.put(name, noise);
+			} else {
+				entries.put(name, ("// line of File" + i + "\n").repeat(i * 200)
+						.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+		return entries;
+	}
+}